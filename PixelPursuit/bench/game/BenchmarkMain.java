@@ -0,0 +1,62 @@
+package game;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Entry point for the JMH suite under bench/:
+ *  - Accepts every regular JMH command-line option (benchmark regex, -f, -wi, -p, ...).
+ *  - Unless -rf / -rff are given, writes JSON results to
+ *    bench-results/jmh-<timestamp>.json so runs can be compared across changes.
+ *  - Defaults to 1 fork, 3 x 1 s warmup and 5 x 1 s measurement iterations.
+ *
+ * Run from PixelPursuit/ (presets and textures resolve against that directory).
+ */
+public final class BenchmarkMain {
+
+    // RESULTS_DIR - Where JSON results go by default (ignored by git)
+    public static final String RESULTS_DIR = "bench-results";
+
+    private BenchmarkMain() { }
+
+    // main - Runs the selected benchmarks
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+
+        if (cli.getIncludes().isEmpty()) {
+            options.include("game\\..*Benchmark");
+        }
+        if (!cli.getForkCount().hasValue()) {
+            options.forks(1);
+        }
+        if (!cli.getWarmupIterations().hasValue()) {
+            options.warmupIterations(3);
+        }
+        if (!cli.getWarmupTime().hasValue()) {
+            options.warmupTime(TimeValue.seconds(1));
+        }
+        if (!cli.getMeasurementIterations().hasValue()) {
+            options.measurementIterations(5);
+        }
+        if (!cli.getMeasurementTime().hasValue()) {
+            options.measurementTime(TimeValue.seconds(1));
+        }
+        if (!cli.getResultFormat().hasValue() && !cli.getResult().hasValue()) {
+            new File(RESULTS_DIR).mkdirs();
+            String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            options.resultFormat(ResultFormatType.JSON)
+                   .result(RESULTS_DIR + File.separator + "jmh-" + stamp + ".json");
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package game.account;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * accounts.txt line codec: Account.toFileLine and Account.fromFileLine on a
+ * typical account (some currency, a best time, a few unlocks).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private Account account;
+    private String line;
+
+    // setup - Builds the sample account and its serialized line
+    @Setup
+    public void setup() {
+        account = sampleAccount(12345);
+        line = account.toFileLine();
+    }
+
+    // toFileLine - Serializes one account
+    @Benchmark
+    public String toFileLine() {
+        return account.toFileLine();
+    }
+
+    // fromFileLine - Parses one account line
+    @Benchmark
+    public Account fromFileLine() {
+        return Account.fromFileLine(line);
+    }
+
+    // sampleAccount - Deterministic account number i (shared with AccountManagerBenchmark)
+    static Account sampleAccount(int i) {
+        return new Account("player" + i, "pw" + (i * 31),
+                i % 5000, i % 40, (i * 7) % 20000, i % 12,
+                (i % 3 == 0) ? 0.0 : 30.0 + (i % 900) * 0.5,
+                i % 16, i % 8, (i % 4) - 1, (long) i * 2654435761L & 0xFFFFL);
+    }
+}
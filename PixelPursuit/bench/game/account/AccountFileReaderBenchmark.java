@@ -0,0 +1,100 @@
+package game.account;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import game.settings.Difficulty;
+
+/**
+ * Parsing a 1M-line accounts file into a username -> Account map:
+ *  - splitLines: the previous path (BufferedReader, trim, Account.fromFileLine
+ *    with its split, catch-all per line).
+ *  - streamingReader: AccountFileReader over the same file.
+ *  - Works on a temp file, never on the real accounts.txt. Run with -prof gc
+ *    to compare allocation per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AccountFileReaderBenchmark {
+
+    private static final int LINES = 1_000_000;
+
+    private File file;
+
+    // setup - Writes LINES sample accounts (with per-difficulty times) to a temp file
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("pixelpursuit-accounts", ".txt").toFile();
+        try (PrintWriter writer = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < LINES; i++) {
+                Account acc = AccountBenchmark.sampleAccount(i);
+                acc.setBestTime(Difficulty.HARD, acc.getBestTime());
+                writer.println(acc.toFileLine());
+            }
+        }
+    }
+
+    // tearDown - Removes the temp file
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    // splitLines - Line Strings, trim and split per line
+    @Benchmark
+    public Map<String, Account> splitLines() throws IOException {
+        Map<String, Account> accounts = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                try {
+                    Account acc = Account.fromFileLine(line);
+                    accounts.put(acc.getUsername(), acc);
+                } catch (Exception e) {
+                    // skipped, as the old loader did
+                }
+            }
+        }
+        return accounts;
+    }
+
+    // streamingReader - Bytes from a FileChannel, fields parsed in place
+    @Benchmark
+    public Map<String, Account> streamingReader() throws IOException {
+        Map<String, Account> accounts = new HashMap<>();
+        try (AccountFileReader reader = AccountFileReader.open(file, (offset, reason, line) -> { })) {
+            Account acc;
+            while ((acc = reader.next()) != null) {
+                accounts.put(acc.getUsername(), acc);
+            }
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,118 @@
+package game.account;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * AccountManager file I/O at increasing account counts:
+ *  - load: loadAccounts() over a generated accounts file.
+ *  - update: one updateAccount(), i.e. one line queued for the group-commit writer.
+ *  - updateDurable: one updateAccount() waited on until its batch is fsynced.
+ *  - compact: folding COMPACT_AFTER_RECORDS journaled updates into the snapshot
+ *    (what the background compactor pays now and then).
+ *  - Works on temp files, never on the real accounts.txt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AccountManagerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int accounts;
+
+    private File file;
+    private AccountManager manager;
+    private Account[] all;
+    private int next = 0;
+
+    // setup - Writes accounts sample lines to a temp file and loads it once
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("pixelpursuit-accounts", ".txt").toFile();
+        try (PrintWriter writer = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < accounts; i++) {
+                writer.println(AccountBenchmark.sampleAccount(i).toFileLine());
+            }
+        }
+        manager = new AccountManager(file.getPath());
+        all = manager.getAllAccounts().toArray(new Account[0]);
+    }
+
+    // tearDown - Removes the temp files
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        new File(file.getPath() + ".journal").delete();
+        new File(file.getPath() + ".journal.old").delete();
+    }
+
+
+    // load - Reads every account from disk
+    @Benchmark
+    public int load() {
+        manager.loadAccounts();
+        return manager.getAllAccounts().size();
+    }
+
+    // update - Changes one account and journals it
+    @Benchmark
+    public Account update() {
+        Account acc = all[next];
+        next = (next + 1) % all.length;
+        acc.setFreeGold(acc.getFreeGold() + 1);
+        manager.updateAccount(acc);
+        return acc;
+    }
+
+    // updateDurable - Changes one account and waits until it is on disk
+    @Benchmark
+    public Account updateDurable() {
+        Account acc = update();
+        manager.flush().join();
+        return acc;
+    }
+
+    // compact - Rewrites the snapshot with the journaled updates
+    @Benchmark
+    public long compact(Journaled journaled) {
+        manager.compactAccounts();
+        return file.length();
+    }
+
+    /**
+     * Before each compact(): journals just under a compaction's worth of updates,
+     * so the background compactor does not get to them first.
+     */
+    @State(Scope.Thread)
+    public static class Journaled {
+
+        // journalUpdates - Appends the updates compact() will fold in
+        @Setup(Level.Invocation)
+        public void journalUpdates(AccountManagerBenchmark bench) {
+            for (int i = 0; i < AccountManager.COMPACT_AFTER_RECORDS - 1; i++) {
+                bench.update();
+            }
+            bench.manager.flush().join();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package game.account;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Every AccountStore backend through the same interface, at increasing account counts:
+ *  - load: opening the persisted store and loading it (ms; "memory" has nothing to load).
+ *  - get: one username lookup plus a field read (ops/s).
+ *  - put: one field change stored with put() (ops/s; for "text" this is the
+ *    serialization and the hand-off to the group-commit writer).
+ *  - Works in a temp folder, never on the real accounts files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AccountStoreBenchmark {
+
+    @Param({"text", "memory", "binary"})
+    public String backend;
+
+    @Param({"1000", "100000", "1000000"})
+    public int accounts;
+
+    private File dir;
+    private AccountStore store;
+    private String[] names;
+    private int next = 0;
+
+    // setup - Fills a fresh store with accounts sample accounts and persists it
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("pixelpursuit-store").toFile();
+        store = open();
+        store.load();
+        names = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            Account acc = AccountBenchmark.sampleAccount(i);
+            store.put(acc);
+            names[i] = acc.getUsername();
+        }
+        store.flush().join();
+        store.compact();
+    }
+
+    // tearDown - Closes the store and removes its files
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    // open - A new store of this backend over the temp folder
+    private AccountStore open() throws IOException {
+        switch (backend) {
+            case "text":
+                return new TextAccountStore(new File(dir, "accounts.txt").getPath(),
+                        TextAccountStore.DEFAULT_COMMIT_WINDOW_MS);
+            case "memory":
+                return new MemoryAccountStore();
+            case "binary":
+                return MappedAccountStore.open(new File(dir, "accounts.bin").getPath());
+            default:
+                throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+    }
+
+    // load - Opens and loads the whole store
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int load() throws IOException {
+        try (AccountStore opened = open()) {
+            opened.load();
+            return opened.size();
+        }
+    }
+
+    // get - Looks one account up and reads its gold
+    @Benchmark
+    public int get() {
+        String name = names[next];
+        next = (next + 1) % names.length;
+        return store.get(name).getFreeGold();
+    }
+
+    // put - Changes one account and stores it
+    @Benchmark
+    public Account put() {
+        Account acc = store.get(names[next]);
+        next = (next + 1) % names.length;
+        acc.setVaultGold(acc.getVaultGold() + 1);
+        return store.put(acc);
+    }
+}
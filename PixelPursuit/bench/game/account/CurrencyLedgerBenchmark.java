@@ -0,0 +1,82 @@
+package game.account;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * CurrencyLedger transactions per second over the game's text store:
+ *  - transaction: one payout or purchase (applied, account saved, log line queued).
+ *  - transactionConcurrent: the same from 8 threads over PLAYERS accounts,
+ *    i.e. several sessions sharing one manager.
+ *  - Works in a temp folder, never on the real accounts or ledger files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class CurrencyLedgerBenchmark {
+
+    private static final int PLAYERS = 1000;
+
+    private File dir;
+    private AccountManager manager;
+    private CurrencyLedger ledger;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // setup - Creates PLAYERS accounts and a ledger in a temp folder
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("pixelpursuit-ledger").toFile();
+        manager = new AccountManager(new File(dir, "accounts.txt").getPath());
+        for (int i = 0; i < PLAYERS; i++) {
+            manager.createAccount("player" + i, "pw");
+        }
+        ledger = new CurrencyLedger(manager, new File(dir, "transactions.log").getPath(),
+                AccountManager.DEFAULT_COMMIT_WINDOW_MS);
+    }
+
+    // tearDown - Writes everything out and removes the temp folder
+    @TearDown
+    public void tearDown() throws IOException {
+        ledger.close();
+        manager.close();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    // transaction - Two payouts for every purchase, round-robin over the players
+    @Benchmark
+    public Transaction transaction() {
+        int i = next.getAndIncrement();
+        String name = "player" + (i % PLAYERS);
+        return (i % 3 == 2)
+                ? ledger.purchase(name, 3, 0, -1, "boost").getTransaction()
+                : ledger.payout(name, 2, 1, "run");
+    }
+
+    // transactionConcurrent - The same from 8 sessions at once
+    @Benchmark
+    @Threads(8)
+    public Transaction transactionConcurrent() {
+        return transaction();
+    }
+}
@@ -0,0 +1,65 @@
+package game.gameplay;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.settings.GameConfig;
+import game.world.GameRandom;
+import game.world.Maze;
+
+/**
+ * Full Session.update tick (timers, chaser AI, loot, pickups, collisions):
+ *  - A run ends on capture, so each invocation replays TICKS ticks of the same
+ *    seeded run from its start; setup is not timed.
+ *  - TICKS stays below the earliest capture for these seeds (checked every batch).
+ *  - Uses GamePanel's tick length so timer firings match the real game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionTickBenchmark {
+
+    // TICKS - Updates per invocation
+    private static final int TICKS = 64;
+
+    private static final double DT = GameConfig.RUNNER_MOVE_INTERVAL_MS / 1000.0;
+
+    @Param({"1", "2", "100"})
+    public int chasers;
+
+    private Session session;
+
+    // setup - Builds the seeded run before every batch (not timed)
+    @Setup(Level.Invocation)
+    public void setup() {
+        Maze maze = new Maze(GameConfig.MAZE_WIDTH, GameConfig.MAZE_HEIGHT, new GameRandom(5L));
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        session = new Session(maze, runner, 2.0, 0.3, new GameRandom(14L));
+
+        GameRandom aiSeeds = new GameRandom(35L);
+        session.spawnChasers(chasers, () -> new SimpleChaserAI(6, new GameRandom(aiSeeds.nextLong())));
+    }
+
+    // tick - One batch of Session.update calls
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public int tick() {
+        for (int i = 0; i < TICKS; i++) {
+            session.update(DT);
+        }
+        if (!session.isRunning()) {
+            throw new IllegalStateException("Run ended inside the measured batch; lower TICKS");
+        }
+        return session.getRunGold();
+    }
+}
@@ -0,0 +1,64 @@
+package game.gameplay;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.settings.GameConfig;
+import game.world.GameRandom;
+import game.world.Maze;
+
+/**
+ * SimpleChaserAI.update cost per decision:
+ *  - chase: the detection radius covers the whole board, so every call runs the BFS
+ *    toward the runner.
+ *  - roam: the radius is negative, so every call follows (or re-picks) a roam target.
+ *  - Each invocation replays MOVES decisions on a freshly seeded board; the chaser
+ *    starts near the exit and the runner stands on the entrance, so the chase
+ *    never reaches the runner inside the batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SimpleChaserAIBenchmark {
+
+    // MOVES - Decisions per invocation (shorter than any entrance-to-exit path)
+    private static final int MOVES = 16;
+
+    @Param({"chase", "roam"})
+    public String mode;
+
+    private Session session;
+    private Chaser chaser;
+
+    // setup - Builds the same seeded board before every batch (not timed)
+    @Setup(Level.Invocation)
+    public void setup() {
+        Maze maze = new Maze(GameConfig.MAZE_WIDTH, GameConfig.MAZE_HEIGHT, new GameRandom(7L));
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        session = new Session(maze, runner, 2.0, 0.3, new GameRandom(8L));
+
+        int radius = "chase".equals(mode) ? Integer.MAX_VALUE / 2 : -1;
+        session.spawnChasers(1, () -> new SimpleChaserAI(radius, new GameRandom(9L)));
+        chaser = session.getChasers().get(0);
+    }
+
+    // update - One batch of AI decisions
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int update() {
+        for (int i = 0; i < MOVES; i++) {
+            chaser.update(session);
+        }
+        return chaser.getX() + chaser.getY();
+    }
+}
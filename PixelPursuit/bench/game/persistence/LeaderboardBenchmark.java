@@ -0,0 +1,73 @@
+package game.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.account.Account;
+import game.world.GameRandom;
+
+/**
+ * The top-10 board LeaderboardWindow shows, over account sets where roughly a
+ * third have never finished a run:
+ *  - top10: Leaderboard.buildFromAccounts (scan + sort of every account).
+ *  - indexTop10: the same board read from a LeaderboardIndex.
+ *  - indexUpdate: one account's new best time moved within the index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaderboardBenchmark {
+
+    @Param({"1000", "100000"})
+    public int accounts;
+
+    private final Leaderboard leaderboard = new Leaderboard();
+    private List<Account> all;
+    private LeaderboardIndex index;
+    private GameRandom rng;
+    private int next = 0;
+
+    // setup - Builds accounts with seeded best times
+    @Setup
+    public void setup() {
+        rng = new GameRandom(3L);
+        all = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            Account acc = new Account("player" + i, "pw");
+            acc.setBestTime(rng.nextInt(3) == 0 ? 0.0 : 10.0 + rng.nextDouble() * 600.0);
+            all.add(acc);
+        }
+        index = LeaderboardIndex.fromAccounts(all);
+    }
+
+    // top10 - Builds the board from every account
+    @Benchmark
+    public List<LeaderboardEntry> top10() {
+        return leaderboard.buildFromAccounts(all, 10);
+    }
+
+    // indexTop10 - Reads the board from the live index
+    @Benchmark
+    public List<LeaderboardEntry> indexTop10() {
+        return index.top(10);
+    }
+
+    // indexUpdate - Records a new best time for the next account
+    @Benchmark
+    public LeaderboardIndex indexUpdate() {
+        Account acc = all.get(next);
+        next = (next + 1) % all.size();
+        index.update(acc.getUsername(), 10.0 + rng.nextDouble() * 600.0);
+        return index;
+    }
+}
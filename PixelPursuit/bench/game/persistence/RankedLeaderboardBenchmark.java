@@ -0,0 +1,82 @@
+package game.persistence;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.world.GameRandom;
+
+/**
+ * RankedLeaderboard queries at increasing board sizes (all O(log n)):
+ *  - update: one account's new best time.
+ *  - rankOf: one player's rank.
+ *  - around: the 5 players on each side of one player.
+ *  - percentileOf: the share of runs shorter than a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RankedLeaderboardBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int accounts;
+
+    private RankedLeaderboard board;
+    private String[] names;
+    private GameRandom rng;
+    private int next = 0;
+
+    // setup - Fills a board with seeded best times
+    @Setup
+    public void setup() {
+        rng = new GameRandom(9L);
+        board = new RankedLeaderboard();
+        names = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            names[i] = "player" + i;
+            board.update(names[i], 10.0 + rng.nextDouble() * 600.0);
+        }
+    }
+
+    // nextName - Round-robin over the players
+    private String nextName() {
+        String name = names[next];
+        next = (next + 1) % names.length;
+        return name;
+    }
+
+    // update - Records a new best time
+    @Benchmark
+    public RankedLeaderboard update() {
+        board.update(nextName(), 10.0 + rng.nextDouble() * 600.0);
+        return board;
+    }
+
+    // rankOf - Looks up one rank
+    @Benchmark
+    public int rankOf() {
+        return board.rankOf(nextName());
+    }
+
+    // around - Lists one player's neighbourhood
+    @Benchmark
+    public List<RankedEntry> around() {
+        return board.around(nextName(), 5);
+    }
+
+    // percentileOf - Places one time on the board
+    @Benchmark
+    public double percentileOf() {
+        return board.percentileOf(10.0 + rng.nextDouble() * 600.0);
+    }
+}
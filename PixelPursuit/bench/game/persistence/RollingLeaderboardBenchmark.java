@@ -0,0 +1,106 @@
+package game.persistence;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.world.GameRandom;
+
+/**
+ * RollingLeaderboards over a synthetic history of runs by PLAYERS players,
+ * spread evenly over the HISTORY_DAYS before the benchmark's clock:
+ *  - ingestHistory: replays the whole history into fresh boards (one shot).
+ *  - record: one more run, the clock moving at the history's rate, so buckets
+ *    keep expiring.
+ *  - dailyTop10 / weeklyTop10 / weeklyRankOf: queries on the maintained boards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RollingLeaderboardBenchmark {
+
+    private static final int PLAYERS = 100_000;
+    private static final long HISTORY_DAYS = 28;
+
+    @Param({"1000000", "20000000"})
+    public int runs;
+
+    private String[] names;
+    private long stepMillis;
+    private long now;
+    private RollingLeaderboards boards;
+    private GameRandom rng;
+    private int next = 0;
+
+    // setup - Builds the boards from the full history
+    @Setup
+    public void setup() {
+        names = new String[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            names[i] = "player" + i;
+        }
+        stepMillis = Math.max(1, TimeUnit.DAYS.toMillis(HISTORY_DAYS) / runs);
+        boards = ingest();
+        rng = new GameRandom(17L);
+    }
+
+    // ingest - Replays the seeded history into new boards; leaves now at its end
+    private RollingLeaderboards ingest() {
+        long[] clock = { 0 };
+        RollingLeaderboards fresh = new RollingLeaderboards(() -> clock[0]);
+        GameRandom history = new GameRandom(5L);
+        long at = 0;
+        for (int i = 0; i < runs; i++) {
+            at += stepMillis;
+            fresh.record(names[history.nextInt(PLAYERS)], 10.0 + history.nextDouble() * 600.0, at);
+        }
+        now = at;
+        return fresh;
+    }
+
+    // ingestHistory - Time to replay every run of the history
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RollingLeaderboards ingestHistory() {
+        return ingest();
+    }
+
+    // record - Adds one run as the clock moves on
+    @Benchmark
+    public RollingLeaderboards record() {
+        now += stepMillis;
+        boards.record(names[rng.nextInt(PLAYERS)], 10.0 + rng.nextDouble() * 600.0, now);
+        return boards;
+    }
+
+    // dailyTop10 - Reads the daily board
+    @Benchmark
+    public List<RankedEntry> dailyTop10() {
+        return boards.get(RollingLeaderboards.Period.DAILY).top(10);
+    }
+
+    // weeklyTop10 - Reads the weekly board
+    @Benchmark
+    public List<RankedEntry> weeklyTop10() {
+        return boards.get(RollingLeaderboards.Period.WEEKLY).top(10);
+    }
+
+    // weeklyRankOf - Looks up one player's weekly rank
+    @Benchmark
+    public int weeklyRankOf() {
+        String name = names[next];
+        next = (next + 1) % PLAYERS;
+        return boards.get(RollingLeaderboards.Period.WEEKLY).rankOf(name);
+    }
+}
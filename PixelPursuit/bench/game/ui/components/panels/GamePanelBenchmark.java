@@ -0,0 +1,74 @@
+package game.ui.components.panels;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.gameplay.Runner;
+import game.gameplay.Session;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.world.GameRandom;
+import game.world.Maze;
+
+/**
+ * One full GamePanel frame rendered into an offscreen BufferedImage:
+ *  - No window: the panel is sized by hand, its movement timer is stopped and
+ *    the fork runs headless.
+ *  - The session is advanced a few seconds first so loot and chasers are on screen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GamePanelBenchmark {
+
+    @Param({"1280x720", "1920x1080"})
+    public String resolution;
+
+    private GamePanel panel;
+    private BufferedImage frame;
+
+    // setup - Builds a seeded session with some live loot and an offscreen panel
+    @Setup
+    public void setup() {
+        Maze maze = new Maze(GameConfig.MAZE_WIDTH, GameConfig.MAZE_HEIGHT, new GameRandom(5L));
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        Session session = new Session(maze, runner, 2.0, 0.3, new GameRandom(14L));
+        session.spawnChasers(2, () -> new SimpleChaserAI(6, new GameRandom(35L)));
+        for (int i = 0; i < 30; i++) {
+            session.update(GameConfig.RUNNER_MOVE_INTERVAL_MS / 1000.0);
+        }
+
+        panel = new GamePanel(session, null);
+        panel.stopMovement();
+
+        String[] parts = resolution.split("x");
+        int w = Integer.parseInt(parts[0]);
+        int h = Integer.parseInt(parts[1]);
+        panel.setSize(w, h);
+        frame = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    // paint - Renders one frame
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D g = frame.createGraphics();
+        try {
+            panel.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return frame;
+    }
+}
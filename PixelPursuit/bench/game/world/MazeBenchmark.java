@@ -0,0 +1,52 @@
+package game.world;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maze construction cost:
+ *  - preset: the game's own path (reads mazes.txt, then applies or generates a layout).
+ *  - generated: generateRandomLayout from a seeded RNG, no file access.
+ *  - Sizes cover the shipped 36x18 board plus smaller and much larger grids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeBenchmark {
+
+    @Param({"18x9", "36x18", "72x36", "144x72"})
+    public String size;
+
+    private int width;
+    private int height;
+    private GameRandom rng;
+
+    // setup - Parses the size parameter and seeds the generator
+    @Setup
+    public void setup() {
+        String[] parts = size.split("x");
+        width = Integer.parseInt(parts[0]);
+        height = Integer.parseInt(parts[1]);
+        rng = new GameRandom(42L);
+    }
+
+    // preset - Builds a maze the way GameWindow does (working dir must be PixelPursuit/)
+    @Benchmark
+    public Maze preset() {
+        return new Maze(width, height);
+    }
+
+    // generated - Builds a procedurally generated maze only
+    @Benchmark
+    public Maze generated() {
+        return new Maze(width, height, rng);
+    }
+}
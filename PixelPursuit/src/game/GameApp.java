@@ -1,12 +1,16 @@
 package game;
 
 import javax.swing.SwingUtilities;
+import game.simulation.JitWarmup;
 import game.ui.WindowManager;
 
 public class GameApp {
     
     // Game Launch - Run file to launch PixelPursuit
     public static void main(String[] args) {
+        // Optional: compile the hot game paths while the player logs in (-Dpixelpursuit.warmup=true)
+        JitWarmup.startIfRequested();
+
         SwingUtilities.invokeLater(() -> {
             WindowManager windowManager = new WindowManager();
             windowManager.showLoginWindow();
@@ -1,9 +1,12 @@
 package game.account;
 
+import game.settings.Difficulty;
+
 /**
  * Player account data:
  *  - Stores login credentials, currencies, and cosmetic selections.
- *  - Tracks best run time and a bitmask of unlocks for colors/cosmetics/multipliers.
+ *  - Tracks best run time (overall and per Difficulty) and a bitmask of unlocks
+ *    for colors/cosmetics/multipliers.
  *  - Can be serialized to and from a single line in accounts.txt.
  */
 public class Account {
@@ -22,6 +25,9 @@ public class Account {
     private int multiplier;  // equipped multiplier (27-31)
     private long unlocks;    // unlocks mask
 
+    // Best run time per Difficulty (indexed by ordinal; 0 = no run yet)
+    private final double[] bestTimes = new double[Difficulty.values().length];
+
     // ---------- CONSTRUCTORS ----------
 
     // Account - Creates a new account with full currency, cosmetic, and unlock state
@@ -90,6 +96,9 @@ public class Account {
     // getBestTime - Returns this account's best run time in seconds
     public double getBestTime()   { return bestTime; }
 
+    // getBestTime - Returns this account's best run time in seconds on one difficulty (0 if none)
+    public double getBestTime(Difficulty difficulty) { return bestTimes[difficulty.ordinal()]; }
+
     // getColor - Returns the equipped color ID
     public int getColor()         { return color; }
 
@@ -119,6 +128,9 @@ public class Account {
     // setBestTime - Updates the best run time in seconds
     public void setBestTime(double bestTime)        { this.bestTime = bestTime; }
 
+    // setBestTime - Updates the best run time in seconds on one difficulty
+    public void setBestTime(Difficulty difficulty, double bestTime) { bestTimes[difficulty.ordinal()] = bestTime; }
+
     // setColor - Sets the equipped color ID
     public void setColor(int color)                 { this.color = color; }
 
@@ -131,23 +143,45 @@ public class Account {
     // setUnlocks - Updates the unlock bitmask
     public void setUnlocks(long unlocks)            { this.unlocks = unlocks; }
 
+    // copyStateFrom - Sets every mutable field from other (username and password stay)
+    public void copyStateFrom(Account other) {
+        // Through the setters, so store-backed subclasses write their own state
+        setFreeGold(other.getFreeGold());
+        setFreeDiamonds(other.getFreeDiamonds());
+        setVaultGold(other.getVaultGold());
+        setVaultDiamonds(other.getVaultDiamonds());
+        setBestTime(other.getBestTime());
+        setColor(other.getColor());
+        setCosmetic(other.getCosmetic());
+        setMultiplier(other.getMultiplier());
+        setUnlocks(other.getUnlocks());
+        for (Difficulty d : Difficulty.values()) {
+            setBestTime(d, other.getBestTime(d));
+        }
+    }
+
     // ---------- PERSISTENCE ----------
 
     // toFileLine - Serializes this account as a single ';'-separated line for accounts.txt
     public String toFileLine() {
-        return String.join(";",
-                username,
-                password,
-                String.valueOf(freeGold),
-                String.valueOf(freeDiamonds),
-                String.valueOf(vaultGold),
-                String.valueOf(vaultDiamonds),
-                String.valueOf(bestTime),
-                String.valueOf(color),
-                String.valueOf(cosmetic),
-                String.valueOf(multiplier),
-                String.valueOf(unlocks)
-        );
+        // Through the getters, so store-backed subclasses serialize their own state
+        StringBuilder line = new StringBuilder(String.join(";",
+                getUsername(),
+                getPassword(),
+                String.valueOf(getFreeGold()),
+                String.valueOf(getFreeDiamonds()),
+                String.valueOf(getVaultGold()),
+                String.valueOf(getVaultDiamonds()),
+                String.valueOf(getBestTime()),
+                String.valueOf(getColor()),
+                String.valueOf(getCosmetic()),
+                String.valueOf(getMultiplier()),
+                String.valueOf(getUnlocks())
+        ));
+        for (Difficulty d : Difficulty.values()) {
+            line.append(';').append(getBestTime(d));
+        }
+        return line.toString();
     }
 
     // fromFileLine - Parses an Account from a single line in accounts.txt
@@ -161,7 +195,8 @@ public class Account {
 
         /* Format (one line per player):
          * username;password;freeGold;freeDiamonds;vaultGold;vaultDiamonds;
-         * bestTime;color;cosmetic;multiplier;unlocks
+         * bestTime;color;cosmetic;multiplier;unlocks[;bestTime per Difficulty]
+         * (lines written before per-difficulty times have only the first 11 fields)
          */
         String username    = parts[0];
         String password    = parts[1];
@@ -175,9 +210,15 @@ public class Account {
         int multiplier     = Integer.parseInt(parts[9]);
         long unlocks       = Long.parseLong(parts[10]);
 
-        return new Account(username, password,
+        Account acc = new Account(username, password,
                 freeGold, freeDiamonds,
                 vaultGold, vaultDiamonds,
                 bestTime, color, cosmetic, multiplier, unlocks);
+
+        Difficulty[] difficulties = Difficulty.values();
+        for (int i = 0; i < difficulties.length && 11 + i < parts.length; i++) {
+            acc.setBestTime(difficulties[i], Double.parseDouble(parts[11 + i]));
+        }
+        return acc;
     }
 }
@@ -0,0 +1,338 @@
+package game.account;
+
+import game.settings.Difficulty;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streaming accounts.txt parser that works on the file's bytes:
+ *  - Reads through a FileChannel into one reusable buffer and finds line ends
+ *    by scanning bytes; no line String, split array or per-field substring.
+ *  - Numbers are parsed in place. Doubles take an exact fast path for plain
+ *    decimals (what toFileLine writes) and fall back to Double.parseDouble
+ *    only for anything else (exponents, very long fractions).
+ *  - Only username and password become Strings, since the Account keeps them.
+ *  - Accepts what Account.fromFileLine accepts: 11 fields, optionally followed
+ *    by one best time per Difficulty. Surrounding whitespace (including a
+ *    '\r' before the '\n') and blank lines are skipped.
+ *  - A malformed line is skipped and reported with its byte offset in the file.
+ *  - Not thread-safe.
+ */
+public class AccountFileReader implements Closeable {
+
+    // MalformedLineHandler - Told about each skipped line: where it starts, why, and its text
+    public interface MalformedLineHandler {
+        void malformed(long offset, String reason, String line);
+    }
+
+    // ---------- CONSTANTS ----------
+
+    // DEFAULT_BUFFER_BYTES - Read size; the buffer grows if one line does not fit
+    static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+    // Fields every line has, and the most a line can use (plus one time per difficulty)
+    private static final int BASE_FIELDS = 11;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final int MAX_FIELDS = BASE_FIELDS + DIFFICULTIES.length;
+
+    private static final String[] FIELD_NAMES = {
+            "username", "password", "freeGold", "freeDiamonds", "vaultGold", "vaultDiamonds",
+            "bestTime", "color", "cosmetic", "multiplier", "unlocks"
+    };
+
+    // Mantissas below 10^15 and powers of ten up to 10^22 are exact doubles, so
+    // mantissa / 10^k is then correctly rounded, i.e. equal to Double.parseDouble
+    private static final long MAX_FAST_MANTISSA = 1_000_000_000_000_000L;
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    // ---------- FIELDS ----------
+
+    private final FileChannel channel;
+    private final MalformedLineHandler onMalformed;
+
+    private ByteBuffer buffer;
+    private byte[] bytes;
+    private int pos = 0;            // start of the next line in bytes
+    private int limit = 0;          // end of the bytes read so far
+    private long bufferOffset = 0;  // file offset of bytes[0]
+    private boolean eof = false;
+
+    // Field bounds of the line being parsed
+    private final int[] starts = new int[MAX_FIELDS];
+    private final int[] ends = new int[MAX_FIELDS];
+
+    // Why the number being parsed was rejected (null while it is fine)
+    private String error;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // AccountFileReader - Parses accounts from channel's current position on
+    public AccountFileReader(FileChannel channel, MalformedLineHandler onMalformed) {
+        this(channel, onMalformed, DEFAULT_BUFFER_BYTES);
+    }
+
+    // AccountFileReader - Same, starting with a buffer of bufferBytes
+    AccountFileReader(FileChannel channel, MalformedLineHandler onMalformed, int bufferBytes) {
+        if (channel == null || onMalformed == null) {
+            throw new IllegalArgumentException("channel and onMalformed cannot be null");
+        }
+        if (bufferBytes <= 0) {
+            throw new IllegalArgumentException("bufferBytes must be positive");
+        }
+        this.channel = channel;
+        this.onMalformed = onMalformed;
+        this.buffer = ByteBuffer.allocate(bufferBytes);
+        this.bytes = buffer.array();
+    }
+
+    // open - Opens file for reading; close() closes it again
+    public static AccountFileReader open(File file, MalformedLineHandler onMalformed) throws IOException {
+        return new AccountFileReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), onMalformed);
+    }
+
+    // ---------- READING ----------
+
+    // next - Returns the next well-formed account, or null at the end of the file
+    public Account next() throws IOException {
+        while (true) {
+            int end = nextLineEnd();
+            if (end < 0) {
+                return null;
+            }
+            int start = pos;
+            pos = (end < limit) ? end + 1 : end; // step over the '\n'
+
+            // Trim like String.trim(): any byte <= ' ' at either end
+            int s = start;
+            int e = end;
+            while (s < e && (bytes[s] & 0xFF) <= ' ') s++;
+            while (e > s && (bytes[e - 1] & 0xFF) <= ' ') e--;
+            if (s == e) {
+                continue;
+            }
+
+            Account acc = parse(s, e);
+            if (acc != null) {
+                return acc;
+            }
+        }
+    }
+
+    // close - Closes the channel
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // nextLineEnd - Index of the '\n' ending the line at pos (or of the end of a last
+    //               line without one); refills and grows the buffer as needed; -1 at the end
+    private int nextLineEnd() throws IOException {
+        int scanFrom = pos;
+        while (true) {
+            for (int i = scanFrom; i < limit; i++) {
+                if (bytes[i] == '\n') {
+                    return i;
+                }
+            }
+            if (eof) {
+                return (pos < limit) ? limit : -1;
+            }
+            scanFrom = limit - pos;
+            fill();
+        }
+    }
+
+    // fill - Moves the unread tail to the front (growing the buffer if it is all one line), then reads
+    private void fill() throws IOException {
+        int tail = limit - pos;
+        if (pos == 0 && limit == bytes.length) {
+            ByteBuffer bigger = ByteBuffer.allocate(bytes.length * 2);
+            bigger.put(bytes, 0, limit);
+            buffer = bigger;
+            bytes = bigger.array();
+        } else {
+            System.arraycopy(bytes, pos, bytes, 0, tail);
+            bufferOffset += pos;
+            buffer.clear().position(tail);
+        }
+        pos = 0;
+        limit = tail;
+
+        int read = channel.read(buffer);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    // ---------- PARSING ----------
+
+    // parse - Builds the account of bytes[s, e), or reports the line and returns null
+    private Account parse(int s, int e) {
+        // Split on ';' keeping only bounds; like String.split, trailing empty fields do not count
+        int fields = 0;
+        int count = 0;
+        int fieldStart = s;
+        for (int i = s; i <= e; i++) {
+            if (i == e || bytes[i] == ';') {
+                if (fields < MAX_FIELDS) {
+                    starts[fields] = fieldStart;
+                    ends[fields] = i;
+                }
+                fields++;
+                if (i > fieldStart) {
+                    count = fields;
+                }
+                fieldStart = i + 1;
+            }
+        }
+        if (count < BASE_FIELDS) {
+            return reject(s, e, "expected at least " + BASE_FIELDS + " fields, found " + count);
+        }
+
+        String username = new String(bytes, starts[0], ends[0] - starts[0], StandardCharsets.UTF_8);
+        String password = new String(bytes, starts[1], ends[1] - starts[1], StandardCharsets.UTF_8);
+
+        error = null;
+        int freeGold      = parseInt(2);
+        int freeDiamonds  = parseInt(3);
+        int vaultGold     = parseInt(4);
+        int vaultDiamonds = parseInt(5);
+        double bestTime   = parseDouble(6);
+        int color         = parseInt(7);
+        int cosmetic      = parseInt(8);
+        int multiplier    = parseInt(9);
+        long unlocks      = parseLong(10);
+        if (error != null) {
+            return reject(s, e, error);
+        }
+
+        Account acc = new Account(username, password,
+                freeGold, freeDiamonds,
+                vaultGold, vaultDiamonds,
+                bestTime, color, cosmetic, multiplier, unlocks);
+
+        for (int i = 0; i < DIFFICULTIES.length && BASE_FIELDS + i < count; i++) {
+            double time = parseDouble(BASE_FIELDS + i);
+            if (error != null) {
+                return reject(s, e, error);
+            }
+            acc.setBestTime(DIFFICULTIES[i], time);
+        }
+        return acc;
+    }
+
+    // reject - Reports bytes[s, e) as malformed; returns null
+    private Account reject(int s, int e, String reason) {
+        onMalformed.malformed(bufferOffset + s, reason,
+                new String(bytes, s, e - s, StandardCharsets.UTF_8));
+        return null;
+    }
+
+    // parseInt - Parses field as an int (sets error and returns 0 if it is not one)
+    private int parseInt(int field) {
+        long value = parseLong(field);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            fail(field);
+            return 0;
+        }
+        return (int) value;
+    }
+
+    // parseLong - Parses field as a long, with Long.parseLong's rules (sets error on failure)
+    private long parseLong(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            fail(field);
+            return 0;
+        }
+        // Accumulate negatively, so Long.MIN_VALUE fits
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                fail(field);
+                return 0;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                fail(field);
+                return 0;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    // parseDouble - Parses field as a double: exact fast path for plain decimals, else the JDK
+    private double parseDouble(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1; // -1 until the '.'
+        boolean plain = i < end;
+        for (; i < end && plain; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) fractionDigits++;
+                plain = mantissa < MAX_FAST_MANTISSA;
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                plain = false;
+            }
+        }
+        if (plain && digits > 0 && fractionDigits < POWERS_OF_TEN.length) {
+            double value = (fractionDigits > 0) ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+            return negative ? -value : value;
+        }
+
+        // Exponents, NaN, long fractions...: rare, so a String is fine here
+        try {
+            return Double.parseDouble(new String(bytes, starts[field], ends[field] - starts[field],
+                    StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            fail(field);
+            return 0.0;
+        }
+    }
+
+    // fail - Records the first bad field of the line
+    private void fail(int field) {
+        if (error == null) {
+            String name = (field < BASE_FIELDS) ? FIELD_NAMES[field]
+                    : "bestTime " + DIFFICULTIES[field - BASE_FIELDS].getDisplayName();
+            error = "bad " + name + " (field " + (field + 1) + ")";
+        }
+    }
+}
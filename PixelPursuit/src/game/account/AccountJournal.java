@@ -0,0 +1,317 @@
+package game.account;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk account storage as a snapshot plus an append-only journal:
+ *  - The snapshot is the accounts.txt file (one Account.toFileLine() per line),
+ *    read back with the byte-level AccountFileReader.
+ *  - Every update appends one record (the account's new line and its CRC32) to
+ *    "<snapshot>.journal", so saving costs O(changed accounts), not O(all).
+ *  - Compaction renames the journal to "<snapshot>.journal.old", then merges that
+ *    file into a new snapshot. It only reads files, so it can run in the
+ *    background while new records go to a fresh journal. The new snapshot and
+ *    its rename are forced to the disk before the old journal is deleted, so
+ *    a power loss never leaves both copies of an update half-written.
+ *  - Recovery reads the snapshot, then replays the old journal (left behind if
+ *    compaction was interrupted) and the current journal. Records are full
+ *    upserts, so replaying one twice is harmless. A torn record (a crash
+ *    mid-append) fails its CRC and is skipped, and the next append starts on a
+ *    fresh line after it, so later records are never glued onto it.
+ */
+public class AccountJournal {
+
+    // ---------- CONSTANTS ----------
+
+    // Separates the account line from its checksum in a journal record
+    private static final char CRC_SEPARATOR = '\t';
+
+    // ---------- FIELDS ----------
+
+    private final File snapshot;
+    private final File journal;
+    private final File rotated;
+
+    // Held while the file set is being read or replaced (load vs. compaction)
+    private final Object filesLock = new Object();
+
+    // Held while appending to or rotating the journal
+    private final Object appendLock = new Object();
+
+    private FileOutputStream out;
+    private Writer writer;
+    private int recordsSinceCompaction = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // AccountJournal - Journals updates for the given snapshot file
+    public AccountJournal(String snapshotPath) {
+        if (snapshotPath == null) {
+            throw new IllegalArgumentException("snapshotPath cannot be null");
+        }
+        this.snapshot = new File(snapshotPath);
+        this.journal = new File(snapshotPath + ".journal");
+        this.rotated = new File(snapshotPath + ".journal.old");
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getSnapshotFile - Returns the snapshot file (accounts.txt)
+    public File getSnapshotFile() {
+        return snapshot;
+    }
+
+    // getJournalFile - Returns the journal new records are appended to
+    public File getJournalFile() {
+        return journal;
+    }
+
+    // getRecordsSinceCompaction - Returns records appended or replayed since the last compaction
+    public int getRecordsSinceCompaction() {
+        synchronized (appendLock) {
+            return recordsSinceCompaction;
+        }
+    }
+
+    // ---------- RECOVERY ----------
+
+    // load - Reads the snapshot and replays both journals into accounts;
+    //        malformed snapshot lines are passed to onMalformed and skipped
+    public void load(Map<String, Account> accounts, AccountFileReader.MalformedLineHandler onMalformed)
+            throws IOException {
+        synchronized (filesLock) {
+            if (snapshot.exists()) {
+                // The snapshot is the bulk of the data: parse it straight from its bytes
+                try (AccountFileReader reader = AccountFileReader.open(snapshot, onMalformed)) {
+                    Account acc;
+                    while ((acc = reader.next()) != null) {
+                        accounts.put(acc.getUsername(), acc);
+                    }
+                }
+            }
+
+            int replayed = replay(rotated, accounts) + replay(journal, accounts);
+            synchronized (appendLock) {
+                recordsSinceCompaction = replayed;
+            }
+        }
+    }
+
+    // replay - Applies every intact record of one journal file; returns how many
+    private static int replay(File file, Map<String, Account> accounts) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        int records = 0;
+        int skipped = 0;
+        try (BufferedReader reader = openReader(file)) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                String line = decode(record);
+                if (line == null) {
+                    // Torn by a crashed append; the records after it were appended on a fresh line
+                    skipped++;
+                    continue;
+                }
+                Account acc = Account.fromFileLine(line);
+                accounts.put(acc.getUsername(), acc);
+                records++;
+            }
+        }
+        if (skipped > 0) {
+            System.err.println("Journal " + file.getName() + ": skipped " + skipped + " torn record(s)");
+        }
+        return records;
+    }
+
+    // ---------- APPENDING ----------
+
+    // appendLines - Appends one record per account line; durable also forces them to the disk
+    public void appendLines(Collection<String> lines, boolean durable) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        synchronized (appendLock) {
+            if (writer == null) {
+                openAppender();
+            }
+            for (String line : lines) {
+                writer.write(encode(line));
+                writer.write('\n');
+            }
+            writer.flush();
+            if (durable) {
+                out.getFD().sync();
+            }
+            recordsSinceCompaction += lines.size();
+        }
+    }
+
+    // close - Closes the journal writer (reopened by the next append)
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+                out = null;
+            }
+        }
+    }
+
+    // ---------- COMPACTION ----------
+
+    // compact - Folds the journal into a new snapshot; returns false if it was empty
+    public boolean compact() throws IOException {
+        synchronized (filesLock) {
+            // Rotate: later appends start a fresh journal while this one is merged
+            synchronized (appendLock) {
+                if (!rotated.exists()) {
+                    if (writer != null) {
+                        writer.close();
+                        writer = null;
+                        out = null;
+                    }
+                    if (!journal.exists() || journal.length() == 0) {
+                        return false;
+                    }
+                    move(journal, rotated);
+                }
+                recordsSinceCompaction = 0;
+            }
+
+            // Latest line per username from the rotated journal (file order = update order)
+            Map<String, String> latest = new LinkedHashMap<>();
+            try (BufferedReader reader = openReader(rotated)) {
+                String record;
+                while ((record = reader.readLine()) != null) {
+                    String line = decode(record);
+                    if (line == null) continue; // torn, as in replay()
+                    latest.put(usernameOf(line), line);
+                }
+            }
+
+            // Stream the old snapshot, replacing updated accounts, then add new ones
+            File tmp = new File(snapshot.getPath() + ".tmp");
+            File dir = snapshot.getAbsoluteFile().getParentFile();
+            if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Could not create " + dir);
+            }
+            FileOutputStream tmpOut = new FileOutputStream(tmp);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(tmpOut, StandardCharsets.UTF_8))) {
+                if (snapshot.exists()) {
+                    try (BufferedReader reader = openReader(snapshot)) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (line.trim().isEmpty()) continue;
+                            String update = latest.remove(usernameOf(line));
+                            out.write(update != null ? update : line);
+                            out.write('\n');
+                        }
+                    }
+                }
+                for (String line : latest.values()) {
+                    out.write(line);
+                    out.write('\n');
+                }
+                // The rename must not reach the disk before the new snapshot's bytes
+                out.flush();
+                tmpOut.getFD().sync();
+            }
+
+            move(tmp, snapshot);
+            // The rotated journal is the only other copy: keep it until the rename is durable
+            syncDirectory(snapshot.getAbsoluteFile().getParentFile());
+            Files.delete(rotated.toPath());
+            return true;
+        }
+    }
+
+    // ---------- HELPERS ----------
+
+    // encode - Builds a journal record: the account line, a tab, its CRC32 in hex
+    static String encode(String line) {
+        return line + CRC_SEPARATOR + Long.toHexString(crc(line));
+    }
+
+    // decode - Returns the account line of an intact record, or null
+    static String decode(String record) {
+        int sep = record.lastIndexOf(CRC_SEPARATOR);
+        if (sep < 0) {
+            return null;
+        }
+        String line = record.substring(0, sep);
+        try {
+            return Long.parseLong(record.substring(sep + 1), 16) == crc(line) ? line : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // crc - CRC32 of the line's UTF-8 bytes
+    private static long crc(String line) {
+        CRC32 crc = new CRC32();
+        crc.update(line.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    // usernameOf - The first field of an account line
+    static String usernameOf(String line) {
+        int semi = line.indexOf(';');
+        return (semi < 0) ? line : line.substring(0, semi);
+    }
+
+    // openReader - UTF-8 line reader for file
+    private static BufferedReader openReader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+    }
+
+    // openAppender - Opens the journal for appending (creating its folder if needed)
+    private void openAppender() throws IOException {
+        File dir = journal.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        boolean tornTail = LineLog.endsMidLine(journal);
+        out = new FileOutputStream(journal, true);
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (tornTail) {
+            // A crashed append left a record without its newline: end it, so the next one stands alone
+            writer.write('\n');
+        }
+    }
+
+    // syncDirectory - Forces dir's entries (e.g. a rename) to the disk; skipped where the OS
+    //                 cannot open a directory (Windows), whose file system journals renames itself
+    private static void syncDirectory(File dir) throws IOException {
+        if (dir == null) {
+            return;
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (FileChannel c = channel) {
+            c.force(true);
+        }
+    }
+
+    // move - Renames from onto to, atomically where the file system allows it
+    private static void move(File from, File to) throws IOException {
+        try {
+            Files.move(from.toPath(), to.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package game.account;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import game.cosmetics.PlayerCosmetics;
 
 /**
  * Manager for player accounts:
- *  - Loads/saves accounts to a simple text file on disk.
- *  - Provides create, login, and update operations for Account objects.
- *  - Exposes all accounts for use in leaderboards and other systems.
+ *  - Keeps accounts in a pluggable AccountStore. The game uses TextAccountStore
+ *    (accounts.txt plus its journal) unless -Dpixelpursuit.accounts.store picks
+ *    "binary" (MappedAccountStore) or "memory" (MemoryAccountStore).
+ *  - Saves never wait on the disk on the calling thread: updateAccount returns
+ *    a future for durability, and close() flushes everything before exit.
+ *  - Provides create, login, update and modify operations for Account objects.
+ *    Currency changes go through a CurrencyLedger, which logs them.
+ *  - Thread-safe, so several sessions can share one manager: every operation
+ *    on an account holds that account's lock (one of LOCK_STRIPES, picked by
+ *    username hash), so operations on one account are linearizable and
+ *    operations on different accounts mostly run in parallel. Stores that are
+ *    not thread-safe themselves are wrapped in a SynchronizedAccountStore.
+ *  - Exposes all accounts for use in leaderboards and other systems, and tells
+ *    account listeners about every stored change (see addAccountListener).
  */
 public class AccountManager {
 
@@ -19,80 +33,136 @@ public class AccountManager {
     // Path to accounts.txt: PixelPursuit/src/game/resources/data/accounts.txt
     private static final String ACCOUNTS_PATH = "src/game/resources/data/accounts.txt";
 
-    private final Map<String, Account> accounts = new HashMap<>();
+    // Binary store used by -Dpixelpursuit.accounts.store=binary (imported from ACCOUNTS_PATH once)
+    private static final String BINARY_ACCOUNTS_PATH = "src/game/resources/data/accounts.bin";
+
+    // COMPACT_AFTER_RECORDS - Journal length that triggers a background compaction
+    public static final int COMPACT_AFTER_RECORDS = TextAccountStore.COMPACT_AFTER_RECORDS;
+
+    // DEFAULT_COMMIT_WINDOW_MS - How long a save may wait for others to share its fsync
+    // (override with -Dpixelpursuit.accounts.commitWindowMs)
+    public static final long DEFAULT_COMMIT_WINDOW_MS = TextAccountStore.DEFAULT_COMMIT_WINDOW_MS;
+
+    // LOCK_STRIPES - Number of per-account locks (a power of two)
+    public static final int LOCK_STRIPES = 256;
+
+    private final AccountStore store;
+
+    // Account locks: an account's lock is stripes[hash(username) & (LOCK_STRIPES - 1)]
+    private final Object[] stripes = new Object[LOCK_STRIPES];
+
+    // Told about every account stored through this manager (see addAccountListener)
+    private final List<Consumer<Account>> listeners = new CopyOnWriteArrayList<>();
 
     // ---------- CONSTRUCTORS ----------
 
-    // AccountManager - Creates a manager and immediately loads accounts from disk
+    // AccountManager - Creates a manager over the configured store and loads it
     public AccountManager() {
-        loadAccounts();
+        this(defaultStore());
     }
 
-    // ---------- FILE I/O ----------
+    // AccountManager - Creates a manager backed by another accounts file (benchmarks, tools)
+    public AccountManager(String accountsPath) {
+        this(accountsPath, Long.getLong("pixelpursuit.accounts.commitWindowMs", DEFAULT_COMMIT_WINDOW_MS));
+    }
 
-    // loadAccounts - Loads all accounts from accounts.txt into memory
-    public void loadAccounts() {
-        accounts.clear();
+    // AccountManager - Same, with an explicit group-commit window
+    public AccountManager(String accountsPath, long commitWindowMillis) {
+        this(new TextAccountStore(accountsPath, commitWindowMillis));
+    }
 
-        File file = new File(ACCOUNTS_PATH);
-        if (!file.exists()) {
-            // No file: start empty
-            return;
+    // AccountManager - Creates a manager over any store and loads it
+    public AccountManager(AccountStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("store cannot be null");
         }
+        this.store = store.isThreadSafe() ? store : new SynchronizedAccountStore(store);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        loadAccounts();
+    }
 
-        System.out.println("Loading accounts from: " + file.getAbsolutePath());
-
-        // Open file for reading (1 line at a time)
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
+    // defaultStore - Builds the store -Dpixelpursuit.accounts.store asks for (text by default)
+    private static AccountStore defaultStore() {
+        String kind = System.getProperty("pixelpursuit.accounts.store", "text");
+        long window = Long.getLong("pixelpursuit.accounts.commitWindowMs", DEFAULT_COMMIT_WINDOW_MS);
+        switch (kind) {
+            case "text":
+                return new TextAccountStore(ACCOUNTS_PATH, window);
+            case "memory":
+                return new MemoryAccountStore();
+            case "binary":
                 try {
-                    // Line --> Account object
-                    Account acc = Account.fromFileLine(line);
-                    accounts.put(acc.getUsername(), acc);
-                } catch (Exception e) {
-                    System.err.println("Skipping malformed account line: " + line);
+                    MappedAccountStore binary = MappedAccountStore.open(BINARY_ACCOUNTS_PATH);
+                    if (binary.size() == 0 && new File(ACCOUNTS_PATH).exists()) {
+                        importInto(binary, new TextAccountStore(ACCOUNTS_PATH, window));
+                    }
+                    return binary;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
+            default:
+                throw new IllegalArgumentException("Unknown account store: " + kind);
+        }
+    }
+
+    // importInto - Copies every account of source into target, then closes source
+    private static void importInto(AccountStore target, AccountStore source) throws IOException {
+        try (source) {
+            source.load();
+            for (Account acc : source.all()) {
+                target.put(acc);
             }
+        }
+        target.flush().join();
+        System.out.println("Imported " + target.size() + " accounts into " + target.describe());
+    }
+
+    // ---------- STORAGE ----------
+
+    // loadAccounts - (Re)loads every account from the store
+    public void loadAccounts() {
+        System.out.println("Loading accounts from: " + store.describe());
+
+        try {
+            store.load();
         } catch (IOException e) {
             e.printStackTrace();
         }
 
-        // Show loaded accounts
-        System.out.println("Loaded accounts: " + accounts.keySet());
+        // Show how many were loaded (not every name: files can hold millions)
+        System.out.println("Loaded " + store.size() + " accounts");
     }
 
-    // saveAccounts - Writes all accounts back to accounts.txt
-    // *** CHANGED: private → protected (to allow test override) ***
-    protected void saveAccounts() {
-        File file = new File(ACCOUNTS_PATH);
+    // flush - Persists queued saves now; completes once they are on disk
+    public CompletableFuture<Void> flush() {
+        return store.flush();
+    }
 
-        // Ensure the folder exists
-        File parent = file.getParentFile();
-        if (parent != null && !parent.exists()) {
-            parent.mkdirs();
+    // close - Durably writes every queued save and releases the store (call before exiting)
+    public void close() {
+        try {
+            store.close();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+    }
 
-        System.out.println("Saving accounts to: " + file.getAbsolutePath());
-
-        // Open file for writing
-        try (PrintWriter writer = new PrintWriter(
-                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
-
-            // Write each Account
-            for (Account acc : accounts.values()) {
-                writer.println(acc.toFileLine());
-            }
+    // compactAccounts - Folds incremental changes into the store's compact form
+    public void compactAccounts() {
+        try {
+            store.compact();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    // getStore - Returns the backend this manager keeps accounts in
+    public AccountStore getStore() {
+        return store;
+    }
+
     // ---------- PUBLIC API ----------
 
     // createAccount - Creates a new account; returns null if username is taken
@@ -101,10 +171,6 @@ public class AccountManager {
             throw new IllegalArgumentException("Username and password cannot be null");
         }
 
-        if (accounts.containsKey(username)) {
-            throw new IllegalArgumentException("Username already exists");
-        }
-
         // New account: 0 currencies / default equips / no unlocks
         Account acc = new Account(username, password,
                 0, 0, 0, 0,
@@ -117,35 +183,104 @@ public class AccountManager {
         // Unlock default color
         PlayerCosmetics.unlockColor(acc, 14);
 
-        accounts.put(username, acc);
-        saveAccounts();
-        return acc;
+        // Check and insert under the name's lock, so two sessions cannot both create it
+        synchronized (lockFor(username)) {
+            if (store.get(username) != null) {
+                throw new IllegalArgumentException("Username already exists");
+            }
+
+            // Callers keep the stored instance (a live record for the binary store)
+            return stored(store.put(acc));
+        }
     }
 
     // login - Returns the Account or throws if username/password is invalid
     // *** CHANGED: Now throws exceptions as required by tests ***
     public Account login(String username, String password) {
-        Account acc = accounts.get(username);
-
-        if (acc == null) {
+        if (username == null) {
             throw new IllegalArgumentException("Unknown username");
         }
+        synchronized (lockFor(username)) {
+            Account acc = store.get(username);
+
+            if (acc == null) {
+                throw new IllegalArgumentException("Unknown username");
+            }
 
-        if (!acc.getPassword().equals(password)) {
-            throw new IllegalArgumentException("Incorrect password");
+            if (!acc.getPassword().equals(password)) {
+                throw new IllegalArgumentException("Incorrect password");
+            }
+
+            return acc;
         }
+    }
 
-        return acc;
+    // updateAccount - Stores this account's changes; the future completes once they are durable
+    public CompletableFuture<Void> updateAccount(Account acc) {
+        synchronized (lockFor(acc.getUsername())) {
+            stored(store.put(acc));
+        }
+        return store.whenDurable();
+    }
+
+    // modifyAccount - Applies change to the account under its lock and stores the result;
+    //                 returns what change returned (throws if the account does not exist)
+    public <T> T modifyAccount(String username, Function<Account, T> change) {
+        return modifyAccount(username, change, result -> { });
     }
 
-    // updateAccount - Writes changes for this account and saves all accounts to disk
-    public void updateAccount(Account acc) {
-        accounts.put(acc.getUsername(), acc);
-        saveAccounts();
+    // modifyAccount - Same, then passes the result to onStored once the put succeeded (lock still held);
+    //                 if change or the put throws, the account is restored and onStored is not called
+    public <T> T modifyAccount(String username, Function<Account, T> change, Consumer<T> onStored) {
+        synchronized (lockFor(username)) {
+            Account acc = store.get(username);
+            if (acc == null) {
+                throw new IllegalArgumentException("Unknown username");
+            }
+            Account before = new Account(acc.getUsername(), acc.getPassword());
+            before.copyStateFrom(acc);
+
+            T result;
+            Account saved;
+            try {
+                result = change.apply(acc);
+                saved = store.put(acc);
+            } catch (RuntimeException | Error e) {
+                // All or nothing: a change that was not stored must not linger in memory either
+                acc.copyStateFrom(before);
+                throw e;
+            }
+            onStored.accept(result);
+            stored(saved);
+            return result;
+        }
     }
 
-    // getAllAccounts - Returns a collection view of all accounts
+    // addAccountListener - Calls listener with every account stored from now on (created, updated
+    //                      or modified), on the storing thread while the account's lock is held
+    public void addAccountListener(Consumer<Account> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    // getAllAccounts - Returns a read-only view of all accounts
     public Collection<Account> getAllAccounts() {
-        return accounts.values();
+        return store.all();
+    }
+
+    // stored - Tells the listeners about a just-stored account; returns it (account lock held)
+    private Account stored(Account acc) {
+        for (Consumer<Account> listener : listeners) {
+            listener.accept(acc);
+        }
+        return acc;
+    }
+
+    // lockFor - Returns the lock guarding username's account
+    private Object lockFor(String username) {
+        int h = username.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
     }
 }
@@ -0,0 +1,59 @@
+package game.account;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage backend behind AccountManager:
+ *  - TextAccountStore: accounts.txt plus its journal (the game's default).
+ *  - MemoryAccountStore: a plain map with no persistence, for tests and simulations.
+ *  - MappedAccountStore: fixed-width binary records in a memory-mapped file.
+ *
+ * Contract (checked for every backend by AccountStoreContract):
+ *  - put() stores the account's current state and returns the stored instance;
+ *    callers keep using that instance afterwards (for MappedAccountStore it is
+ *    a view of the record, not the object passed in).
+ *  - Changes made through a stored instance are only guaranteed to persist
+ *    once it is put again.
+ *  - whenDurable() completes once everything put so far is on disk, on the
+ *    backend's own schedule; flush() asks for that to happen now.
+ *  - Not thread-safe unless isThreadSafe() says so; AccountManager wraps other
+ *    backends so only one thread calls them at a time.
+ */
+public interface AccountStore extends Closeable {
+
+    // load - (Re)reads the persisted accounts, dropping unsaved in-memory state
+    void load() throws IOException;
+
+    // get - Returns the stored account, or null
+    Account get(String username);
+
+    // put - Stores acc under its username (inserting or replacing); returns the stored instance
+    Account put(Account acc);
+
+    // size - Returns how many accounts are stored
+    int size();
+
+    // all - Returns a read-only view of every stored account
+    Collection<Account> all();
+
+    // whenDurable - Completes once everything put so far is persisted
+    CompletableFuture<Void> whenDurable();
+
+    // flush - Persists everything put so far now; completes when done
+    CompletableFuture<Void> flush();
+
+    // compact - Folds incremental changes into the backend's compact form (no-op by default)
+    default void compact() throws IOException {
+    }
+
+    // describe - Short human-readable name and location, for logs
+    String describe();
+
+    // isThreadSafe - True if get/put/all may be called from several threads at once
+    default boolean isThreadSafe() {
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package game.account;
+
+/**
+ * Group-commit writer in front of an AccountJournal (a GroupCommitter):
+ *  - submit() only queues account lines and returns at once, so UI threads never
+ *    wait on the disk. Lines are captured by the caller, so the writer never
+ *    reads an Account while the UI is changing it.
+ *  - The writer thread waits up to the commit window after the first queued
+ *    line, then writes the whole batch with one append and one fsync. Several
+ *    updates of one account inside a window are coalesced into its latest line.
+ *  - Every submit() returns a future that completes once its batch is durable.
+ *    A failed commit is requeued and retried with that future still pending;
+ *    it only fails if close() gives up on the batch. flush() skips the rest
+ *    of the window.
+ *  - close() drains everything queued and stops the thread.
+ */
+public class AccountWriter extends GroupCommitter {
+
+    // ---------- CONSTRUCTORS ----------
+
+    // AccountWriter - Commits to journal at most commitWindowMillis after the first queued update
+    public AccountWriter(AccountJournal journal, long commitWindowMillis) {
+        super("account-writer", sink(journal), commitWindowMillis, AccountJournal::usernameOf);
+    }
+
+    // sink - Appends batches to journal with one fsync each
+    private static Sink sink(AccountJournal journal) {
+        if (journal == null) {
+            throw new IllegalArgumentException("journal cannot be null");
+        }
+        return lines -> journal.appendLines(lines, true);
+    }
+}
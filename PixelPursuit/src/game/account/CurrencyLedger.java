@@ -0,0 +1,278 @@
+package game.account;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Transactional API for vault gold and diamonds:
+ *  - payout() and purchase() change the balances (and, for a purchase, set the
+ *    unlock bit) in one step under the account's lock in AccountManager, so
+ *    concurrent sessions can neither lose an update nor overdraw, and a bought
+ *    item is never unlocked without being paid for (or the other way round).
+ *  - Each applied change becomes an immutable Transaction, appended to the
+ *    ledger log (one line each, ids increasing in log order) only once the
+ *    changed account has been stored, so the log never holds a change whose
+ *    put failed.
+ *  - Log writes are batched by a GroupCommitter: its writer thread appends
+ *    everything queued within the commit window to a LineLog with one write +
+ *    fsync, and retries a failed write. The account itself is saved by the
+ *    AccountManager as usual.
+ *  - Thread-safe.
+ */
+public class CurrencyLedger implements Closeable {
+
+    // ---------- CONSTANTS ----------
+
+    // LOG_PATH - The game's ledger log, next to accounts.txt
+    public static final String LOG_PATH = "src/game/resources/data/transactions.log";
+
+    // MAX_UNLOCK_BIT - Highest unlock bit a purchase may set (bit 63 is never used)
+    public static final int MAX_UNLOCK_BIT = 62;
+
+    // CLOSE_TIMEOUT_MS - Upper bound close() waits for the last batch
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    // TAIL_BYTES - How much of an existing log is read back to find its last id
+    private static final int TAIL_BYTES = 4096;
+
+    // ---------- FIELDS ----------
+
+    private final AccountManager accounts;
+    private final File logFile;
+    private final GroupCommitter writer;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock: ids (handed out in submit order) and the transactions under way
+    private long lastId;
+    private boolean closed = false;
+    private int applying = 0; // transactions begun but not yet logged or dropped
+
+    // ---------- CONSTRUCTORS ----------
+
+    // CurrencyLedger - Ledger over accounts, logging to logPath at most commitWindowMillis after a change
+    public CurrencyLedger(AccountManager accounts, String logPath, long commitWindowMillis) throws IOException {
+        if (accounts == null || logPath == null) {
+            throw new IllegalArgumentException("accounts and logPath cannot be null");
+        }
+        this.accounts = accounts;
+        this.logFile = new File(logPath);
+        this.writer = new GroupCommitter("ledger-writer", new LineLog(logFile, true), commitWindowMillis, null);
+        this.lastId = lastIdIn(logFile);
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getLogFile - Returns the ledger log
+    public File getLogFile() {
+        return logFile;
+    }
+
+    // getBatchCount - Returns how many batches (appends + fsyncs) have been written
+    public long getBatchCount() {
+        return writer.getBatchCount();
+    }
+
+    // getLoggedCount - Returns how many transactions those batches held
+    public long getLoggedCount() {
+        return writer.getRecordCount();
+    }
+
+    // ---------- TRANSACTIONS ----------
+
+    // payout - Moves a finished run's rewards into the vault and clears the free balances
+    public Transaction payout(String username, int gold, int diamonds, String reason) {
+        return payout(username, gold, diamonds, reason, acc -> { });
+    }
+
+    // payout - Same, also applying alongside (e.g. the run's best times) in the same step and save
+    public Transaction payout(String username, int gold, int diamonds, String reason, Consumer<Account> alongside) {
+        if (gold < 0 || diamonds < 0) {
+            throw new IllegalArgumentException("Payout cannot be negative");
+        }
+        if (alongside == null) {
+            throw new IllegalArgumentException("alongside cannot be null");
+        }
+        return transact(username, acc -> {
+            alongside.accept(acc);
+            int vaultGold = acc.getVaultGold() + gold;
+            int vaultDiamonds = acc.getVaultDiamonds() + diamonds;
+            Transaction tx = draft(Transaction.Type.PAYOUT, username, gold, diamonds, -1,
+                    vaultGold, vaultDiamonds, reason);
+            acc.setVaultGold(vaultGold);
+            acc.setVaultDiamonds(vaultDiamonds);
+            acc.setFreeGold(0);
+            acc.setFreeDiamonds(0);
+            return tx;
+        });
+    }
+
+    // purchase - Debits the vault and sets unlockBit (-1 for none) in one step; changes nothing
+    //            and says why if the item is already owned or the vault cannot cover it
+    public PurchaseResult purchase(String username, int goldCost, int diamondCost, int unlockBit, String item) {
+        if (goldCost < 0 || diamondCost < 0) {
+            throw new IllegalArgumentException("Cost cannot be negative");
+        }
+        if (unlockBit < -1 || unlockBit > MAX_UNLOCK_BIT) {
+            throw new IllegalArgumentException("Invalid unlock bit: " + unlockBit);
+        }
+        long mask = (unlockBit < 0) ? 0L : 1L << unlockBit;
+        PurchaseResult.Status[] rejected = new PurchaseResult.Status[1];
+        Transaction bought = transact(username, acc -> {
+            if ((acc.getUnlocks() & mask) != 0L) {
+                rejected[0] = PurchaseResult.Status.ALREADY_OWNED;
+                return null;
+            }
+            if (acc.getVaultGold() < goldCost || acc.getVaultDiamonds() < diamondCost) {
+                rejected[0] = PurchaseResult.Status.INSUFFICIENT_FUNDS;
+                return null;
+            }
+            int vaultGold = acc.getVaultGold() - goldCost;
+            int vaultDiamonds = acc.getVaultDiamonds() - diamondCost;
+            Transaction tx = draft(Transaction.Type.PURCHASE, username, -goldCost, -diamondCost, unlockBit,
+                    vaultGold, vaultDiamonds, item);
+            acc.setVaultGold(vaultGold);
+            acc.setVaultDiamonds(vaultDiamonds);
+            acc.setUnlocks(acc.getUnlocks() | mask);
+            return tx;
+        });
+        return (bought != null) ? PurchaseResult.bought(bought) : PurchaseResult.rejected(rejected[0]);
+    }
+
+    // transact - Applies change under the account's lock; the transaction it returns (null for none)
+    //            is numbered and queued once the account is stored. Throws before anything changes
+    //            if the ledger is closed
+    private Transaction transact(String username, Function<Account, Transaction> change) {
+        begin();
+        Transaction[] logged = new Transaction[1];
+        boolean[] ended = new boolean[1];
+        try {
+            accounts.modifyAccount(username, change, tx -> {
+                ended[0] = true;
+                logged[0] = end(tx);
+            });
+        } finally {
+            if (!ended[0]) {
+                end(null); // nothing was stored, so nothing is logged
+            }
+        }
+        return logged[0];
+    }
+
+    // draft - Unnumbered transaction for a change about to be applied (transact() numbers it)
+    private static Transaction draft(Transaction.Type type, String username, int gold, int diamonds,
+                                     int unlockBit, int vaultGoldAfter, int vaultDiamondsAfter, String item) {
+        return new Transaction(0, System.currentTimeMillis(), type,
+                username, gold, diamonds, unlockBit, vaultGoldAfter, vaultDiamondsAfter, item);
+    }
+
+    // begin - Counts a transaction in, so close() waits for it; throws if the ledger is closed
+    private void begin() {
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Currency ledger is closed");
+            }
+            applying++;
+        }
+    }
+
+    // end - Counts a transaction out; numbers and queues draft if there is one and returns it
+    private Transaction end(Transaction draft) {
+        synchronized (lock) {
+            applying--;
+            lock.notifyAll();
+            if (draft == null) {
+                return null;
+            }
+            // Ids are handed out in queue order, so the log is sorted by id
+            Transaction tx = new Transaction(++lastId, draft.getTimeMillis(), draft.getType(),
+                    draft.getUsername(), draft.getGold(), draft.getDiamonds(), draft.getUnlockBit(),
+                    draft.getVaultGoldAfter(), draft.getVaultDiamondsAfter(), draft.getItem());
+            writer.submit(List.of(tx.toLogLine()));
+            return tx;
+        }
+    }
+
+    // ---------- LOG ----------
+
+    // flush - Writes whatever is queued now; completes once every transaction so far is logged
+    public CompletableFuture<Void> flush() {
+        return writer.flush();
+    }
+
+    // close - Rejects further transactions, logs every one already begun and stops the writer
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+            // A transaction begun before close may still have its line to submit
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MS);
+            try {
+                while (applying > 0) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) break;
+                    TimeUnit.NANOSECONDS.timedWait(lock, left);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            if (!writer.close(CLOSE_TIMEOUT_MS)) {
+                System.err.println("Timed out writing the currency ledger");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // readLog - Reads every transaction in a ledger log, skipping malformed lines
+    public static List<Transaction> readLog(String logPath) throws IOException {
+        List<Transaction> transactions = new ArrayList<>();
+        File file = new File(logPath);
+        if (!file.exists()) {
+            return transactions;
+        }
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            Transaction tx = Transaction.fromLogLine(line);
+            if (tx != null) {
+                transactions.add(tx);
+            }
+        }
+        return transactions;
+    }
+
+    // lastIdIn - Returns the id of the last complete transaction in a log (0 if none)
+    private static long lastIdIn(File file) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            int length = (int) Math.min(raf.length(), TAIL_BYTES);
+            byte[] tail = new byte[length];
+            raf.seek(raf.length() - length);
+            raf.readFully(tail);
+
+            // Walk complete lines backwards; a torn last line (no newline) is ignored
+            String[] lines = new String(tail, StandardCharsets.UTF_8).split("\n", -1);
+            for (int i = lines.length - 2; i >= 0; i--) {
+                Transaction tx = Transaction.fromLogLine(lines[i]);
+                if (tx != null) {
+                    return tx.getId();
+                }
+            }
+            return 0;
+        }
+    }
+}
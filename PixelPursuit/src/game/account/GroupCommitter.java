@@ -0,0 +1,274 @@
+package game.account;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Group-commit writer thread in front of an append-only Sink:
+ *  - submit() only queues lines and returns at once, so UI threads never wait
+ *    on the disk. Lines are captured by the caller, so the writer never reads
+ *    game state while another thread is changing it.
+ *  - The writer thread waits up to the commit window after the first queued
+ *    line, then hands the whole batch to the sink in one commit. With a
+ *    coalescing key, several lines with one key inside a window are coalesced
+ *    into the latest; without one, every line is kept in submit order.
+ *  - Every submit() returns a future that completes once its batch is committed.
+ *    A failed commit is requeued (in front of newer lines) and retried with that
+ *    future still pending; it only fails if close() gives up on the batch.
+ *    flush() skips the rest of the window.
+ *  - close() drains everything queued, stops the thread and closes the sink.
+ */
+public class GroupCommitter {
+
+    /**
+     * Where batches go. Only the writer thread calls it.
+     */
+    public interface Sink {
+
+        // commit - Appends lines in order; returns once they are as durable as the sink promises
+        void commit(Collection<String> lines) throws IOException;
+
+        // close - Releases the sink when the writer thread stops
+        default void close() throws IOException {
+        }
+    }
+
+    // ---------- CONSTANTS ----------
+
+    // RETRY_DELAY_MS - Pause after a failed commit before the batch is retried
+    private static final long RETRY_DELAY_MS = 1000;
+
+    // ---------- FIELDS ----------
+
+    private final String threadName;
+    private final Sink sink;
+    private final long windowNanos;
+    private final Function<String, ?> coalesceKey;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock: the batch being filled and the future its submitters share
+    private Map<Object, String> pending = new LinkedHashMap<>();
+    private CompletableFuture<Void> pendingDone = new CompletableFuture<>();
+    private long firstPendingNanos;
+    private long submitted = 0; // key of a line that is not coalesced
+    private boolean flushRequested = false;
+    private boolean closed = false;
+
+    // Guarded by lock: the batch being committed right now, or null
+    private CompletableFuture<Void> inFlight;
+
+    private Thread thread;
+
+    private volatile long batches = 0;
+    private volatile long records = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // GroupCommitter - Commits to sink at most commitWindowMillis after the first queued line;
+    //                  coalesceKey (null for none) picks the lines a newer one replaces
+    public GroupCommitter(String threadName, Sink sink, long commitWindowMillis, Function<String, ?> coalesceKey) {
+        if (threadName == null || sink == null) {
+            throw new IllegalArgumentException("threadName and sink cannot be null");
+        }
+        if (commitWindowMillis < 0) {
+            throw new IllegalArgumentException("commitWindowMillis cannot be negative");
+        }
+        this.threadName = threadName;
+        this.sink = sink;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(commitWindowMillis);
+        this.coalesceKey = coalesceKey;
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getBatchCount - Returns how many batches (sink commits) have been made
+    public long getBatchCount() {
+        return batches;
+    }
+
+    // getRecordCount - Returns how many lines those batches held
+    public long getRecordCount() {
+        return records;
+    }
+
+    // ---------- PUBLIC API ----------
+
+    // submit - Queues lines; the future completes when they are committed
+    public CompletableFuture<Void> submit(Collection<String> lines) {
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException(threadName + " is closed");
+            }
+            if (lines.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (pending.isEmpty()) {
+                firstPendingNanos = System.nanoTime();
+            }
+            for (String line : lines) {
+                Object key = (coalesceKey != null) ? coalesceKey.apply(line) : Long.valueOf(submitted++);
+                pending.put(key, line);
+            }
+            startIfNeeded();
+            lock.notifyAll();
+            return pendingDone.copy();
+        }
+    }
+
+    // flush - Commits whatever is queued now; completes once everything submitted so far is committed
+    public CompletableFuture<Void> flush() {
+        synchronized (lock) {
+            if (!pending.isEmpty()) {
+                flushRequested = true;
+                lock.notifyAll();
+                return pendingDone.copy();
+            }
+            return (inFlight != null) ? inFlight.copy() : CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // close - Commits everything queued and stops the thread; returns false on timeout
+    public boolean close(long timeoutMillis) throws InterruptedException {
+        Thread t;
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+            t = thread;
+        }
+        if (t != null) {
+            t.join(timeoutMillis);
+            return !t.isAlive();
+        }
+        return true;
+    }
+
+    // ---------- WRITER THREAD ----------
+
+    // startIfNeeded - Starts the writer thread on the first submit (lock held)
+    private void startIfNeeded() {
+        if (thread == null) {
+            thread = new Thread(this::runLoop, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    // runLoop - Runs batches until closed and drained, then closes the sink
+    private void runLoop() {
+        try {
+            commitBatches();
+        } finally {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // commitBatches - Waits for a batch, lets the window fill it, commits it; until closed and drained
+    private void commitBatches() {
+        while (true) {
+            Map<Object, String> batch;
+            CompletableFuture<Void> done;
+
+            synchronized (lock) {
+                try {
+                    while (pending.isEmpty() && !closed) {
+                        lock.wait();
+                    }
+                    if (pending.isEmpty()) {
+                        return; // closed and drained
+                    }
+                    // Group commit: let more lines join until the window ends
+                    long deadline = firstPendingNanos + windowNanos;
+                    while (!flushRequested && !closed) {
+                        long left = deadline - System.nanoTime();
+                        if (left <= 0) break;
+                        TimeUnit.NANOSECONDS.timedWait(lock, left);
+                    }
+                } catch (InterruptedException e) {
+                    // Stop waiting and commit what is queued
+                    closed = true;
+                }
+
+                batch = pending;
+                done = pendingDone;
+                pending = new LinkedHashMap<>();
+                pendingDone = new CompletableFuture<>();
+                flushRequested = false;
+                inFlight = done;
+            }
+
+            try {
+                sink.commit(batch.values());
+                batches++;
+                records += batch.size();
+                done.complete(null);
+            } catch (IOException e) {
+                e.printStackTrace();
+                // Not lost yet: the submitters wait for the retry instead of hearing "failed"
+                requeue(batch).whenComplete((v, err) -> {
+                    if (err == null) {
+                        done.complete(null);
+                    } else {
+                        done.completeExceptionally(err);
+                    }
+                });
+                if (!pauseBeforeRetry()) {
+                    giveUp(e); // do not keep retrying a failing disk at exit
+                    return;
+                }
+            } finally {
+                synchronized (lock) {
+                    if (inFlight == done) {
+                        inFlight = null;
+                    }
+                }
+            }
+        }
+    }
+
+    // pauseBeforeRetry - Waits RETRY_DELAY_MS (cut short by close); returns false once closed
+    private boolean pauseBeforeRetry() {
+        synchronized (lock) {
+            try {
+                if (!closed) {
+                    lock.wait(RETRY_DELAY_MS);
+                }
+            } catch (InterruptedException e) {
+                closed = true;
+            }
+            return !closed;
+        }
+    }
+
+    // requeue - Puts a failed batch back in front of anything queued since (newer lines of a
+    //           coalesced key win); returns the future of that commit
+    private CompletableFuture<Void> requeue(Map<Object, String> batch) {
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                firstPendingNanos = System.nanoTime();
+            }
+            Map<Object, String> merged = new LinkedHashMap<>(batch);
+            merged.putAll(pending);
+            pending = merged;
+            return pendingDone;
+        }
+    }
+
+    // giveUp - Drops everything still queued after close, failing its futures with cause
+    private void giveUp(IOException cause) {
+        synchronized (lock) {
+            pending = new LinkedHashMap<>();
+            pendingDone.completeExceptionally(cause);
+            pendingDone = new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package game.account;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Append-only text file of one record per line, as a GroupCommitter sink:
+ *  - Opened on the first commit (creating its folder) and kept open.
+ *  - A crash mid-append can leave a last line without its newline; the first
+ *    append after reopening ends that line first, so a new record is never
+ *    glued onto a torn one (readers drop the torn line on its own).
+ *  - A durable log forces every commit to the disk before returning.
+ *  - Not thread-safe: only the committer's writer thread touches it.
+ */
+public class LineLog implements GroupCommitter.Sink {
+
+    // ---------- FIELDS ----------
+
+    private final File file;
+    private final boolean durable;
+
+    private FileOutputStream out;
+    private Writer writer;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // LineLog - Log at file; durable forces each commit to the disk
+    public LineLog(File file, boolean durable) {
+        if (file == null) {
+            throw new IllegalArgumentException("file cannot be null");
+        }
+        this.file = file;
+        this.durable = durable;
+    }
+
+    // ---------- SINK ----------
+
+    // commit - Appends one line per record, then flushes (and forces, if durable)
+    @Override
+    public void commit(Collection<String> lines) throws IOException {
+        if (writer == null) {
+            open();
+        }
+        for (String line : lines) {
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+        if (durable) {
+            out.getFD().sync();
+        }
+    }
+
+    // close - Closes the file (reopened by the next commit)
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            Writer w = writer;
+            writer = null;
+            out = null;
+            w.close();
+        }
+    }
+
+    // ---------- HELPERS ----------
+
+    // open - Opens the file for appending, ending a torn last line first
+    private void open() throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        boolean tornTail = endsMidLine(file);
+        out = new FileOutputStream(file, true);
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (tornTail) {
+            writer.write('\n');
+        }
+    }
+
+    // endsMidLine - True if file is non-empty and its last byte is not a newline
+    public static boolean endsMidLine(File file) throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return false;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(raf.length() - 1);
+            return raf.read() != '\n';
+        }
+    }
+}
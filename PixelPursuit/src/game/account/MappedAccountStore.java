@@ -0,0 +1,569 @@
+package game.account;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import game.settings.Difficulty;
+
+/**
+ * Binary account storage in one memory-mapped file:
+ *  - Every account is a fixed-width RECORD_SIZE record; the Account objects this
+ *    store hands out are views whose getters and setters read and write the
+ *    mapped record directly, with no parsing.
+ *  - A username hash index (open addressing, linear probing) lives in the same
+ *    file, so opening a store only maps it and checks the header: O(1), however
+ *    many accounts it holds.
+ *  - Records keep RESERVED_BYTES spare so new Account fields can be added
+ *    without a format change.
+ *  - Capacity doubles in place when full: the file grows, the record area
+ *    extends over the old index, and the index is rebuilt past it. The new
+ *    regions are forced to disk before the header points at them, so a crash
+ *    or power loss mid-growth leaves the old layout intact.
+ *  - Changes reach the file as soon as they are made (a crash of the game loses
+ *    nothing); flush() / whenDurable() have a sync thread force them to the
+ *    disk itself, so callers never wait on it. Requests that arrive while a
+ *    force is running share the next one.
+ *  - Not thread-safe; the mapping is limited to 2 GB (about 13M accounts).
+ *
+ * File layout (big-endian):
+ *   header  : magic, version, record size, capacity, count, index slots (HEADER_SIZE bytes)
+ *   records : capacity * RECORD_SIZE
+ *   index   : index slots * 4 (record number + 1; 0 = empty)
+ */
+public class MappedAccountStore implements AccountStore {
+
+    // ---------- CONSTANTS ----------
+
+    // MAGIC - "PPAS" (PixelPursuit account store)
+    private static final int MAGIC = 0x50504153;
+    private static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_RECORD_SIZE = 6;
+    private static final int H_CAPACITY = 8;
+    private static final int H_COUNT = 12;
+    private static final int H_INDEX_SLOTS = 16;
+
+    // MAX_USERNAME_BYTES / MAX_PASSWORD_BYTES - UTF-8 lengths a record can hold
+    public static final int MAX_USERNAME_BYTES = 32;
+    public static final int MAX_PASSWORD_BYTES = 64;
+
+    // RESERVED_BYTES - Spare bytes at the end of each record for future fields
+    public static final int RESERVED_BYTES = 24 - 8 * Difficulty.values().length;
+
+    // Record layout (offsets within one record)
+    private static final int R_USERNAME_LEN = 0;
+    private static final int R_PASSWORD_LEN = 1;
+    private static final int R_USERNAME = 4;
+    private static final int R_PASSWORD = R_USERNAME + MAX_USERNAME_BYTES;       // 36
+    private static final int R_FREE_GOLD = R_PASSWORD + MAX_PASSWORD_BYTES;      // 100
+    private static final int R_FREE_DIAMONDS = R_FREE_GOLD + 4;
+    private static final int R_VAULT_GOLD = R_FREE_DIAMONDS + 4;
+    private static final int R_VAULT_DIAMONDS = R_VAULT_GOLD + 4;
+    private static final int R_COLOR = R_VAULT_DIAMONDS + 4;
+    private static final int R_COSMETIC = R_COLOR + 4;
+    private static final int R_MULTIPLIER = R_COSMETIC + 4;
+    private static final int R_BEST_TIME = R_MULTIPLIER + 4;                     // 128
+    private static final int R_UNLOCKS = R_BEST_TIME + 8;                        // 136
+
+    // Best time per Difficulty (by ordinal); carved out of bytes that were reserved
+    // (so always 0.0 in older files, i.e. "no run yet", with no format change)
+    private static final int R_BEST_BY_DIFFICULTY = R_UNLOCKS + 8;              // 144
+
+    // RECORD_SIZE - Bytes per account record
+    public static final int RECORD_SIZE =
+            R_BEST_BY_DIFFICULTY + 8 * Difficulty.values().length + RESERVED_BYTES; // 168
+
+    // INITIAL_CAPACITY - Records a new store has room for before its first growth
+    public static final int INITIAL_CAPACITY = 1024;
+
+    // CLOSE_TIMEOUT_MS - How long close() waits for the sync thread's last force
+    private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    // ---------- FIELDS ----------
+
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+    private int indexSlots;
+
+    private final Object syncLock = new Object();
+
+    // Guarded by syncLock: the mapping to force next and the future its requesters share
+    private MappedByteBuffer syncTarget;
+    private CompletableFuture<Void> syncPending = new CompletableFuture<>();
+    private boolean syncClosed = false;
+    private Thread syncThread;
+
+    private volatile long forces = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // MappedAccountStore - Maps an existing store or creates an empty one
+    private MappedAccountStore(File file) throws IOException {
+        this.file = file;
+        boolean fresh = !file.exists() || file.length() == 0;
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        this.raf = new RandomAccessFile(file, "rw");
+        this.channel = raf.getChannel();
+
+        try {
+            if (fresh) {
+                format(INITIAL_CAPACITY);
+            } else {
+                readHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // open - Opens (or creates) the store at path; O(1) in the number of accounts
+    public static MappedAccountStore open(String path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        return new MappedAccountStore(new File(path));
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getFile - Returns the backing file
+    public File getFile() {
+        return file;
+    }
+
+    // size - Returns how many accounts are stored
+    @Override
+    public int size() {
+        return count;
+    }
+
+    // getCapacity - Returns how many accounts fit before the file grows
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // getForceCount - Returns how many forces the sync thread has made
+    public long getForceCount() {
+        return forces;
+    }
+
+    // ---------- PUBLIC API ----------
+
+    // load - Re-reads the header (picks up growth by another handle on the same file)
+    @Override
+    public void load() throws IOException {
+        readHeader();
+    }
+
+    // get - Returns a live view of the account, or null if there is none
+    @Override
+    public Account get(String username) {
+        int record = find(encodeName(username));
+        return (record < 0) ? null : new MappedAccount(this, record);
+    }
+
+    // contains - Returns true if username has a record
+    public boolean contains(String username) {
+        return find(encodeName(username)) >= 0;
+    }
+
+    // put - Stores acc's state under its username (inserting if new); returns the live view
+    @Override
+    public Account put(Account acc) {
+        if (acc instanceof MappedAccount && ((MappedAccount) acc).store == this) {
+            return acc; // already is its record
+        }
+        try {
+            return write(acc);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow " + file, e);
+        }
+    }
+
+    // write - Copies acc into its record, growing the file for a new account
+    private Account write(Account acc) throws IOException {
+        byte[] name = encodeName(acc.getUsername());
+        byte[] password = encode(acc.getPassword(), MAX_PASSWORD_BYTES, "password");
+
+        int record = find(name);
+        if (record < 0) {
+            if (count == capacity) {
+                grow();
+            }
+            record = count;
+            int base = recordOffset(record);
+            buffer.put(base + R_USERNAME_LEN, (byte) name.length);
+            buffer.put(base + R_USERNAME, name);
+            insertIndex(name, record);
+            count++;
+            buffer.putInt(H_COUNT, count);
+        }
+
+        int base = recordOffset(record);
+        buffer.put(base + R_PASSWORD_LEN, (byte) password.length);
+        buffer.put(base + R_PASSWORD, password);
+        MappedAccount view = new MappedAccount(this, record);
+        view.copyStateFrom(acc);
+        return view;
+    }
+
+    // all - Returns live views of every account, in insertion order
+    @Override
+    public List<Account> all() {
+        List<Account> views = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            views.add(new MappedAccount(this, i));
+        }
+        return Collections.unmodifiableList(views);
+    }
+
+    // force - Writes every change to the disk, on the calling thread
+    public void force() {
+        buffer.force();
+    }
+
+    // whenDurable - Asks the sync thread for a force; completes once it covers every change so far
+    @Override
+    public CompletableFuture<Void> whenDurable() {
+        return flush();
+    }
+
+    // flush - Same as whenDurable(): nothing is queued, so there is no window to skip
+    @Override
+    public CompletableFuture<Void> flush() {
+        synchronized (syncLock) {
+            if (syncClosed) {
+                return CompletableFuture.completedFuture(null); // close() forces everything itself
+            }
+            // The current mapping covers the whole file, including changes made before a growth
+            syncTarget = buffer;
+            startSyncIfNeeded();
+            syncLock.notifyAll();
+            return syncPending.copy();
+        }
+    }
+
+    // describe - Names the backend and its file
+    @Override
+    public String describe() {
+        return "binary " + file.getAbsolutePath();
+    }
+
+    // close - Finishes requested forces, forces the rest and closes the file (the mapping is released by the GC)
+    @Override
+    public void close() throws IOException {
+        Thread t;
+        synchronized (syncLock) {
+            syncClosed = true;
+            syncLock.notifyAll();
+            t = syncThread;
+        }
+        if (t != null) {
+            try {
+                t.join(CLOSE_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        force();
+        channel.close();
+    }
+
+    // ---------- SYNC THREAD ----------
+
+    // startSyncIfNeeded - Starts the sync thread on the first request (syncLock held)
+    private void startSyncIfNeeded() {
+        if (syncThread == null) {
+            syncThread = new Thread(this::syncLoop, "account-store-sync");
+            syncThread.setDaemon(true);
+            syncThread.start();
+        }
+    }
+
+    // syncLoop - Forces the mapping once per round of requests; until closed and drained
+    private void syncLoop() {
+        while (true) {
+            MappedByteBuffer target;
+            CompletableFuture<Void> done;
+
+            synchronized (syncLock) {
+                while (syncTarget == null && !syncClosed) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException e) {
+                        syncClosed = true; // stop waiting and force what was requested
+                    }
+                }
+                if (syncTarget == null) {
+                    return; // closed and drained
+                }
+                target = syncTarget;
+                done = syncPending;
+                syncTarget = null;
+                syncPending = new CompletableFuture<>();
+            }
+
+            try {
+                target.force();
+                forces++;
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        }
+    }
+
+    // ---------- FILE LAYOUT ----------
+
+    // format - Writes an empty store with room for capacity accounts
+    private void format(int capacity) throws IOException {
+        int slots = indexSlotsFor(capacity);
+        map(fileSize(capacity, slots));
+        buffer.putInt(H_MAGIC, MAGIC);
+        buffer.putShort(H_VERSION, VERSION);
+        buffer.putShort(H_RECORD_SIZE, (short) RECORD_SIZE);
+        buffer.putInt(H_CAPACITY, capacity);
+        buffer.putInt(H_COUNT, 0);
+        buffer.putInt(H_INDEX_SLOTS, slots);
+        this.capacity = capacity;
+        this.count = 0;
+        this.indexSlots = slots;
+    }
+
+    // readHeader - Maps an existing file and validates its header
+    private void readHeader() throws IOException {
+        map(channel.size());
+        if (buffer.capacity() < HEADER_SIZE
+                || buffer.getInt(H_MAGIC) != MAGIC
+                || buffer.getShort(H_VERSION) != VERSION
+                || buffer.getShort(H_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IOException(file + " is not a version " + VERSION + " account store");
+        }
+        capacity = buffer.getInt(H_CAPACITY);
+        count = buffer.getInt(H_COUNT);
+        indexSlots = buffer.getInt(H_INDEX_SLOTS);
+        if (count < 0 || count > capacity || buffer.capacity() < fileSize(capacity, indexSlots)) {
+            throw new IOException(file + " has a damaged header");
+        }
+    }
+
+    // grow - Doubles capacity in place and rebuilds the index past the new record area
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        int newSlots = indexSlotsFor(newCapacity);
+        long size = fileSize(newCapacity, newSlots);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Account store is full (" + capacity + " accounts)");
+        }
+        map(size);
+
+        // The new index lies beyond the old file end, so the old layout survives a crash here
+        int oldEnd = HEADER_SIZE + capacity * RECORD_SIZE;
+        int newIndexBase = HEADER_SIZE + newCapacity * RECORD_SIZE;
+        for (int i = 0; i < newSlots; i++) {
+            buffer.putInt(newIndexBase + i * 4, 0);
+        }
+        int oldCapacity = capacity;
+        capacity = newCapacity;
+        indexSlots = newSlots;
+        for (int record = 0; record < count; record++) {
+            insertIndex(nameBytes(record), record);
+        }
+
+        // The new regions reach the disk before the header that points at them,
+        // and the header fields are then written in the order readHeader() reads them
+        buffer.force(oldEnd, (int) size - oldEnd);
+        buffer.putInt(H_CAPACITY, newCapacity);
+        buffer.putInt(H_INDEX_SLOTS, newSlots);
+        buffer.force(0, HEADER_SIZE);
+        System.out.println("Account store grew from " + oldCapacity + " to " + newCapacity + " records");
+    }
+
+    // map - (Re)maps the whole file at the given size
+    private void map(long size) throws IOException {
+        raf.setLength(size);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    // fileSize - Total bytes for a store of the given shape
+    private static long fileSize(int capacity, int slots) {
+        return HEADER_SIZE + (long) capacity * RECORD_SIZE + (long) slots * 4;
+    }
+
+    // indexSlotsFor - Power of two at least twice capacity (load factor <= 0.5)
+    private static int indexSlotsFor(int capacity) {
+        return Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+    }
+
+    // recordOffset - Byte offset of a record
+    private int recordOffset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    // indexOffset - Byte offset of an index slot
+    private int indexOffset(int slot) {
+        return HEADER_SIZE + capacity * RECORD_SIZE + slot * 4;
+    }
+
+    // ---------- HASH INDEX ----------
+
+    // find - Returns the record holding name, or -1
+    private int find(byte[] name) {
+        int mask = indexSlots - 1;
+        for (int slot = hash(name) & mask; ; slot = (slot + 1) & mask) {
+            int entry = buffer.getInt(indexOffset(slot));
+            if (entry == 0) {
+                return -1;
+            }
+            if (nameEquals(entry - 1, name)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    // insertIndex - Points the first free slot on name's probe path at record
+    private void insertIndex(byte[] name, int record) {
+        int mask = indexSlots - 1;
+        int slot = hash(name) & mask;
+        while (buffer.getInt(indexOffset(slot)) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        buffer.putInt(indexOffset(slot), record + 1);
+    }
+
+    // hash - FNV-1a over the name bytes
+    private static int hash(byte[] name) {
+        int h = 0x811C9DC5;
+        for (byte b : name) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // nameEquals - Compares a record's username bytes with name, without decoding
+    private boolean nameEquals(int record, byte[] name) {
+        int base = recordOffset(record);
+        if ((buffer.get(base + R_USERNAME_LEN) & 0xFF) != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(base + R_USERNAME + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // nameBytes - Copies a record's username bytes
+    private byte[] nameBytes(int record) {
+        int base = recordOffset(record);
+        byte[] name = new byte[buffer.get(base + R_USERNAME_LEN) & 0xFF];
+        buffer.get(base + R_USERNAME, name);
+        return name;
+    }
+
+    // ---------- ENCODING ----------
+
+    // encodeName - UTF-8 bytes of a username, checked against the record width
+    private static byte[] encodeName(String username) {
+        return encode(username, MAX_USERNAME_BYTES, "username");
+    }
+
+    // encode - UTF-8 bytes of value; throws if it does not fit in max bytes
+    private static byte[] encode(String value, int max, String what) {
+        if (value == null) {
+            throw new IllegalArgumentException(what + " cannot be null");
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > max) {
+            throw new IllegalArgumentException(what + " is longer than " + max + " bytes");
+        }
+        return bytes;
+    }
+
+    // readString - Decodes a length-prefixed string field
+    private String readString(int record, int lengthOffset, int dataOffset) {
+        int base = recordOffset(record);
+        byte[] bytes = new byte[buffer.get(base + lengthOffset) & 0xFF];
+        buffer.get(base + dataOffset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---------- VIEW ----------
+
+    /**
+     * Account whose state is one record of the store: every getter and setter is
+     * a read or write at a fixed offset in the mapped file.
+     */
+    private static final class MappedAccount extends Account {
+
+        private final MappedAccountStore store;
+        private final int record;
+
+        // MappedAccount - View of one record
+        MappedAccount(MappedAccountStore store, int record) {
+            super(null, null);
+            this.store = store;
+            this.record = record;
+        }
+
+        // at - Absolute offset of a field of this record (the mapping moves when the store grows)
+        private int at(int field) {
+            return store.recordOffset(record) + field;
+        }
+
+        @Override public String getUsername()   { return store.readString(record, R_USERNAME_LEN, R_USERNAME); }
+        @Override public String getPassword()   { return store.readString(record, R_PASSWORD_LEN, R_PASSWORD); }
+        @Override public int getFreeGold()      { return store.buffer.getInt(at(R_FREE_GOLD)); }
+        @Override public int getFreeDiamonds()  { return store.buffer.getInt(at(R_FREE_DIAMONDS)); }
+        @Override public int getVaultGold()     { return store.buffer.getInt(at(R_VAULT_GOLD)); }
+        @Override public int getVaultDiamonds() { return store.buffer.getInt(at(R_VAULT_DIAMONDS)); }
+        @Override public double getBestTime()   { return store.buffer.getDouble(at(R_BEST_TIME)); }
+        @Override public int getColor()         { return store.buffer.getInt(at(R_COLOR)); }
+        @Override public int getCosmetic()      { return store.buffer.getInt(at(R_COSMETIC)); }
+        @Override public int getMultiplier()    { return store.buffer.getInt(at(R_MULTIPLIER)); }
+        @Override public long getUnlocks()      { return store.buffer.getLong(at(R_UNLOCKS)); }
+
+        @Override public double getBestTime(Difficulty d) {
+            return store.buffer.getDouble(at(R_BEST_BY_DIFFICULTY + 8 * d.ordinal()));
+        }
+
+        @Override public void setFreeGold(int v)      { store.buffer.putInt(at(R_FREE_GOLD), v); }
+        @Override public void setFreeDiamonds(int v)  { store.buffer.putInt(at(R_FREE_DIAMONDS), v); }
+        @Override public void setVaultGold(int v)     { store.buffer.putInt(at(R_VAULT_GOLD), v); }
+        @Override public void setVaultDiamonds(int v) { store.buffer.putInt(at(R_VAULT_DIAMONDS), v); }
+        @Override public void setBestTime(double v)   { store.buffer.putDouble(at(R_BEST_TIME), v); }
+        @Override public void setColor(int v)         { store.buffer.putInt(at(R_COLOR), v); }
+        @Override public void setCosmetic(int v)      { store.buffer.putInt(at(R_COSMETIC), v); }
+        @Override public void setMultiplier(int v)    { store.buffer.putInt(at(R_MULTIPLIER), v); }
+        @Override public void setUnlocks(long v)      { store.buffer.putLong(at(R_UNLOCKS), v); }
+
+        @Override public void setBestTime(Difficulty d, double v) {
+            store.buffer.putDouble(at(R_BEST_BY_DIFFICULTY + 8 * d.ordinal()), v);
+        }
+    }
+}
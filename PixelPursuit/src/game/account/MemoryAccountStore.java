@@ -0,0 +1,83 @@
+package game.account;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AccountStore without persistence:
+ *  - Accounts live in a ConcurrentHashMap and are gone when it is.
+ *  - Every put is "durable" at once, so managers built on it never wait.
+ *  - Used by tests and headless simulations that need accounts but no disk.
+ */
+public class MemoryAccountStore implements AccountStore {
+
+    // ---------- FIELDS ----------
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    // ---------- ACCOUNT STORE ----------
+
+    // load - Nothing is persisted, so there is nothing to read back
+    @Override
+    public void load() {
+    }
+
+    // get - Returns the stored account, or null
+    @Override
+    public Account get(String username) {
+        return accounts.get(username);
+    }
+
+    // put - Stores acc itself
+    @Override
+    public Account put(Account acc) {
+        accounts.put(acc.getUsername(), acc);
+        return acc;
+    }
+
+    // size - Returns how many accounts are stored
+    @Override
+    public int size() {
+        return accounts.size();
+    }
+
+    // all - Returns a read-only view of every stored account
+    @Override
+    public Collection<Account> all() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    // whenDurable - Always complete
+    @Override
+    public CompletableFuture<Void> whenDurable() {
+        return DONE;
+    }
+
+    // flush - Always complete
+    @Override
+    public CompletableFuture<Void> flush() {
+        return DONE;
+    }
+
+    // close - Nothing to release
+    @Override
+    public void close() {
+    }
+
+    // isThreadSafe - Backed by a ConcurrentHashMap
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    // describe - Names the backend
+    @Override
+    public String describe() {
+        return "memory";
+    }
+}
@@ -0,0 +1,68 @@
+package game.account;
+
+/**
+ * Outcome of CurrencyLedger.purchase():
+ *  - BOUGHT, with the logged Transaction.
+ *  - Otherwise why nothing changed, so the UI can tell "you already own this"
+ *    from "you cannot afford this".
+ */
+public final class PurchaseResult {
+
+    // Status - What happened to the purchase
+    public enum Status { BOUGHT, ALREADY_OWNED, INSUFFICIENT_FUNDS }
+
+    // ---------- CONSTANTS ----------
+
+    private static final PurchaseResult ALREADY_OWNED = new PurchaseResult(Status.ALREADY_OWNED, null);
+    private static final PurchaseResult INSUFFICIENT_FUNDS = new PurchaseResult(Status.INSUFFICIENT_FUNDS, null);
+
+    // ---------- FIELDS ----------
+
+    private final Status status;
+    private final Transaction transaction;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // PurchaseResult - Use bought() / rejected()
+    private PurchaseResult(Status status, Transaction transaction) {
+        this.status = status;
+        this.transaction = transaction;
+    }
+
+    // bought - A purchase that went through as tx
+    static PurchaseResult bought(Transaction tx) {
+        if (tx == null) {
+            throw new IllegalArgumentException("tx cannot be null");
+        }
+        return new PurchaseResult(Status.BOUGHT, tx);
+    }
+
+    // rejected - A purchase that changed nothing, for the given reason
+    static PurchaseResult rejected(Status reason) {
+        switch (reason) {
+            case ALREADY_OWNED:
+                return ALREADY_OWNED;
+            case INSUFFICIENT_FUNDS:
+                return INSUFFICIENT_FUNDS;
+            default:
+                throw new IllegalArgumentException("Not a rejection: " + reason);
+        }
+    }
+
+    // ---------- GETTERS ----------
+
+    // getStatus - Returns what happened
+    public Status getStatus()            { return status; }
+
+    // isBought - Returns true if the vault was debited and the item unlocked
+    public boolean isBought()            { return status == Status.BOUGHT; }
+
+    // getTransaction - Returns the logged transaction, or null if nothing was bought
+    public Transaction getTransaction()  { return transaction; }
+
+    // toString - Status, plus the transaction if there is one
+    @Override
+    public String toString() {
+        return (transaction == null) ? status.toString() : status + " " + transaction;
+    }
+}
@@ -0,0 +1,85 @@
+package game.account;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Wrapper that lets only one thread at a time into a store that is not
+ * thread-safe (see AccountStore.isThreadSafe); AccountManager applies it.
+ *  - all() is copied under the lock, so callers can iterate it while others put.
+ *  - Accounts the store hands out are not wrapped: AccountManager's per-account
+ *    locks keep their getters and setters to one thread at a time.
+ */
+final class SynchronizedAccountStore implements AccountStore {
+
+    // ---------- FIELDS ----------
+
+    private final AccountStore store;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // SynchronizedAccountStore - Guards every call into store with this wrapper's monitor
+    SynchronizedAccountStore(AccountStore store) {
+        this.store = store;
+    }
+
+    // ---------- ACCOUNT STORE ----------
+
+    @Override
+    public synchronized void load() throws IOException {
+        store.load();
+    }
+
+    @Override
+    public synchronized Account get(String username) {
+        return store.get(username);
+    }
+
+    @Override
+    public synchronized Account put(Account acc) {
+        return store.put(acc);
+    }
+
+    @Override
+    public synchronized int size() {
+        return store.size();
+    }
+
+    // all - Returns a read-only copy taken under the lock
+    @Override
+    public synchronized Collection<Account> all() {
+        return List.copyOf(store.all());
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> whenDurable() {
+        return store.whenDurable();
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> flush() {
+        return store.flush();
+    }
+
+    @Override
+    public synchronized void compact() throws IOException {
+        store.compact();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        store.close();
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public String describe() {
+        return store.describe();
+    }
+}
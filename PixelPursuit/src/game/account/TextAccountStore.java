@@ -0,0 +1,206 @@
+package game.account;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The game's default AccountStore: accounts.txt plus an append-only journal.
+ *  - All accounts are parsed into a ConcurrentHashMap on load (snapshot, then journal replay;
+ *    see AccountJournal).
+ *  - put() serializes the account on the calling thread and hands the line to an
+ *    AccountWriter, which group-commits it with one write + fsync per window.
+ *  - The journal is compacted back into accounts.txt on a background thread once
+ *    it holds COMPACT_AFTER_RECORDS records, and after a load that replayed one.
+ *  - get/put/all are thread-safe; load() must not race with them.
+ *  - close() also waits for a queued compaction, so a store reopened on the same
+ *    file never reads it while the old one is still rewriting it.
+ */
+public class TextAccountStore implements AccountStore {
+
+    // ---------- CONSTANTS ----------
+
+    // COMPACT_AFTER_RECORDS - Journal length that triggers a background compaction
+    public static final int COMPACT_AFTER_RECORDS = 1000;
+
+    // DEFAULT_COMMIT_WINDOW_MS - How long a save may wait for others to share its fsync
+    public static final long DEFAULT_COMMIT_WINDOW_MS = 50;
+
+    // CLOSE_TIMEOUT_MS - Upper bound close() waits for the final flush
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    // Single background compactor so snapshot rewrites never run on the EDT
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "account-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ---------- FIELDS ----------
+
+    private final File file;
+    private final AccountJournal journal;
+    private final AccountWriter writer;
+    private final AtomicBoolean compactionQueued = new AtomicBoolean(false);
+    private volatile Future<?> compaction;
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    // Completes when the most recent put is on disk (assigned in submit order, under saveLock)
+    private final Object saveLock = new Object();
+    private volatile CompletableFuture<Void> lastSave = CompletableFuture.completedFuture(null);
+
+    // ---------- CONSTRUCTORS ----------
+
+    // TextAccountStore - Store over accountsPath, committing at most commitWindowMillis after a put
+    public TextAccountStore(String accountsPath, long commitWindowMillis) {
+        if (accountsPath == null) {
+            throw new IllegalArgumentException("accountsPath cannot be null");
+        }
+        this.file = new File(accountsPath);
+        this.journal = new AccountJournal(accountsPath);
+        this.writer = new AccountWriter(journal, commitWindowMillis);
+    }
+
+    // ---------- ACCOUNT STORE ----------
+
+    // load - Loads accounts.txt into memory, then replays the journal over it
+    @Override
+    public void load() throws IOException {
+        // Queued saves must reach the journal before it is read back
+        flush().join();
+
+        accounts.clear();
+        if (!file.exists() && !journal.getJournalFile().exists()) {
+            // No file: start empty
+            return;
+        }
+
+        journal.load(accounts, (offset, reason, line) ->
+                System.err.println("Skipping malformed account line at byte " + offset + " (" + reason + "): " + line));
+
+        // Fold whatever the last run journaled into the snapshot
+        if (journal.getRecordsSinceCompaction() > 0) {
+            compactInBackground();
+        }
+    }
+
+    // get - Returns the stored account, or null
+    @Override
+    public Account get(String username) {
+        return accounts.get(username);
+    }
+
+    // put - Stores acc and queues its line for the journal
+    @Override
+    public Account put(Account acc) {
+        accounts.put(acc.getUsername(), acc);
+
+        // Serialize here, on the thread that owns the account; the writer only sees lines
+        String line = acc.toFileLine();
+        CompletableFuture<Void> saved;
+        synchronized (saveLock) {
+            // A later batch never commits before an earlier one, so lastSave covers every put so far
+            saved = writer.submit(List.of(line));
+            lastSave = saved;
+        }
+        saved.thenRun(() -> {
+            if (journal.getRecordsSinceCompaction() >= COMPACT_AFTER_RECORDS) {
+                compactInBackground();
+            }
+        });
+        return acc;
+    }
+
+    // size - Returns how many accounts are stored
+    @Override
+    public int size() {
+        return accounts.size();
+    }
+
+    // all - Returns a read-only view of every stored account
+    @Override
+    public Collection<Account> all() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    // whenDurable - Completes when the latest put has been group-committed
+    @Override
+    public CompletableFuture<Void> whenDurable() {
+        return lastSave;
+    }
+
+    // flush - Commits queued saves now; completes once they are on disk
+    @Override
+    public CompletableFuture<Void> flush() {
+        return writer.flush();
+    }
+
+    // compact - Rewrites accounts.txt with every journaled change and empties the journal
+    @Override
+    public void compact() throws IOException {
+        if (journal.compact()) {
+            System.out.println("Compacted accounts into: " + file.getAbsolutePath());
+        }
+    }
+
+    // close - Durably writes every queued save and stops the writer
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!writer.close(CLOSE_TIMEOUT_MS)) {
+                System.err.println("Timed out flushing account saves");
+            }
+            // No save can queue another compaction now; let the last one finish
+            Future<?> last = compaction;
+            if (last != null) {
+                last.get(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Background account compaction did not finish: " + e);
+        }
+        journal.close();
+    }
+
+    // isThreadSafe - Map and writer are both safe to share
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    // describe - Names the backend and its file
+    @Override
+    public String describe() {
+        return "text " + file.getAbsolutePath();
+    }
+
+    // ---------- COMPACTION ----------
+
+    // compactInBackground - Queues one compaction on the compactor thread (no-op if one is queued)
+    private void compactInBackground() {
+        if (compactionQueued.compareAndSet(false, true)) {
+            compaction = COMPACTOR.submit(() -> {
+                compactionQueued.set(false);
+                try {
+                    compact();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+}
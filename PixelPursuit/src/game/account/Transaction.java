@@ -0,0 +1,120 @@
+package game.account;
+
+/**
+ * One immutable entry of the currency ledger (see CurrencyLedger):
+ *  - What happened to which account: signed vault gold / diamond deltas and the
+ *    unlock bit a purchase set (-1 for none).
+ *  - The vault balances right after it, so the log can be audited on its own.
+ *  - Serialized as one tab-separated line of the ledger log.
+ */
+public final class Transaction {
+
+    // Type - Why the balances changed
+    public enum Type { PAYOUT, PURCHASE }
+
+    // ---------- FIELDS ----------
+
+    private final long id;
+    private final long timeMillis;
+    private final Type type;
+    private final String username;
+    private final int gold;
+    private final int diamonds;
+    private final int unlockBit;
+    private final int vaultGoldAfter;
+    private final int vaultDiamondsAfter;
+    private final String item;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // Transaction - Creates an entry (item: what was bought or paid for; tabs and newlines are dropped)
+    public Transaction(long id, long timeMillis, Type type, String username,
+                       int gold, int diamonds, int unlockBit,
+                       int vaultGoldAfter, int vaultDiamondsAfter, String item) {
+        if (type == null || username == null) {
+            throw new IllegalArgumentException("type and username cannot be null");
+        }
+        this.id = id;
+        this.timeMillis = timeMillis;
+        this.type = type;
+        this.username = username;
+        this.gold = gold;
+        this.diamonds = diamonds;
+        this.unlockBit = unlockBit;
+        this.vaultGoldAfter = vaultGoldAfter;
+        this.vaultDiamondsAfter = vaultDiamondsAfter;
+        this.item = (item == null) ? "" : item.replaceAll("[\\t\\r\\n]", " ");
+    }
+
+    // ---------- GETTERS ----------
+
+    // getId - Returns the ledger-wide sequence number (increasing in log order)
+    public long getId()                 { return id; }
+
+    // getTimeMillis - Returns when the transaction was applied
+    public long getTimeMillis()         { return timeMillis; }
+
+    // getType - Returns whether this was a payout or a purchase
+    public Type getType()               { return type; }
+
+    // getUsername - Returns the account it changed
+    public String getUsername()         { return username; }
+
+    // getGold - Returns the vault gold delta (negative for purchases)
+    public int getGold()                { return gold; }
+
+    // getDiamonds - Returns the vault diamond delta (negative for purchases)
+    public int getDiamonds()            { return diamonds; }
+
+    // getUnlockBit - Returns the unlock bit a purchase set, or -1
+    public int getUnlockBit()           { return unlockBit; }
+
+    // getVaultGoldAfter - Returns the vault gold right after this transaction
+    public int getVaultGoldAfter()      { return vaultGoldAfter; }
+
+    // getVaultDiamondsAfter - Returns the vault diamonds right after this transaction
+    public int getVaultDiamondsAfter()  { return vaultDiamondsAfter; }
+
+    // getItem - Returns what was bought or paid for
+    public String getItem()             { return item; }
+
+    // ---------- SERIALIZATION ----------
+
+    // toLogLine - Serializes to one ledger log line
+    public String toLogLine() {
+        return id + "\t" + timeMillis + "\t" + type + "\t" + username + "\t"
+                + gold + "\t" + diamonds + "\t" + unlockBit + "\t"
+                + vaultGoldAfter + "\t" + vaultDiamondsAfter + "\t" + item;
+    }
+
+    // fromLogLine - Parses a line written by toLogLine; returns null if it is malformed
+    public static Transaction fromLogLine(String line) {
+        if (line == null) {
+            return null;
+        }
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 10) {
+            return null;
+        }
+        try {
+            return new Transaction(
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Type.valueOf(parts[2]),
+                    parts[3],
+                    Integer.parseInt(parts[4]),
+                    Integer.parseInt(parts[5]),
+                    Integer.parseInt(parts[6]),
+                    Integer.parseInt(parts[7]),
+                    Integer.parseInt(parts[8]),
+                    parts[9]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toLogLine();
+    }
+}
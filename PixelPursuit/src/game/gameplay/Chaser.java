@@ -1,6 +1,7 @@
 package game.gameplay;
 
 import game.world.Cell;
+import game.world.EntityStore;
 import game.world.Maze;
 
 /**
@@ -8,6 +9,7 @@ import game.world.Maze;
  *  - Lives on the Maze grid and occupies a single Cell at (x, y).
  *  - Updates once per tick and delegates movement decisions to its AI.
  *  - Moves only into in-bounds, walkable cells (multiple chasers can share a cell).
+ *  - Position and active flag live in the maze's EntityStore; this is a handle.
  */
 public class Chaser {
 
@@ -16,9 +18,8 @@ public class Chaser {
     private final Maze maze;
     private final ChaserAI ai;
 
-    private int x;
-    private int y;
-    private boolean active = true;
+    private final EntityStore store;
+    private final int id;
 
     // ---------- CONSTRUCTORS ----------
 
@@ -31,46 +32,69 @@ public class Chaser {
             throw new IllegalArgumentException("Chaser start out of bounds");
         }
 
-        this.x = startX;
-        this.y = startY;
+        this.store = maze.getEntities();
+        this.id = store.add(EntityStore.KIND_CHASER, startX, startY, aiKindOf(ai));
 
-        maze.getCell(x, y).addEntity(this);
+        maze.getCell(startX, startY).addEntity(this);
+    }
+
+    // aiKindOf - Maps an AI instance to the store's AI-kind column tag
+    private static byte aiKindOf(ChaserAI ai) {
+        if (ai == null)                  return EntityStore.AI_NONE;
+        if (ai instanceof SimpleChaserAI) return EntityStore.AI_SIMPLE;
+        if (ai instanceof DirectChaserAI) return EntityStore.AI_DIRECT;
+        return EntityStore.AI_CUSTOM;
+    }
+
+    // getMaze - Returns the maze whose EntityStore holds this chaser
+    Maze getMaze() {
+        return maze;
+    }
+
+    // getAi - Returns the AI driving this chaser (may be null)
+    ChaserAI getAi() {
+        return ai;
+    }
+
+    // getId - Returns this chaser's row in the maze's EntityStore
+    public int getId() {
+        return id;
     }
 
     // ---------- POSITION ----------
 
     // getX - Returns the current x-coordinate in the maze grid
     public int getX() { 
-        return x; 
+        return store.getX(id); 
     }
 
     // getY - Returns the current y-coordinate in the maze grid
     public int getY() { 
-        return y; 
+        return store.getY(id); 
     }
 
     // getCell - Returns the maze Cell currently occupied by this chaser
     public Cell getCell() {
-        return maze.getCell(x, y);
+        return maze.getCell(getX(), getY());
     }
 
     // ---------- STATE ----------
 
     // isActive - Returns true if this chaser is still active in the session
     public boolean isActive() {
-        return active;
+        return store.isActive(id);
     }
 
     // deactivate - Marks this chaser as inactive so it no longer updates or moves
     public void deactivate() {
-        active = false;
+        store.setActive(id, false);
     }
 
     // ---------- TICK / UPDATE ----------
 
     // update - Called each tick by Session to let the AI choose movement
     public void update(Session session) {
-        if (!active) return;
+        if (!isActive()) return;
         if (ai != null) {
             ai.update(this, session);
         }
@@ -80,9 +104,11 @@ public class Chaser {
 
     // moveBy - Attempts to move by (dx, dy) if the target cell is in-bounds and walkable
     public void moveBy(int dx, int dy) {
-        if (!active) return;
+        if (!isActive()) return;
         if (dx == 0 && dy == 0) return;
 
+        int x = getX();
+        int y = getY();
         int newX = x + dx;
         int newY = y + dy;
 
@@ -100,7 +126,6 @@ public class Chaser {
         current.removeEntity(this);
         target.addEntity(this);
 
-        x = newX;
-        y = newY;
+        store.setPosition(id, newX, newY);
     }
 }
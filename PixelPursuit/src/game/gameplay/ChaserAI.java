@@ -12,4 +12,9 @@ public interface ChaserAI {
 
     // update - Called once per tick so this AI can control the given chaser
     void update(Chaser chaser, Session session);
+
+    // getStateHash - Hash of any memory that steers later moves (RNG, targets, ...); 0 if none
+    default long getStateHash() {
+        return 0L;
+    }
 }
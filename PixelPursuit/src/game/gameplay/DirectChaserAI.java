@@ -0,0 +1,89 @@
+package game.gameplay;
+
+import game.world.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Chaser AI that always hunts the Runner:
+ *  - No roaming and no detection radius: every move follows a shortest path.
+ *  - Builds a BFS distance field from the Runner into reusable buffers.
+ *  - Mainly a baseline for comparing AI strategies in ChaserArena.
+ */
+public class DirectChaserAI implements ChaserAI {
+
+    // ---------- CONSTANTS ----------
+
+    // Same neighbor order as SimpleChaserAI so paths stay stable tick to tick
+    private static final int[] DX = { 1, 0, -1, 0 };
+    private static final int[] DY = { 0, 1, 0, -1 };
+
+    // ---------- FIELDS ----------
+
+    private int[] dist;
+    private int[] queue;
+
+    // ---------- MAIN UPDATE ----------
+
+    // update - Steps the chaser to the neighbor closest to the runner
+    @Override
+    public void update(Chaser chaser, Session session) {
+        if (!chaser.isActive()) {
+            return;
+        }
+
+        Maze maze = session.getMaze();
+        Runner runner = session.getRunner();
+        int w = maze.getWidth();
+        int h = maze.getHeight();
+
+        if (dist == null || dist.length != w * h) {
+            dist = new int[w * h];
+            queue = new int[w * h];
+        }
+
+        // BFS outward from the runner
+        Arrays.fill(dist, -1);
+        int start = runner.getY() * w + runner.getX();
+        dist[start] = 0;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            int cur = queue[head++];
+            int cx = cur % w;
+            int cy = cur / w;
+            for (int d = 0; d < DX.length; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (!maze.inBounds(nx, ny) || !maze.getCell(nx, ny).isWalkable()) {
+                    continue;
+                }
+                int next = ny * w + nx;
+                if (dist[next] >= 0) {
+                    continue;
+                }
+                dist[next] = dist[cur] + 1;
+                queue[tail++] = next;
+            }
+        }
+
+        // Step to the neighbor with the smallest distance
+        int cx = chaser.getX();
+        int cy = chaser.getY();
+        int here = dist[cy * w + cx];
+        if (here <= 0) {
+            return; // on the runner already, or runner unreachable
+        }
+
+        for (int d = 0; d < DX.length; d++) {
+            int nx = cx + DX[d];
+            int ny = cy + DY[d];
+            if (maze.inBounds(nx, ny) && dist[ny * w + nx] == here - 1) {
+                chaser.moveBy(DX[d], DY[d]);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package game.gameplay;
+
+import java.util.Arrays;
+
+/**
+ * Dense registry of the loot currently lying in the maze:
+ *  - The source of truth for live loot: rendering, bots and pickups all read
+ *    it, and Session.placeLoot is the only way in (the Cells mirror it for the
+ *    state hash and snapshots).
+ *  - Items live in packed parallel arrays, so rendering and AI scans touch
+ *    only live loot instead of every Cell.
+ *  - A cell-index map gives O(1) lookup by position; removal swaps the last
+ *    item into the hole (order is not preserved).
+ *  - Each item holds its despawn Timer, which is cancelled when the item is
+ *    removed for any other reason.
+ *  - Capacity is the live-loot cap; add() refuses items once full.
+ */
+public class LootRegistry {
+
+    // ---------- FIELDS ----------
+
+    private final int width;
+    private final int height;
+
+    // cell index (y * width + x) -> slot in the dense arrays, or -1
+    private final int[] slotByCell;
+
+    private final int[] cells;
+    private final boolean[] diamonds;
+    private final int[] amounts;
+    private final TimerWheel.Timer[] expiries;
+    private int size = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // LootRegistry - Creates an empty registry for a width x height maze
+    public LootRegistry(int width, int height, int capacity) {
+        if (width <= 0 || height <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("width, height and capacity must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.slotByCell = new int[width * height];
+        Arrays.fill(slotByCell, -1);
+
+        this.cells = new int[capacity];
+        this.diamonds = new boolean[capacity];
+        this.amounts = new int[capacity];
+        this.expiries = new TimerWheel.Timer[capacity];
+    }
+
+    // ---------- QUERIES ----------
+
+    // size - Returns the number of live items
+    public int size() {
+        return size;
+    }
+
+    // getCapacity - Returns the live-loot cap
+    public int getCapacity() {
+        return cells.length;
+    }
+
+    // isFull - Returns true if no more loot may spawn
+    public boolean isFull() {
+        return size == cells.length;
+    }
+
+    // contains - Returns true if a registered item lies on (x, y)
+    public boolean contains(int x, int y) {
+        return slotByCell[cellIndex(x, y)] >= 0;
+    }
+
+    // getX - Returns the x coordinate of the item in slot i (0 <= i < size)
+    public int getX(int i) {
+        return cells[i] % width;
+    }
+
+    // getY - Returns the y coordinate of the item in slot i
+    public int getY(int i) {
+        return cells[i] / width;
+    }
+
+    // isDiamond - Returns true if the item in slot i is a diamond
+    public boolean isDiamond(int i) {
+        return diamonds[i];
+    }
+
+    // getAmount - Returns the gold amount of the item in slot i (0 for diamonds)
+    public int getAmount(int i) {
+        return amounts[i];
+    }
+
+    // getExpiryTick - Returns the tick the item in slot i despawns, or -1 if it never does
+    public long getExpiryTick(int i) {
+        TimerWheel.Timer expiry = expiries[i];
+        return (expiry != null && expiry.isPending()) ? expiry.getDueTick() : -1L;
+    }
+
+    // ---------- MUTATION ----------
+
+    // add - Registers an item; returns false if full or the cell is already taken
+    public boolean add(int x, int y, boolean diamond, int amount, TimerWheel.Timer expiry) {
+        int cell = cellIndex(x, y);
+        if (isFull() || slotByCell[cell] >= 0) {
+            return false;
+        }
+        cells[size] = cell;
+        diamonds[size] = diamond;
+        amounts[size] = diamond ? 0 : amount;
+        expiries[size] = expiry;
+        slotByCell[cell] = size;
+        size++;
+        return true;
+    }
+
+    // remove - Unregisters the item on (x, y) and cancels its despawn; returns false if none
+    public boolean remove(int x, int y) {
+        int cell = cellIndex(x, y);
+        int slot = slotByCell[cell];
+        if (slot < 0) {
+            return false;
+        }
+        if (expiries[slot] != null) {
+            expiries[slot].cancel();
+        }
+
+        // Swap the last item into the hole
+        int last = size - 1;
+        if (slot != last) {
+            cells[slot] = cells[last];
+            diamonds[slot] = diamonds[last];
+            amounts[slot] = amounts[last];
+            expiries[slot] = expiries[last];
+            slotByCell[cells[slot]] = slot;
+        }
+        expiries[last] = null;
+        slotByCell[cell] = -1;
+        size = last;
+        return true;
+    }
+
+    // cellIndex - Flattens (x, y), rejecting positions outside the maze
+    private int cellIndex(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IllegalArgumentException("position outside the maze: " + x + "," + y);
+        }
+        return y * width + x;
+    }
+}
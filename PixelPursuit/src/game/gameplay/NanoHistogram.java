@@ -0,0 +1,105 @@
+package game.gameplay;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond durations (HdrHistogram-style):
+ *  - Values below 16 ns get their own bucket; above that every power of two is
+ *    split into 16 linear sub-buckets, so any value is recorded within ~6%.
+ *  - record() is a few shifts and an array increment, with no allocation.
+ *  - Not thread-safe; meant to be written and read from one thread (the EDT or
+ *    a simulation worker).
+ */
+public class NanoHistogram {
+
+    // ---------- CONSTANTS ----------
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;            // 16
+    private static final int BUCKETS = SUB_COUNT + (63 - SUB_BITS) * SUB_COUNT;
+
+    // ---------- FIELDS ----------
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    // ---------- RECORDING ----------
+
+    // record - Adds one duration in nanoseconds (negative values count as 0)
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[indexFor(nanos)]++;
+        totalCount++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    // reset - Clears all recorded values
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    // ---------- QUERIES ----------
+
+    // getCount - Returns how many values were recorded
+    public long getCount() {
+        return totalCount;
+    }
+
+    // getMean - Returns the mean duration in nanoseconds
+    public double getMean() {
+        return totalCount == 0 ? 0.0 : (double) totalNanos / totalCount;
+    }
+
+    // getMax - Returns the largest recorded duration in nanoseconds
+    public long getMax() {
+        return maxNanos;
+    }
+
+    // getPercentile - Returns the bucket lower bound holding quantile q (0..1), in nanoseconds
+    public long getPercentile(double q) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(q * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(lowerBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    // ---------- BUCKET MATH ----------
+
+    // indexFor - Maps a value to its bucket
+    static int indexFor(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);      // >= SUB_BITS
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return SUB_COUNT + (exponent - SUB_BITS) * SUB_COUNT + sub;
+    }
+
+    // lowerBound - Smallest value that maps to the given bucket
+    static long lowerBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int exponent = (index - SUB_COUNT) / SUB_COUNT + SUB_BITS;
+        int sub = (index - SUB_COUNT) % SUB_COUNT;
+        return (long) (SUB_COUNT + sub) << (exponent - SUB_BITS);
+    }
+}
@@ -1,22 +1,27 @@
 package game.gameplay;
 
 import game.world.Cell;
+import game.world.EntityStore;
 import game.world.Maze;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Player-controlled runner on the Maze grid:
  *  - Lives in maze cell coordinates (x, y), not pixels.
  *  - Supports “glide” movement that continues in a direction until stopped or blocked.
  *  - Updates once per tick via step(), applying desired direction changes first.
+ *  - Position and alive flag live in the maze's EntityStore; this is a handle.
  */
 public class Runner {
 
     // ---------- FIELDS ----------
 
     private final Maze maze;
-    private int x;
-    private int y;
-    private boolean alive = true;
+    private final EntityStore store;
+    private final int id;
 
     // Current movement direction for "glide" behavior
     // (-1,0) left, (1,0) right, (0,-1) up, (0,1) down, (0,0) = stopped
@@ -36,39 +41,44 @@ public class Runner {
             throw new IllegalArgumentException("Runner start out of bounds");
         }
 
-        this.x = startX;
-        this.y = startY;
+        this.store = maze.getEntities();
+        this.id = store.add(EntityStore.KIND_RUNNER, startX, startY, EntityStore.AI_NONE);
+
+        maze.getCell(startX, startY).addEntity(this);
+    }
 
-        maze.getCell(x, y).addEntity(this);
+    // getId - Returns this runner's row in the maze's EntityStore
+    public int getId() {
+        return id;
     }
 
     // ---------- POSITION ----------
 
     // getX - Returns the current x-coordinate in the maze grid
     public int getX() {
-        return x;
+        return store.getX(id);
     }
 
     // getY - Returns the current y-coordinate in the maze grid
     public int getY() {
-        return y;
+        return store.getY(id);
     }
 
     // getCell - Returns the maze Cell currently occupied by this runner
     public Cell getCell() {
-        return maze.getCell(x, y);
+        return maze.getCell(getX(), getY());
     }
 
     // ---------- STATE ----------
 
     // isAlive - Returns true if the runner is still alive
     public boolean isAlive() {
-        return alive;
+        return store.isActive(id);
     }
 
     // kill - Marks the runner as dead so it no longer moves
     public void kill() {
-        alive = false;
+        store.setActive(id, false);
     }
 
     // ---------- DIRECTION / GLIDE CONTROL ----------
@@ -97,11 +107,29 @@ public class Runner {
         this.desiredDirY = 0;
     }
 
+    // ---------- SNAPSHOT SUPPORT ----------
+
+    // writeState - Writes glide state (position / alive live in the EntityStore)
+    void writeState(DataOutput out) throws IOException {
+        out.writeByte(dirX);
+        out.writeByte(dirY);
+        out.writeByte(desiredDirX);
+        out.writeByte(desiredDirY);
+    }
+
+    // readState - Restores glide state written by writeState
+    void readState(DataInput in) throws IOException {
+        dirX = in.readByte();
+        dirY = in.readByte();
+        desiredDirX = in.readByte();
+        desiredDirY = in.readByte();
+    }
+
     // ---------- TICK / UPDATE ----------
 
     // step - Called each tick; updates direction then moves one cell if possible
     public void step() {
-        if (!alive) return;
+        if (!isAlive()) return;
 
         // Try to switch to the desired direction if it is different and valid
         if (desiredDirX != dirX || desiredDirY != dirY) {
@@ -131,8 +159,8 @@ public class Runner {
     private boolean canMove(int dx, int dy) {
         if (dx == 0 && dy == 0) return false;
 
-        int newX = x + dx;
-        int newY = y + dy;
+        int newX = getX() + dx;
+        int newY = getY() + dy;
 
         if (!maze.inBounds(newX, newY)) {
             return false;
@@ -145,9 +173,11 @@ public class Runner {
 
     // moveBy - Moves by (dx, dy) one step if not blocked and runner is alive
     public void moveBy(int dx, int dy) {
-        if (!alive) return;
+        if (!isAlive()) return;
         if (!canMove(dx, dy)) return;
 
+        int x = getX();
+        int y = getY();
         int newX = x + dx;
         int newY = y + dy;
 
@@ -157,7 +187,6 @@ public class Runner {
         current.removeEntity(this);
         target.addEntity(this);
 
-        x = newX;
-        y = newY;
+        store.setPosition(id, newX, newY);
     }
 }
@@ -0,0 +1,16 @@
+package game.gameplay;
+
+/**
+ * Controller contract for driving a Runner without a keyboard:
+ *  - Called once per tick, before the runner steps and the session updates.
+ *  - Implementations steer with Runner.setDirection(...) / Runner.stop(),
+ *    exactly like GamePanel.keyPressed does for a human player.
+ *  - Used by bots for headless simulations, calibration runs and soak tests.
+ */
+public interface RunnerController {
+
+    // ---------- CONTRACT ----------
+
+    // control - Called once per tick so this controller can steer the given runner
+    void control(Runner runner, Session session);
+}
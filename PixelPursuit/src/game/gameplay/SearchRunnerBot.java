@@ -0,0 +1,333 @@
+package game.gameplay;
+
+import game.settings.GameConfig;
+import game.world.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Search-based runner bot:
+ *  - Looks ahead over the runner's own moves with an iterative-deepening search.
+ *  - Models chasers pessimistically: every cell a chaser could reach in time is unsafe.
+ *  - Collects loot while it is safe and early in the run, then heads for the exit.
+ *  - Respects a per-tick time budget; a budget of 0 searches to a fixed depth
+ *    so headless simulations stay deterministic.
+ */
+public class SearchRunnerBot implements RunnerController {
+
+    // ---------- CONSTANTS ----------
+
+    // Move table: right, down, left, up, stay (index 4 = stop)
+    private static final int[] DX = { 1, 0, -1, 0, 0 };
+    private static final int[] DY = { 0, 1, 0, -1, 0 };
+    private static final int STAY = 4;
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 4;
+
+    // Scoring weights for leaf evaluation
+    private static final double DEATH_SCORE  = -1_000_000.0;
+    private static final double ESCAPE_SCORE =    100_000.0;
+    private static final double LOOT_WEIGHT  =      1_000.0;
+    private static final double EXIT_WEIGHT  =         10.0;
+    private static final double GREED_WEIGHT =         10.0;
+    private static final double SAFE_WEIGHT  =         25.0;
+    private static final int SAFE_CAP        = 6;
+
+    // Check the clock every this many nodes so nanoTime stays off the hot path
+    private static final int CLOCK_CHECK_MASK = 0xFF;
+
+    // ---------- FIELDS ----------
+
+    private final int maxDepth;
+    private final long budgetNanos;
+    private final double lootingSeconds;
+
+    // Chaser steps per runner tick (GamePanel ticks the runner faster than chasers move)
+    private final double chaserMovesPerTick;
+
+    // Per-maze buffers, rebuilt only when the maze changes
+    private Maze cachedMaze;
+    private int width;
+    private int height;
+    private boolean[] open;
+    private int[] exitDist;
+    private int[] chaserDist;
+    private int[] lootDist;
+    private int[] lootValue;
+    private int[] queue;
+
+    // Per-search state
+    private final int[] pathCells;
+    private int exitIndex;
+    private boolean collecting;
+    private long deadline;
+    private boolean outOfTime;
+    private int nodes;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // SearchRunnerBot - Default bot: depth 10, 2 ms per tick, loots for the first 60 seconds
+    public SearchRunnerBot() {
+        this(10, 2_000_000L, 60.0);
+    }
+
+    // SearchRunnerBot - Bot with explicit depth, per-tick budget (0 = fixed depth) and looting window
+    public SearchRunnerBot(int maxDepth, long budgetNanos, double lootingSeconds) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be at least 1");
+        }
+        this.maxDepth = maxDepth;
+        this.budgetNanos = budgetNanos;
+        this.lootingSeconds = lootingSeconds;
+        this.chaserMovesPerTick = (GameConfig.RUNNER_MOVE_INTERVAL_MS / 1000.0)
+                / GameConfig.CHASER_MOVE_INTERVAL_SEC;
+        this.pathCells = new int[maxDepth + 1];
+    }
+
+    // ---------- CONTROL ----------
+
+    // control - Searches for the best next move and steers the runner toward it
+    @Override
+    public void control(Runner runner, Session session) {
+        if (!runner.isAlive() || !session.isRunning()) {
+            return;
+        }
+
+        Maze maze = session.getMaze();
+        prepare(maze);
+        scanThreatsAndLoot(session);
+
+        collecting = hasLoot() && session.getElapsedTimeSeconds() < lootingSeconds;
+        deadline = (budgetNanos > 0) ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        outOfTime = false;
+        nodes = 0;
+
+        int start = index(runner.getX(), runner.getY());
+        pathCells[0] = start;
+
+        int bestMove = STAY;
+
+        // Iterative deepening: keep the answer of the deepest search that finished in time.
+        // Without a budget there is nothing to fall back on, so search maxDepth directly.
+        int firstDepth = (budgetNanos > 0) ? 1 : maxDepth;
+        for (int depth = firstDepth; depth <= maxDepth; depth++) {
+            int depthBest = STAY;
+            double depthBestValue = Double.NEGATIVE_INFINITY;
+
+            for (int m = 0; m < DX.length; m++) {
+                int next = neighbor(start, m);
+                if (next < 0) {
+                    continue;
+                }
+                double value = search(next, 1, depth, 0);
+                if (outOfTime) {
+                    break;
+                }
+                if (value > depthBestValue) {
+                    depthBestValue = value;
+                    depthBest = m;
+                }
+            }
+
+            if (outOfTime) {
+                break;
+            }
+            bestMove = depthBest;
+        }
+
+        if (bestMove == STAY) {
+            runner.stop();
+        } else {
+            runner.setDirection(DX[bestMove], DY[bestMove]);
+        }
+    }
+
+    // ---------- SEARCH ----------
+
+    // search - Returns the best achievable score after stepping onto cell at the given ply
+    private double search(int cell, int ply, int depth, int collected) {
+        if ((++nodes & CLOCK_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            outOfTime = true;
+            return 0.0;
+        }
+
+        int margin = chaserDist[cell] - chaserMovesAfter(ply);
+        if (margin <= 0) {
+            // Later deaths are less bad, so the bot still runs when cornered
+            return DEATH_SCORE + ply;
+        }
+
+        pathCells[ply] = cell;
+        if (!visitedEarlier(cell, ply)) {
+            collected += lootValue[cell];
+        }
+
+        if (cell == exitIndex) {
+            double escape = collecting ? 0.0 : ESCAPE_SCORE - ply;
+            return escape + collected * LOOT_WEIGHT;
+        }
+
+        if (ply == depth) {
+            return evaluate(cell, margin, collected);
+        }
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (int m = 0; m < DX.length; m++) {
+            int next = neighbor(cell, m);
+            if (next < 0) {
+                continue;
+            }
+            // Never walk straight back onto the previous cell; staying covers waiting
+            if (m != STAY && next == pathCells[ply - 1]) {
+                continue;
+            }
+            double value = search(next, ply + 1, depth, collected);
+            if (outOfTime) {
+                return 0.0;
+            }
+            if (value > best) {
+                best = value;
+            }
+        }
+        return best;
+    }
+
+    // evaluate - Scores a leaf by loot gathered, safety margin and distance to the current goal
+    private double evaluate(int cell, int margin, int collected) {
+        double value = collected * LOOT_WEIGHT + Math.min(margin, SAFE_CAP) * SAFE_WEIGHT;
+        if (collecting) {
+            if (lootDist[cell] < UNREACHABLE) {
+                value -= lootDist[cell] * GREED_WEIGHT;
+            }
+        } else if (exitDist[cell] < UNREACHABLE) {
+            value -= exitDist[cell] * EXIT_WEIGHT;
+        }
+        return value;
+    }
+
+    // chaserMovesAfter - Worst-case number of chaser steps after ply runner ticks
+    private int chaserMovesAfter(int ply) {
+        return (int) Math.ceil(ply * chaserMovesPerTick);
+    }
+
+    // visitedEarlier - Returns true if cell already appears earlier in the current path
+    private boolean visitedEarlier(int cell, int ply) {
+        for (int i = 0; i < ply; i++) {
+            if (pathCells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ---------- GRID HELPERS ----------
+
+    // prepare - Rebuilds walkability and exit distances when a new maze is seen
+    private void prepare(Maze maze) {
+        if (maze == cachedMaze) {
+            return;
+        }
+        cachedMaze = maze;
+        width = maze.getWidth();
+        height = maze.getHeight();
+
+        int size = width * height;
+        open = new boolean[size];
+        exitDist = new int[size];
+        chaserDist = new int[size];
+        lootDist = new int[size];
+        lootValue = new int[size];
+        queue = new int[size];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                open[index(x, y)] = maze.getCell(x, y).isWalkable();
+            }
+        }
+
+        exitIndex = index(maze.getExitX(), maze.getExitY());
+        Arrays.fill(exitDist, UNREACHABLE);
+        exitDist[exitIndex] = 0;
+        queue[0] = exitIndex;
+        bfs(exitDist, 1);
+    }
+
+    // scanThreatsAndLoot - Refreshes chaser and loot distance fields for this tick
+    private void scanThreatsAndLoot(Session session) {
+        Arrays.fill(chaserDist, UNREACHABLE);
+        int seeds = 0;
+        for (Chaser chaser : session.getChasers()) {
+            if (!chaser.isActive()) {
+                continue;
+            }
+            int c = index(chaser.getX(), chaser.getY());
+            if (chaserDist[c] != 0) {
+                chaserDist[c] = 0;
+                queue[seeds++] = c;
+            }
+        }
+        bfs(chaserDist, seeds);
+
+        // Only live loot from the registry, not a scan of every cell
+        Arrays.fill(lootDist, UNREACHABLE);
+        Arrays.fill(lootValue, 0);
+        seeds = 0;
+        LootRegistry loot = session.getLoot();
+        for (int k = 0; k < loot.size(); k++) {
+            int i = index(loot.getX(k), loot.getY(k));
+            lootValue[i] = loot.isDiamond(k) ? GameConfig.DIAMOND_GOLD_VALUE : loot.getAmount(k);
+            if (lootValue[i] > 0) {
+                lootDist[i] = 0;
+                queue[seeds++] = i;
+            }
+        }
+        bfs(lootDist, seeds);
+    }
+
+    // hasLoot - Returns true if any loot is reachable this tick
+    private boolean hasLoot() {
+        for (int i = 0; i < lootValue.length; i++) {
+            if (lootValue[i] > 0 && lootDist[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // bfs - Multi-source BFS over walkable cells; the first seedCount queue slots are the sources
+    private void bfs(int[] dist, int seedCount) {
+        int head = 0;
+        int tail = seedCount;
+        while (head < tail) {
+            int cur = queue[head++];
+            int nextDist = dist[cur] + 1;
+            for (int m = 0; m < STAY; m++) {
+                int next = neighbor(cur, m);
+                if (next < 0 || dist[next] <= nextDist) {
+                    continue;
+                }
+                dist[next] = nextDist;
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    // neighbor - Returns the walkable cell index reached by move m, or -1 if blocked
+    private int neighbor(int cell, int m) {
+        if (m == STAY) {
+            return cell;
+        }
+        int x = cell % width + DX[m];
+        int y = cell / width + DY[m];
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        int i = index(x, y);
+        return open[i] ? i : -1;
+    }
+
+    // index - Flattens (x, y) into a cell index
+    private int index(int x, int y) {
+        return y * width + x;
+    }
+}
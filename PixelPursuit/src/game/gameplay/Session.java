@@ -1,13 +1,20 @@
 package game.gameplay;
 
 import game.world.Cell;
+import game.world.EntityStore;
+import game.world.GameRandom;
 import game.world.Maze;
+import game.world.StateHash;
 import game.settings.GameConfig;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * One running game session:
@@ -22,6 +29,10 @@ public class Session {
     private final Maze maze;
     private final Runner runner;
     private final List<Chaser> chasers = new ArrayList<>();
+    private final List<Chaser> chasersView = Collections.unmodifiableList(chasers);
+
+    // Store ids of the chasers above; only these can catch the runner
+    private final BitSet chaserIds = new BitSet();
 
     private double elapsedTimeSeconds = 0.0;
     private boolean running = true;
@@ -33,34 +44,95 @@ public class Session {
     private int pickupDiamonds = 0; // number of diamond pickups
 
     // Chaser movement pacing
-    private double chaserMoveAccumulator = 0.0;
     // values pulled from GameConfig to keep magic numbers in one place
     private static final double CHASER_MOVE_INTERVAL =
             GameConfig.CHASER_MOVE_INTERVAL_SEC; // seconds per step
 
     // Gold spawning pacing
-    private double goldSpawnAccumulator = 0.0;
     private final double goldSpawnInterval;
     private final double diamondChance;
 
+    // Spawned loot: live items, capped and despawned after LOOT_LIFETIME
+    private static final long LOOT_LIFETIME_TICKS =
+            secondsToTicks(GameConfig.LOOT_LIFETIME_SEC);
+    private final LootRegistry loot;
+
+    // Despawn tasks, one per loot slot, built up front and re-armed instead of reallocated
+    private final LootExpiry[] lootExpiries;
+
     // Survival gold pacing
-    private double survivalGoldAccumulator = 0.0;
     private static final double SURVIVAL_GOLD_INTERVAL =
             GameConfig.SURVIVAL_GOLD_INTERVAL_SEC; // seconds between survival ticks
     private static final int SURVIVAL_GOLD_PER_TICK =
             GameConfig.SURVIVAL_GOLD_PER_TICK;     // base gold per survival tick
 
-    private final Random rng = new Random();
+    private final GameRandom rng;
+
+    // Every periodic / one-shot mechanic runs on one wheel ticking every TIMER_TICK
+    private static final double TIMER_TICK = GameConfig.TIMER_TICK_SEC;
+    private final TimerWheel timers = new TimerWheel();
+    private TimerWheel.Timer survivalTimer;
+    private TimerWheel.Timer chaserTimer;
+    private TimerWheel.Timer lootTimer;
+
+    // Per-phase timing, off unless toggled on
+    private final TickProfiler profiler = new TickProfiler();
+    private boolean profilingTick = false;
+
+    // Set once this update() has taken the runner's pickups
+    private boolean pickedUp = false;
+
+    // Gameplay events for the HUD and any other consumers
+    private final SessionEventBuffer events = new SessionEventBuffer();
+    private boolean exitPublished = false;
+
+    // Counter values last folded into the maze's StateHash, one slot per counter
+    private final long[] hashedCounters = new long[8];
 
     // ---------- CONSTRUCTORS ----------
 
     // Session - Creates a new game session using the given maze and runner
     public Session(Maze maze, Runner runner) {
+        this(maze, runner,
+             GameConfig.getGoldSpawnIntervalForCurrentDifficulty(),
+             GameConfig.getDiamondChanceForCurrentDifficulty(),
+             new GameRandom());
+    }
+
+    // Session - Creates a session with explicit loot tuning and RNG (used by simulations)
+    public Session(Maze maze, Runner runner,
+                   double goldSpawnInterval, double diamondChance, GameRandom rng) {
+        if (goldSpawnInterval <= 0.0) {
+            throw new IllegalArgumentException("goldSpawnInterval must be positive");
+        }
+        if (rng == null) {
+            throw new IllegalArgumentException("rng cannot be null");
+        }
         this.maze = maze;
         this.runner = runner;
+        this.loot = new LootRegistry(maze.getWidth(), maze.getHeight(), GameConfig.MAX_LIVE_LOOT);
+        this.lootExpiries = new LootExpiry[loot.getCapacity()];
+        for (int i = 0; i < lootExpiries.length; i++) {
+            lootExpiries[i] = new LootExpiry();
+        }
+
+        this.goldSpawnInterval = goldSpawnInterval;
+        this.diamondChance     = diamondChance;
+        this.rng               = rng;
+
+        // Scheduled in this order so coinciding ticks resolve gold -> chasers -> loot
+        long survivalTicks = secondsToTicks(SURVIVAL_GOLD_INTERVAL);
+        long chaserTicks   = secondsToTicks(CHASER_MOVE_INTERVAL);
+        long lootTicks     = secondsToTicks(goldSpawnInterval);
+        survivalTimer = timers.scheduleRepeating(survivalTicks, survivalTicks, this::awardSurvivalGold);
+        chaserTimer   = timers.scheduleRepeating(chaserTicks, chaserTicks, this::moveChasers);
+        lootTimer     = timers.scheduleRepeating(lootTicks, lootTicks, this::spawnRandomLoot);
+        rehashCounters();
+    }
 
-        this.goldSpawnInterval = GameConfig.getGoldSpawnIntervalForCurrentDifficulty();
-        this.diamondChance     = GameConfig.getDiamondChanceForCurrentDifficulty();
+    // secondsToTicks - Rounds a duration to whole timer ticks (at least one)
+    public static long secondsToTicks(double seconds) {
+        return Math.max(1L, Math.round(seconds / TIMER_TICK));
     }
 
     // ---------- ACCESSORS / INFO ----------
@@ -77,16 +149,87 @@ public class Session {
 
     // getChasers - Returns an unmodifiable view of all chasers in this session
     public List<Chaser> getChasers() {
-        return Collections.unmodifiableList(chasers);
+        return chasersView;
     }
 
-    // addChaser - Registers a new chaser with this session
+    // addChaser - Registers a new chaser with this session (it must live on this session's maze)
     public void addChaser(Chaser chaser) {
         if (chaser != null) {
+            if (chaser.getMaze() != maze) {
+                throw new IllegalArgumentException("Chaser belongs to another maze");
+            }
             chasers.add(chaser);
+            chaserIds.set(chaser.getId());
+        }
+    }
+
+    // spawnChasers - Places count chasers near the exit, one AI per chaser from aiFactory
+    public void spawnChasers(int count, Supplier<ChaserAI> aiFactory) {
+        int spawnX = Math.max(1, maze.getExitX() - 3);
+        int baseY = maze.getExitY();
+
+        for (int i = 0; i < count; i++) {
+            int dy = (i - (count - 1) / 2);
+            int spawnY = baseY + 2 * dy;
+
+            // clamp inside borders
+            spawnY = Math.max(1, Math.min(maze.getHeight() - 2, spawnY));
+
+            // walk upward until we find a walkable spawn cell
+            while (!maze.getCell(spawnX, spawnY).isWalkable() && spawnY > 1) {
+                spawnY--;
+            }
+
+            addChaser(new Chaser(maze, spawnX, spawnY, aiFactory.get()));
         }
     }
 
+    // getGoldSpawnInterval - Returns seconds between loot spawns
+    public double getGoldSpawnInterval() {
+        return goldSpawnInterval;
+    }
+
+    // getDiamondChance - Returns the chance a loot spawn is a diamond
+    public double getDiamondChance() {
+        return diamondChance;
+    }
+
+    // getLoot - Returns the registry of live loot; only loot in it can be seen or picked up
+    public LootRegistry getLoot() {
+        return loot;
+    }
+
+    // getTimers - Returns the session's timer wheel, for scheduling extra timed mechanics
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    // getStateHash - Returns a hash of the full run state: maze cells, entities, counters,
+    // timer position, RNG, each chaser AI's memory, the periodic timers' due ticks and
+    // every loot item's expiry tick; equal runs give equal hashes. Timers scheduled by
+    // other code through getTimers() are not included
+    public long getStateHash() {
+        long h = maze.getStateHash().get() ^ StateHash.key(StateHash.RNG, 0, 0, rng.getState());
+        for (int i = 0; i < chasers.size(); i++) {
+            ChaserAI ai = chasers.get(i).getAi();
+            if (ai != null) {
+                h ^= StateHash.key(StateHash.CHASER_AI, i, 0, ai.getStateHash());
+            }
+        }
+        h ^= StateHash.key(StateHash.TIMER_DUE, 0, 0, survivalTimer.getDueTick());
+        h ^= StateHash.key(StateHash.TIMER_DUE, 1, 0, chaserTimer.getDueTick());
+        h ^= StateHash.key(StateHash.TIMER_DUE, 2, 0, lootTimer.getDueTick());
+        for (int i = 0; i < loot.size(); i++) {
+            h ^= StateHash.key(StateHash.LOOT_EXPIRY, loot.getX(i), loot.getY(i), loot.getExpiryTick(i));
+        }
+        return h;
+    }
+
+    // getEvents - Returns the event stream consumers drain after each update
+    public SessionEventBuffer getEvents() {
+        return events;
+    }
+
     // getElapsedTimeSeconds - Returns the total elapsed time in seconds
     public double getElapsedTimeSeconds() {
         return elapsedTimeSeconds;
@@ -112,6 +255,11 @@ public class Session {
         return pickupDiamonds;
     }
 
+    // getProfiler - Returns the per-phase tick profiler for this session
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
     // isRunning - Returns true while the session is active
     public boolean isRunning() {
         return running;
@@ -120,6 +268,7 @@ public class Session {
     // endSession - Stops the session so update() no longer advances the game
     public void endSession() {
         running = false;
+        rehashCounters();
     }
 
     // isRunnerAtExit - Returns true if the runner is currently on the exit cell
@@ -133,26 +282,71 @@ public class Session {
     public void update(double deltaSeconds) {
         if (!running) return;
 
+        // Profiling is opt-in; when off, no clock reads happen at all
+        boolean profiling = profiler.isEnabled();
+        long tickStart = profiling ? System.nanoTime() : 0L;
+        long t = tickStart;
+
         // 1) Time
         elapsedTimeSeconds += deltaSeconds;
+        if (profiling) t = profiler.lap(TickProfiler.Phase.TIME, t);
+
+        // 2) Timed mechanics: survival gold, then (via collectPickupsOnce) pickups, chaser moves,
+        //    loot spawns, ... Pickups taken inside a timer task are counted under TIMERS
+        profilingTick = profiling;
+        pickedUp = false;
+        timers.advanceTo((long) Math.floor(elapsedTimeSeconds / TIMER_TICK + 1e-6));
+        if (profiling) t = profiler.lap(TickProfiler.Phase.TIMERS, t);
+
+        // 3) Pickup gold/diamonds if runner is standing on them (unless step 2 already did)
+        collectPickupsOnce();
+        if (profiling) t = profiler.lap(TickProfiler.Phase.PICKUPS, t);
+
+        // 4) Collision: chaser on runner?
+        checkCollisions();
+        rehashCounters();
+        if (profiling) {
+            t = profiler.lap(TickProfiler.Phase.COLLISION, t);
+            profiler.record(TickProfiler.Phase.TOTAL, t - tickStart);
+        }
+    }
+
+    // ---------- UPDATE PHASES ----------
 
-        // 2) Survival gold (time-based)
-        survivalGoldAccumulator += deltaSeconds;
-        if (survivalGoldAccumulator >= SURVIVAL_GOLD_INTERVAL) {
-            int ticks = (int) (survivalGoldAccumulator / SURVIVAL_GOLD_INTERVAL);
-            survivalGoldAccumulator -= ticks * SURVIVAL_GOLD_INTERVAL;
+    // awardSurvivalGold - Timer task: pays SURVIVAL_GOLD_PER_TICK every survival interval
+    private void awardSurvivalGold() {
+        long start = profilingTick ? System.nanoTime() : 0L;
+
+        int gained = SURVIVAL_GOLD_PER_TICK;
+        timeGold += gained;
+        runGold  += gained;
+        publish(SessionEventType.SURVIVAL_GOLD, runner.getX(), runner.getY(), gained);
+
+        if (profilingTick) profiler.record(TickProfiler.Phase.SURVIVAL_GOLD, System.nanoTime() - start);
+    }
 
-            int gained = ticks * SURVIVAL_GOLD_PER_TICK;
-            timeGold += gained;
-            runGold  += gained;
+    // collectPickupsOnce - Takes the runner's pickups the first time it is called in an update();
+    //                     chaser and loot tasks call it first, so pickups always come after
+    //                     survival gold and before chaser moves and loot spawns
+    private void collectPickupsOnce() {
+        if (!pickedUp) {
+            pickedUp = true;
+            collectPickups();
         }
+    }
 
-        // 3) Pickup gold/diamonds if runner is standing on them
+    // collectPickups - Takes the registered gold or diamond on the runner's cell
+    private void collectPickups() {
+        if (!loot.remove(runner.getX(), runner.getY())) {
+            return; // nothing live here (picked up: its despawn is cancelled)
+        }
         Cell rc = maze.getCell(runner.getX(), runner.getY());
+
         if (rc.hasGold()) {
             int amount = rc.takeGold(); // clears gold in the cell
             pickupGold += amount;
             runGold    += amount;
+            publish(SessionEventType.GOLD_PICKUP, runner.getX(), runner.getY(), amount);
         }
         if (rc.hasDiamond()) {
             rc.takeDiamond();
@@ -161,33 +355,146 @@ public class Session {
             int value = GameConfig.DIAMOND_GOLD_VALUE;
             pickupGold += value;   // treat as bonus score
             runGold    += value;
+            publish(SessionEventType.DIAMOND_PICKUP, runner.getX(), runner.getY(), value);
         }
+    }
 
-        // 4) Move chasers at a slower rate
-        chaserMoveAccumulator += deltaSeconds;
-        if (chaserMoveAccumulator >= CHASER_MOVE_INTERVAL) {
-            chaserMoveAccumulator -= CHASER_MOVE_INTERVAL;
-
-            for (Chaser chaser : chasers) {
+    // moveChasers - Timer task: lets every chaser's AI move once
+    private void moveChasers() {
+        collectPickupsOnce();
+        long phaseStart = profilingTick ? System.nanoTime() : 0L;
+
+        for (int i = 0; i < chasers.size(); i++) {
+            Chaser chaser = chasers.get(i);
+            int oldX = chaser.getX();
+            int oldY = chaser.getY();
+            if (profilingTick) {
+                long start = System.nanoTime();
+                chaser.update(this);
+                profiler.recordChaser(i, System.nanoTime() - start);
+            } else {
                 chaser.update(this);
             }
+            if (chaser.getX() != oldX || chaser.getY() != oldY) {
+                publish(SessionEventType.CHASER_MOVE, chaser.getX(), chaser.getY(), chaser.getId());
+            }
         }
 
-        // 5) Spawn random loot occasionally
-        goldSpawnAccumulator += deltaSeconds;
-        if (goldSpawnAccumulator >= goldSpawnInterval) {
-            goldSpawnAccumulator -= goldSpawnInterval;
-            spawnRandomLoot();
+        if (profilingTick) profiler.record(TickProfiler.Phase.CHASERS, System.nanoTime() - phaseStart);
+    }
+
+    // checkCollisions - Ends the run if any chaser shares the runner's cell
+    private void checkCollisions() {
+        // Occupancy lookup on the runner's cell only, limited to this session's chasers
+        // (the maze's store may hold others, e.g. ones never added or left by an earlier run)
+        int catcher = maze.getEntities().firstAt(EntityStore.KIND_CHASER, runner.getX(), runner.getY(), chaserIds);
+        if (catcher >= 0) {
+            runner.kill();
+            running = false;
+            publish(SessionEventType.CAPTURE, runner.getX(), runner.getY(), catcher);
+            return;
         }
 
-        // 6) Collision: chaser on runner?
-        for (Chaser chaser : chasers) {
-            if (chaser.getX() == runner.getX() && chaser.getY() == runner.getY()) {
-                runner.kill();
-                running = false;
-                break;
-            }
+        // The window / simulation decides what reaching the exit means; just report it once
+        if (!exitPublished && runner.isAlive() && isRunnerAtExit()) {
+            exitPublished = true;
+            publish(SessionEventType.EXIT, runner.getX(), runner.getY(), 0);
+        }
+    }
+
+    // publish - Stamps an event with the current session time
+    private void publish(SessionEventType type, int x, int y, int value) {
+        events.publish(type, x, y, value, elapsedTimeSeconds);
+    }
+
+    // ---------- STATE HASH ----------
+
+    // rehashCounters - Folds counter changes into the maze's StateHash (O(1), once per update)
+    private void rehashCounters() {
+        foldCounter(0, Double.doubleToLongBits(elapsedTimeSeconds));
+        foldCounter(1, running ? 1 : 0);
+        foldCounter(2, exitPublished ? 1 : 0);
+        foldCounter(3, runGold);
+        foldCounter(4, timeGold);
+        foldCounter(5, pickupGold);
+        foldCounter(6, pickupDiamonds);
+        foldCounter(7, timers.getCurrentTick());
+    }
+
+    // foldCounter - Replaces one counter's contribution if it changed
+    private void foldCounter(int slot, long value) {
+        maze.getStateHash().replace(StateHash.COUNTER, slot, 0, hashedCounters[slot], value);
+        hashedCounters[slot] = value;
+    }
+
+    // ---------- SNAPSHOT SUPPORT ----------
+
+    // writeState - Writes counters, RNG, timer positions and live loot (see SessionSnapshot)
+    void writeState(DataOutput out) throws IOException {
+        out.writeDouble(elapsedTimeSeconds);
+        out.writeBoolean(running);
+        out.writeBoolean(exitPublished);
+        out.writeInt(runGold);
+        out.writeInt(timeGold);
+        out.writeInt(pickupGold);
+        out.writeInt(pickupDiamonds);
+        out.writeLong(rng.getState());
+
+        out.writeLong(timers.getCurrentTick());
+        out.writeLong(survivalTimer.getDueTick());
+        out.writeLong(chaserTimer.getDueTick());
+        out.writeLong(lootTimer.getDueTick());
+
+        out.writeInt(loot.size());
+        for (int i = 0; i < loot.size(); i++) {
+            out.writeInt(loot.getX(i));
+            out.writeInt(loot.getY(i));
+            out.writeBoolean(loot.isDiamond(i));
+            out.writeInt(loot.getAmount(i));
+            out.writeLong(loot.getExpiryTick(i));
+        }
+    }
+
+    // readState - Restores what writeState wrote into a freshly built session
+    void readState(DataInput in) throws IOException {
+        elapsedTimeSeconds = in.readDouble();
+        running = in.readBoolean();
+        exitPublished = in.readBoolean();
+        runGold = in.readInt();
+        timeGold = in.readInt();
+        pickupGold = in.readInt();
+        pickupDiamonds = in.readInt();
+        rng.setState(in.readLong());
+
+        long tick = in.readLong();
+        long survivalDue = in.readLong();
+        long chaserDue = in.readLong();
+        long lootDue = in.readLong();
+
+        // Re-create the periodic timers in their original order so same-tick ordering holds
+        long survivalPeriod = secondsToTicks(SURVIVAL_GOLD_INTERVAL);
+        long chaserPeriod   = secondsToTicks(CHASER_MOVE_INTERVAL);
+        long lootPeriod     = secondsToTicks(goldSpawnInterval);
+        survivalTimer.cancel();
+        chaserTimer.cancel();
+        lootTimer.cancel();
+        timers.skipTo(tick);
+        survivalTimer = timers.scheduleRepeating(survivalDue - tick, survivalPeriod, this::awardSurvivalGold);
+        chaserTimer   = timers.scheduleRepeating(chaserDue - tick, chaserPeriod, this::moveChasers);
+        lootTimer     = timers.scheduleRepeating(lootDue - tick, lootPeriod, this::spawnRandomLoot);
+
+        int lootCount = in.readInt();
+        for (int i = 0; i < lootCount; i++) {
+            int x = in.readInt();
+            int y = in.readInt();
+            boolean diamond = in.readBoolean();
+            int amount = in.readInt();
+            long due = in.readLong();
+
+            TimerWheel.Timer expiry = (due > tick) ? scheduleExpiry(x, y, due - tick) : null;
+            loot.add(x, y, diamond, amount, expiry);
         }
+        rehashCounters();
     }
 
     // ---------- LOOT SPAWNING ----------
@@ -201,8 +508,18 @@ public class Session {
                 y < marginY || y >= h - marginY);
     }
 
-    // spawnRandomLoot - Spawns gold or a diamond in a random walkable cell
+    // spawnRandomLoot - Timer task: spawns gold or a diamond in a random walkable cell
     private void spawnRandomLoot() {
+        collectPickupsOnce();
+        long start = profilingTick ? System.nanoTime() : 0L;
+        if (!loot.isFull()) {
+            placeRandomLoot();
+        }
+        if (profilingTick) profiler.record(TickProfiler.Phase.LOOT_SPAWN, System.nanoTime() - start);
+    }
+
+    // placeRandomLoot - Tries up to 100 random cells for a valid loot spot
+    private void placeRandomLoot() {
         int w = maze.getWidth();
         int h = maze.getHeight();
 
@@ -215,9 +532,8 @@ public class Session {
             if (x == maze.getEntranceX() && y == maze.getEntranceY()) continue;
             if (x == maze.getExitX() && y == maze.getExitY())         continue;
 
-            Cell c = maze.getCell(x, y);
-            if (!c.isWalkable())              continue;
-            if (c.hasGold() || c.hasDiamond()) continue;
+            if (!maze.getCell(x, y).isWalkable()) continue;
+            if (loot.contains(x, y))               continue;
 
             boolean outer = isOuterRing(x, y, w, h);
 
@@ -229,12 +545,80 @@ public class Session {
             // Decide whether this spawn is a diamond.
             // Diamonds only spawn on outer ring to really reward exploration.
             boolean wantDiamond = (rng.nextDouble() < diamondChance);
-            if (wantDiamond) {
-                c.setDiamond(true);
-            } else {
-                c.setGold(1);
-            }
+            placeLoot(x, y, wantDiamond, 1);
             break;
         }
     }
+
+    // placeLoot - Puts amount gold (or a diamond) on (x, y) with the usual despawn timer. Every
+    //             loot placement goes through here, so the registry, the cells and the renderer
+    //             agree; returns false if the registry is full or (x, y) already holds loot
+    public boolean placeLoot(int x, int y, boolean diamond, int amount) {
+        if (!diamond && amount <= 0) {
+            throw new IllegalArgumentException("Gold amount must be positive");
+        }
+        if (loot.isFull() || loot.contains(x, y)) {
+            return false;
+        }
+        TimerWheel.Timer expiry = scheduleExpiry(x, y, LOOT_LIFETIME_TICKS);
+        loot.add(x, y, diamond, amount, expiry);
+
+        Cell c = maze.getCell(x, y);
+        if (diamond) {
+            c.setDiamond(true);
+            publish(SessionEventType.DIAMOND_SPAWN, x, y, 1);
+        } else {
+            c.setGold(amount);
+            publish(SessionEventType.GOLD_SPAWN, x, y, amount);
+        }
+        return true;
+    }
+
+    // scheduleExpiry - Arms a free despawn task for the item on (x, y)
+    private TimerWheel.Timer scheduleExpiry(int x, int y, long delayTicks) {
+        for (LootExpiry expiry : lootExpiries) {
+            // Fired or cancelled (picked up) timers are free to reuse; one still
+            // in this tick's firing batch is not
+            if (expiry.timer.isIdle()) {
+                expiry.x = x;
+                expiry.y = y;
+                return timers.reschedule(expiry.timer, delayTicks);
+            }
+        }
+        // Cannot happen while the registry caps live loot at lootExpiries.length
+        throw new IllegalStateException("no free loot expiry");
+    }
+
+    // expireLoot - Timer task: removes loot that was never picked up
+    private void expireLoot(int x, int y) {
+        loot.remove(x, y);
+
+        Cell c = maze.getCell(x, y);
+        if (c.hasDiamond()) {
+            c.takeDiamond();
+            publish(SessionEventType.DIAMOND_EXPIRE, x, y, 1);
+        }
+        if (c.hasGold()) {
+            publish(SessionEventType.GOLD_EXPIRE, x, y, c.takeGold());
+        }
+    }
+
+    // ---------- LOOT EXPIRY ----------
+
+    /**
+     * Reusable despawn task: one per live loot slot, re-pointed at a new cell
+     * each time its timer is re-armed.
+     */
+    private final class LootExpiry implements Runnable {
+
+        private final TimerWheel.Timer timer = timers.newIdleTimer(this);
+        private int x;
+        private int y;
+
+        // run - Despawns the item this task currently points at
+        @Override
+        public void run() {
+            expireLoot(x, y);
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package game.gameplay;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer ring buffer of Session events:
+ *  - Events are stored column-wise in preallocated primitive arrays, so
+ *    publish() and drain() never allocate.
+ *  - The producer (the thread running Session.update) fills a slot, then
+ *    releases it with a lazySet of the published sequence; no locks.
+ *  - Each consumer (HUD, telemetry, replay, sound...) owns a Cursor and drains
+ *    at its own pace, from the same thread or another one.
+ *  - The producer never waits: a consumer that falls capacity events or more
+ *    behind skips ahead to the newest capacity - 1 (the oldest slot may be
+ *    mid-overwrite) and the skipped events are counted in Cursor.getMissed().
+ *  - A consumer on another thread reads a slot, then re-reads the published
+ *    sequence behind a load fence (seqlock style) and drops the event if the
+ *    producer may have reused the slot meanwhile.
+ */
+public class SessionEventBuffer {
+
+    // ---------- CONSTANTS ----------
+
+    // DEFAULT_CAPACITY - Minutes of normal play; a HUD drains every tick anyway
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // ---------- FIELDS ----------
+
+    private final int mask;
+
+    private final byte[] types;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] values;
+    private final double[] times;
+
+    // Sequence of the next event to publish; everything below it is readable
+    private final AtomicLong published = new AtomicLong(0);
+
+    // ---------- CONSTRUCTORS ----------
+
+    // SessionEventBuffer - Creates a buffer with DEFAULT_CAPACITY slots
+    public SessionEventBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // SessionEventBuffer - Creates a buffer; capacity must be a power of two
+    public SessionEventBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two >= 2");
+        }
+        this.mask = capacity - 1;
+        this.types = new byte[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.values = new int[capacity];
+        this.times = new double[capacity];
+    }
+
+    // ---------- PRODUCER ----------
+
+    // publish - Appends one event; only the session's update thread may call this
+    public void publish(SessionEventType type, int x, int y, int value, double timeSeconds) {
+        long seq = published.get();
+        int slot = (int) seq & mask;
+        types[slot] = (byte) type.ordinal();
+        xs[slot] = x;
+        ys[slot] = y;
+        values[slot] = value;
+        times[slot] = timeSeconds;
+        published.lazySet(seq + 1); // release: slot writes become visible first
+    }
+
+    // ---------- CONSUMERS ----------
+
+    // getCapacity - Returns the number of slots
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    // getPublished - Returns how many events have ever been published
+    public long getPublished() {
+        return published.get();
+    }
+
+    // newCursor - Creates a consumer cursor that starts at the next published event
+    public Cursor newCursor() {
+        return new Cursor(published.get());
+    }
+
+    // drain - Hands every unread event to handler, oldest first; returns how many were delivered
+    public int drain(Cursor cursor, SessionEventHandler handler) {
+        long end = published.get(); // acquire
+        long pos = cursor.next;
+        int capacity = mask + 1;
+
+        // Lapped: the oldest unread slots were overwritten. Slot pos is also unsafe when
+        // end - pos == capacity: the producer writes seq end into it before publishing end + 1
+        if (end - pos >= capacity) {
+            cursor.missed += end - capacity + 1 - pos;
+            pos = end - capacity + 1;
+        }
+
+        int delivered = 0;
+        while (pos < end) {
+            int slot = (int) pos & mask;
+            SessionEventType type = SessionEventType.fromOrdinal(types[slot]);
+            int x = xs[slot];
+            int y = ys[slot];
+            int value = values[slot];
+            double time = times[slot];
+
+            // A producer on another thread may have reused the slot while we read it; the fence
+            // keeps the slot reads above from moving below the re-read of published
+            VarHandle.acquireFence();
+            long now = published.get();
+            if (now - pos >= capacity) {
+                cursor.missed += now - capacity + 1 - pos;
+                pos = now - capacity + 1;
+                end = Math.max(end, now);
+                continue;
+            }
+
+            handler.onEvent(type, x, y, value, time);
+            delivered++;
+            pos++;
+        }
+        cursor.next = pos;
+        return delivered;
+    }
+
+    // ---------- CURSOR ----------
+
+    /**
+     * Read position of one consumer. Owned by that consumer's thread.
+     */
+    public static final class Cursor {
+
+        private long next;
+        private long missed = 0;
+
+        // Cursor - Starts reading at the given sequence
+        private Cursor(long next) {
+            this.next = next;
+        }
+
+        // getNext - Returns the sequence of the next event this cursor will read
+        public long getNext() {
+            return next;
+        }
+
+        // getMissed - Returns how many events were overwritten before this cursor read them
+        public long getMissed() {
+            return missed;
+        }
+    }
+}
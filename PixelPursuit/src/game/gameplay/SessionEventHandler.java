@@ -0,0 +1,13 @@
+package game.gameplay;
+
+/**
+ * Callback used to drain a SessionEventBuffer:
+ *  - Receives each event as primitives, so draining never allocates.
+ *  - Keep one handler instance per consumer rather than a fresh lambda per drain.
+ */
+@FunctionalInterface
+public interface SessionEventHandler {
+
+    // onEvent - Called once per event, oldest first
+    void onEvent(SessionEventType type, int x, int y, int value, double timeSeconds);
+}
@@ -0,0 +1,26 @@
+package game.gameplay;
+
+/**
+ * Kinds of events a Session publishes to its SessionEventBuffer:
+ *  - x / y are the cell the event happened on.
+ *  - value carries the per-type payload noted on each constant.
+ */
+public enum SessionEventType {
+    SURVIVAL_GOLD,   // value = gold awarded for surviving
+    GOLD_PICKUP,     // value = gold picked up
+    DIAMOND_PICKUP,  // value = bonus gold granted for the diamond
+    GOLD_SPAWN,      // value = gold placed on the cell
+    DIAMOND_SPAWN,   // value = 1
+    GOLD_EXPIRE,     // value = gold that despawned
+    DIAMOND_EXPIRE,  // value = 1
+    CHASER_MOVE,     // value = chaser's EntityStore id
+    CAPTURE,         // value = EntityStore id of the chaser that caught the runner
+    EXIT;            // value = 0
+
+    private static final SessionEventType[] VALUES = values();
+
+    // fromOrdinal - Looks up a type without the array copy values() makes
+    static SessionEventType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
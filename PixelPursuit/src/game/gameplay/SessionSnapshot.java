@@ -0,0 +1,304 @@
+package game.gameplay;
+
+import game.settings.Difficulty;
+import game.world.Cell;
+import game.world.EntityStore;
+import game.world.GameRandom;
+import game.world.Maze;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Versioned binary save of a whole run, so it can be suspended and resumed
+ * across restarts:
+ *  - Covers maze cells, entrance/exit, live loot with despawn ticks, runner
+ *    and chaser rows, timer wheel positions, chaser AI memory and every RNG state.
+ *  - Encoding is plain DataOutput primitives into one byte array; capturing on
+ *    the EDT is a single pass over the state, and the file write happens on a
+ *    background thread (write to temp file, then rename).
+ *  - Not saved: the event stream and the profiler (consumers start fresh).
+ *  - Chasers must use SimpleChaserAI, DirectChaserAI or no AI.
+ *
+ * Layout (version 1): MAGIC, VERSION, difficulty, session tuning, maze, entities, session state.
+ */
+public final class SessionSnapshot {
+
+    // ---------- CONSTANTS ----------
+
+    private static final int MAGIC = 0x50505356;   // "PPSV"
+    private static final int VERSION = 1;
+
+    // Cell flag bits
+    private static final int CELL_WALKABLE = 1;
+    private static final int CELL_DIAMOND  = 2;
+    private static final int CELL_GOLD     = 4;
+
+    // SAVES_DIR - One save slot per account, relative to the project root
+    private static final String SAVES_DIR = "src/game/resources/data/saves";
+
+    // Single background writer so save I/O never runs on the EDT
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "snapshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ---------- FIELDS ----------
+
+    private final Session session;
+    private final Difficulty difficulty;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // SessionSnapshot - Pairs a restored session with the difficulty it was played on
+    private SessionSnapshot(Session session, Difficulty difficulty) {
+        this.session = session;
+        this.difficulty = difficulty;
+    }
+
+    // getSession - Returns the restored, ready-to-run session
+    public Session getSession() {
+        return session;
+    }
+
+    // getDifficulty - Returns the difficulty the run was started on
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    // saveFileFor - Returns the save slot file for the given username
+    public static File saveFileFor(String username) {
+        String safe = username.replaceAll("[^A-Za-z0-9_-]", "_");
+        return new File(SAVES_DIR, safe + ".sav");
+    }
+
+    // ---------- SAVING ----------
+
+    // toBytes - Captures the session into a byte array (call from the thread that updates it)
+    public static byte[] toBytes(Session session, Difficulty difficulty) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 * 1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(session, difficulty, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory stream; cannot happen
+        }
+        return bytes.toByteArray();
+    }
+
+    // saveAsync - Captures now, writes the file on the snapshot thread
+    public static CompletableFuture<Void> saveAsync(Session session, Difficulty difficulty, File file) {
+        byte[] data = toBytes(session, difficulty);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                writeFile(data, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WRITER);
+    }
+
+    // writeFile - Writes data beside the target, then renames it into place
+    private static void writeFile(byte[] data, File file) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        File tmp = new File(file.getPath() + ".tmp");
+        Files.write(tmp.toPath(), data);
+        try {
+            Files.move(tmp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // write - Encodes the full snapshot
+    public static void write(Session session, Difficulty difficulty, DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeByte(difficulty.ordinal());
+        out.writeDouble(session.getGoldSpawnInterval());
+        out.writeDouble(session.getDiamondChance());
+
+        writeMaze(session.getMaze(), out);
+        writeEntities(session, out);
+        session.writeState(out);
+    }
+
+    // writeMaze - Size, entrance/exit, then one flag byte (+ gold) per cell
+    private static void writeMaze(Maze maze, DataOutput out) throws IOException {
+        out.writeShort(maze.getWidth());
+        out.writeShort(maze.getHeight());
+        out.writeShort(maze.getEntranceX());
+        out.writeShort(maze.getEntranceY());
+        out.writeShort(maze.getExitX());
+        out.writeShort(maze.getExitY());
+
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                Cell c = maze.getCell(x, y);
+                int flags = (c.isWalkable() ? CELL_WALKABLE : 0)
+                          | (c.hasDiamond() ? CELL_DIAMOND : 0)
+                          | (c.hasGold() ? CELL_GOLD : 0);
+                out.writeByte(flags);
+                if (c.hasGold()) {
+                    out.writeInt(c.getGold());
+                }
+            }
+        }
+    }
+
+    // writeEntities - Runner first, then chasers in session order, each with its AI memory
+    private static void writeEntities(Session session, DataOutput out) throws IOException {
+        EntityStore store = session.getMaze().getEntities();
+
+        Runner runner = session.getRunner();
+        writeRow(store, runner.getId(), out);
+        runner.writeState(out);
+
+        List<Chaser> chasers = session.getChasers();
+        out.writeInt(chasers.size());
+        for (Chaser chaser : chasers) {
+            writeRow(store, chaser.getId(), out);
+            ChaserAI ai = chaser.getAi();
+            if (ai == null) {
+                out.writeByte(EntityStore.AI_NONE);
+            } else if (ai instanceof SimpleChaserAI) {
+                SimpleChaserAI simple = (SimpleChaserAI) ai;
+                out.writeByte(EntityStore.AI_SIMPLE);
+                out.writeInt(simple.getDetectionRadius());
+                simple.writeState(out);
+            } else if (ai instanceof DirectChaserAI) {
+                out.writeByte(EntityStore.AI_DIRECT);
+            } else {
+                throw new IllegalStateException("Cannot snapshot chaser AI " + ai.getClass().getName());
+            }
+        }
+    }
+
+    // writeRow - Position and state flags of one entity
+    private static void writeRow(EntityStore store, int id, DataOutput out) throws IOException {
+        out.writeShort(store.getX(id));
+        out.writeShort(store.getY(id));
+        out.writeByte(store.getState(id));
+    }
+
+    // ---------- LOADING ----------
+
+    // load - Reads and restores a snapshot file
+    public static SessionSnapshot load(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return read(in);
+        }
+    }
+
+    // fromBytes - Restores a snapshot produced by toBytes
+    public static SessionSnapshot fromBytes(byte[] data) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    // read - Decodes a full snapshot into a new session
+    public static SessionSnapshot read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Pixel Pursuit save");
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        Difficulty[] difficulties = Difficulty.values();
+        int difficultyIndex = in.readByte();
+        if (difficultyIndex < 0 || difficultyIndex >= difficulties.length) {
+            throw new IOException("Unknown difficulty " + difficultyIndex);
+        }
+        double goldSpawnInterval = in.readDouble();
+        double diamondChance = in.readDouble();
+
+        Maze maze = readMaze(in);
+
+        // Runner row: position, state, glide
+        int rx = in.readShort();
+        int ry = in.readShort();
+        byte runnerState = in.readByte();
+        Runner runner = new Runner(maze, rx, ry);
+        maze.getEntities().setState(runner.getId(), runnerState);
+        runner.readState(in);
+
+        // The session's own RNG state is restored in readState below
+        Session session = new Session(maze, runner, goldSpawnInterval, diamondChance, new GameRandom(0L));
+
+        int chaserCount = in.readInt();
+        for (int i = 0; i < chaserCount; i++) {
+            int cx = in.readShort();
+            int cy = in.readShort();
+            byte state = in.readByte();
+            ChaserAI ai = readAi(in);
+
+            Chaser chaser = new Chaser(maze, cx, cy, ai);
+            maze.getEntities().setState(chaser.getId(), state);
+            session.addChaser(chaser);
+        }
+
+        session.readState(in);
+        return new SessionSnapshot(session, difficulties[difficultyIndex]);
+    }
+
+    // readMaze - Rebuilds the maze cells exactly as saved
+    private static Maze readMaze(DataInput in) throws IOException {
+        int w = in.readShort();
+        int h = in.readShort();
+        if (w <= 0 || h <= 0) {
+            throw new IOException("Bad maze size " + w + "x" + h);
+        }
+        // Generated layout is overwritten cell by cell below
+        Maze maze = new Maze(w, h, new GameRandom(0L));
+        maze.setEntrance(in.readShort(), in.readShort());
+        maze.setExit(in.readShort(), in.readShort());
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int flags = in.readUnsignedByte();
+                Cell c = maze.getCell(x, y);
+                c.setWalkable((flags & CELL_WALKABLE) != 0);
+                c.setDiamond((flags & CELL_DIAMOND) != 0);
+                c.setGold((flags & CELL_GOLD) != 0 ? in.readInt() : 0);
+            }
+        }
+        return maze;
+    }
+
+    // readAi - Rebuilds one chaser AI with its memory
+    private static ChaserAI readAi(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case EntityStore.AI_NONE:
+                return null;
+            case EntityStore.AI_SIMPLE:
+                SimpleChaserAI simple = new SimpleChaserAI(in.readInt(), new GameRandom(0L));
+                simple.readState(in);
+                return simple;
+            case EntityStore.AI_DIRECT:
+                return new DirectChaserAI();
+            default:
+                throw new IOException("Unknown chaser AI kind " + kind);
+        }
+    }
+}
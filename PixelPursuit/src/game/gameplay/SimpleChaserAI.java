@@ -3,10 +3,13 @@ package game.gameplay;
 import game.world.Maze;
 import game.settings.GameConfig;
 import game.world.Cell;
+import game.world.GameRandom;
+import game.world.StateHash;
 
-import java.util.ArrayDeque;
-import java.util.Queue;
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Chaser AI with two behaviors:
@@ -24,7 +27,7 @@ public class SimpleChaserAI implements ChaserAI {
     // ROAM_PATH_LIFETIME - How long to keep a roam target before giving up
     private static final int ROAM_PATH_LIFETIME = 90;
 
-    private final Random rng = new Random();
+    private final GameRandom rng;
 
     // Persistent per-AI roam target
     private int roamTargetX = -1;
@@ -34,11 +37,105 @@ public class SimpleChaserAI implements ChaserAI {
     // visitCount[y][x] - How many times this chaser has stepped onto each cell
     private int[][] visitCount = null;
 
+    // XOR of visitKey() over every visited cell, kept up to date by markVisited
+    private long visitHash = 0L;
+
+    // Step orders: random-walk fallback and BFS (BFS order keeps paths stable)
+    private static final int[] WALK_DX = { 1, -1, 0, 0 };
+    private static final int[] WALK_DY = { 0, 0, 1, -1 };
+    private static final int[] BFS_DX = { 1, 0, -1, 0 };
+    private static final int[] BFS_DY = { 0, 1, 0, -1 };
+
+    // BFS buffers reused across decisions (flat y * width + x cell indices), so
+    // steady-state updates allocate nothing
+    private int[] searchQueue;
+    private int[] parentCell;
+    private int[] visitedStamp;
+    private int searchStamp = 0;
+
     // ---------- CONSTRUCTORS ----------
 
     // SimpleChaserAI - Uses difficulty config to set the detection radius
     public SimpleChaserAI() {
-        this.detectionRadius = GameConfig.getDetectionRadiusForCurrentDifficulty();
+        this(GameConfig.getDetectionRadiusForCurrentDifficulty(), new GameRandom());
+    }
+
+    // SimpleChaserAI - Explicit detection radius and RNG (used by simulations)
+    public SimpleChaserAI(int detectionRadius, GameRandom rng) {
+        if (rng == null) {
+            throw new IllegalArgumentException("rng cannot be null");
+        }
+        this.detectionRadius = detectionRadius;
+        this.rng = rng;
+    }
+
+    // getDetectionRadius - Returns the chase radius
+    int getDetectionRadius() {
+        return detectionRadius;
+    }
+
+    // ---------- SNAPSHOT SUPPORT ----------
+
+    // writeState - Writes RNG state, roam target and visit map
+    void writeState(DataOutput out) throws IOException {
+        out.writeLong(rng.getState());
+        out.writeInt(roamTargetX);
+        out.writeInt(roamTargetY);
+        out.writeInt(roamStepsRemaining);
+
+        if (visitCount == null) {
+            out.writeInt(0);
+            out.writeInt(0);
+            return;
+        }
+        out.writeInt(visitCount.length);
+        out.writeInt(visitCount[0].length);
+        for (int[] row : visitCount) {
+            for (int v : row) {
+                out.writeInt(v);
+            }
+        }
+    }
+
+    // readState - Restores the memory written by writeState
+    void readState(DataInput in) throws IOException {
+        rng.setState(in.readLong());
+        roamTargetX = in.readInt();
+        roamTargetY = in.readInt();
+        roamStepsRemaining = in.readInt();
+
+        int h = in.readInt();
+        int w = in.readInt();
+        if (h == 0 || w == 0) {
+            visitCount = null;
+            return;
+        }
+        visitCount = new int[h][w];
+        visitHash = 0L;
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int visits = in.readInt();
+                visitCount[y][x] = visits;
+                if (visits > 0) {
+                    visitHash ^= visitKey(x, y, visits);
+                }
+            }
+        }
+    }
+
+    // getStateHash - Hash of RNG state, roam target and visit map (O(1): the map's part is
+    //                maintained as cells are visited)
+    @Override
+    public long getStateHash() {
+        return visitHash
+                ^ StateHash.key(StateHash.RNG, 0, 0, rng.getState())
+                ^ StateHash.key(StateHash.AI_MEMORY, -1, 0, StateHash.packXY(roamTargetX, roamTargetY))
+                ^ StateHash.key(StateHash.AI_MEMORY, -1, 1, roamStepsRemaining);
+    }
+
+    // visitKey - One visited cell's contribution to visitHash
+    private static long visitKey(int x, int y, int visits) {
+        return StateHash.key(StateHash.AI_MEMORY, x, y, visits);
     }
 
     // ---------- MAIN UPDATE ----------
@@ -113,6 +210,7 @@ public class SimpleChaserAI implements ChaserAI {
         int h = maze.getHeight();
         if (visitCount == null || visitCount.length != h || visitCount[0].length != w) {
             visitCount = new int[h][w];
+            visitHash = 0L;
         }
     }
 
@@ -120,7 +218,11 @@ public class SimpleChaserAI implements ChaserAI {
     private void markVisited(Maze maze, int x, int y) {
         ensureVisitMap(maze);
         if (maze.inBounds(x, y)) {
-            visitCount[y][x]++;
+            int before = visitCount[y][x]++;
+            if (before > 0) {
+                visitHash ^= visitKey(x, y, before);
+            }
+            visitHash ^= visitKey(x, y, before + 1);
         }
     }
 
@@ -208,13 +310,12 @@ public class SimpleChaserAI implements ChaserAI {
 
     // randomWalk - Takes a random valid step as a backup movement
     private void randomWalk(Chaser chaser, Maze maze) {
-        int[][] dirs = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
-        int startIndex = rng.nextInt(dirs.length);
+        int startIndex = rng.nextInt(WALK_DX.length);
 
-        for (int i = 0; i < dirs.length; i++) {
-            int[] d = dirs[(startIndex + i) % dirs.length];
-            int dx = d[0];
-            int dy = d[1];
+        for (int i = 0; i < WALK_DX.length; i++) {
+            int d = (startIndex + i) % WALK_DX.length;
+            int dx = WALK_DX[d];
+            int dy = WALK_DY[d];
 
             int nx = chaser.getX() + dx;
             int ny = chaser.getY() + dy;
@@ -247,56 +348,52 @@ public class SimpleChaserAI implements ChaserAI {
 
         int w = maze.getWidth();
         int h = maze.getHeight();
+        ensureSearchBuffers(w * h);
 
-        boolean[][] visited = new boolean[h][w];
-        int[][] parentX = new int[h][w];
-        int[][] parentY = new int[h][w];
-
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                parentX[y][x] = -1;
-                parentY[y][x] = -1;
-            }
+        // A fresh stamp marks every cell unvisited without clearing the array
+        if (++searchStamp == 0) {
+            Arrays.fill(visitedStamp, 0);
+            searchStamp = 1;
         }
 
-        Queue<int[]> queue = new ArrayDeque<>();
-        queue.add(new int[] { sx, sy });
-        visited[sy][sx] = true;
-
-        // Deterministic neighbor order: this kills the back-and-forth stutter,
-        // because the chosen shortest path is stable from tick to tick.
-        int[][] dirs = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+        int start = sy * w + sx;
+        int target = ty * w + tx;
+        visitedStamp[start] = searchStamp;
+        searchQueue[0] = start;
+        int head = 0;
+        int tail = 1;
 
         boolean found = false;
 
-        while (!queue.isEmpty()) {
-            int[] cur = queue.remove();
-            int cx = cur[0];
-            int cy = cur[1];
-
-            if (cx == tx && cy == ty) {
+        while (head < tail) {
+            int cur = searchQueue[head++];
+            if (cur == target) {
                 found = true;
                 break;
             }
+            int cx = cur % w;
+            int cy = cur / w;
 
-            for (int[] d : dirs) {
-                int nx = cx + d[0];
-                int ny = cy + d[1];
+            // Deterministic neighbor order: this kills the back-and-forth stutter,
+            // because the chosen shortest path is stable from tick to tick.
+            for (int d = 0; d < BFS_DX.length; d++) {
+                int nx = cx + BFS_DX[d];
+                int ny = cy + BFS_DY[d];
 
                 if (!maze.inBounds(nx, ny)) {
                     continue;
                 }
-                if (visited[ny][nx]) {
+                int next = ny * w + nx;
+                if (visitedStamp[next] == searchStamp) {
                     continue;
                 }
                 if (!maze.getCell(nx, ny).isWalkable()) {
                     continue;
                 }
 
-                visited[ny][nx] = true;
-                parentX[ny][nx] = cx;
-                parentY[ny][nx] = cy;
-                queue.add(new int[] { nx, ny });
+                visitedStamp[next] = searchStamp;
+                parentCell[next] = cur;
+                searchQueue[tail++] = next;
             }
         }
 
@@ -304,31 +401,16 @@ public class SimpleChaserAI implements ChaserAI {
             return false;
         }
 
-        // Reconstruct path backwards from target to source, but only
-        // keep the first step after (sx, sy).
-        int curX = tx;
-        int curY = ty;
-        int nextX = tx;
-        int nextY = ty;
-
-        while (!(curX == sx && curY == sy)) {
-            int px = parentX[curY][curX];
-            int py = parentY[curY][curX];
-
-            if (px == -1 && py == -1) {
-                // Should not happen if found == true, but just in case.
-                return false;
-            }
-
-            nextX = curX;
-            nextY = curY;
-
-            curX = px;
-            curY = py;
+        // Walk parents back from the target, keeping only the first step after the start
+        int cur = target;
+        int next = target;
+        while (cur != start) {
+            next = cur;
+            cur = parentCell[cur];
         }
 
-        int moveDx = nextX - sx;
-        int moveDy = nextY - sy;
+        int moveDx = (next % w) - sx;
+        int moveDy = (next / w) - sy;
 
         if (moveDx == 0 && moveDy == 0) {
             return false;
@@ -338,6 +420,16 @@ public class SimpleChaserAI implements ChaserAI {
         return true;
     }
 
+    // ensureSearchBuffers - (Re)allocates the BFS buffers only when the maze size changes
+    private void ensureSearchBuffers(int cells) {
+        if (searchQueue == null || searchQueue.length != cells) {
+            searchQueue = new int[cells];
+            parentCell = new int[cells];
+            visitedStamp = new int[cells];
+            searchStamp = 0;
+        }
+    }
+
     // shuffleDirs - Shuffle (currently unused, kept for future randomness)
     @SuppressWarnings("unused")
     private void shuffleDirs(int[][] dirs) {
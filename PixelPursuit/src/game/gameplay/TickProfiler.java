@@ -0,0 +1,192 @@
+package game.gameplay;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Per-phase profiler for Session.update:
+ *  - Keeps one NanoHistogram per update phase, plus one per chaser AI call.
+ *  - Disabled by default; when off, Session skips every nanoTime() call.
+ *  - Can be switched on at runtime (F3 in GamePanel) or at launch with
+ *    -Dpixelpursuit.profile=true.
+ *  - Exports a text report for the in-game overlay and, periodically, to a file.
+ */
+public class TickProfiler {
+
+    // ---------- PHASES ----------
+
+    /** One timed section of Session.update. */
+    public enum Phase {
+        TIME("time"),
+        TIMERS("timers"),
+        SURVIVAL_GOLD(" survival gold"),   // timer tasks, only counted when they fire
+        CHASERS(" chasers"),
+        LOOT_SPAWN(" loot spawn"),
+        PICKUPS("pickups"),
+        COLLISION("collision"),
+        TOTAL("total");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        // getLabel - Returns the name shown in reports
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // ---------- CONSTANTS ----------
+
+    // REPORT_PATH - Periodic report file, relative to the working directory (project root)
+    public static final String REPORT_PATH = "tick-profile.txt";
+
+    // REPORT_INTERVAL_MS - How often maybeWriteReport() actually writes
+    public static final long REPORT_INTERVAL_MS = 10_000;
+
+    // Single background writer so report I/O never runs on the EDT
+    private static final ExecutorService REPORT_WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "tick-profile-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ---------- FIELDS ----------
+
+    private volatile boolean enabled = Boolean.getBoolean("pixelpursuit.profile");
+
+    private final NanoHistogram[] phases = new NanoHistogram[Phase.values().length];
+    private final List<NanoHistogram> chaserCalls = new ArrayList<>();
+
+    private long lastReportMillis = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // TickProfiler - Creates a profiler with empty histograms
+    public TickProfiler() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new NanoHistogram();
+        }
+    }
+
+    // ---------- TOGGLE ----------
+
+    // isEnabled - Returns true while timings are being recorded
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // setEnabled - Turns recording on or off
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // ---------- RECORDING ----------
+
+    // lap - Records the time since start for phase and returns the current nanoTime
+    public long lap(Phase phase, long start) {
+        long now = System.nanoTime();
+        phases[phase.ordinal()].record(now - start);
+        return now;
+    }
+
+    // record - Records an already-measured duration for phase
+    public void record(Phase phase, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    // recordChaser - Records one AI call for the chaser at the given session index
+    public void recordChaser(int chaserIndex, long nanos) {
+        while (chaserCalls.size() <= chaserIndex) {
+            chaserCalls.add(new NanoHistogram());
+        }
+        chaserCalls.get(chaserIndex).record(nanos);
+    }
+
+    // reset - Clears all histograms
+    public void reset() {
+        for (NanoHistogram h : phases) {
+            h.reset();
+        }
+        for (NanoHistogram h : chaserCalls) {
+            h.reset();
+        }
+    }
+
+    // ---------- QUERIES ----------
+
+    // getPhase - Returns the histogram for one phase
+    public NanoHistogram getPhase(Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    // getChaserCount - Returns how many chasers have recorded AI calls
+    public int getChaserCount() {
+        return chaserCalls.size();
+    }
+
+    // getChaser - Returns the AI-call histogram for the chaser at the given index
+    public NanoHistogram getChaser(int chaserIndex) {
+        return chaserCalls.get(chaserIndex);
+    }
+
+    // ---------- EXPORT ----------
+
+    // reportLines - One line per phase / chaser: count, mean, p50, p99, max in microseconds
+    public List<String> reportLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-14s %8s %8s %8s %8s %8s", "phase (us)", "count", "mean", "p50", "p99", "max"));
+        for (Phase phase : Phase.values()) {
+            lines.add(formatRow(phase.getLabel(), phases[phase.ordinal()]));
+        }
+        for (int i = 0; i < chaserCalls.size(); i++) {
+            lines.add(formatRow("chaser " + i + " ai", chaserCalls.get(i)));
+        }
+        return lines;
+    }
+
+    // maybeWriteReport - Writes the report file in the background at most every REPORT_INTERVAL_MS
+    public void maybeWriteReport(long nowMillis) {
+        if (!enabled || nowMillis - lastReportMillis < REPORT_INTERVAL_MS) {
+            return;
+        }
+        lastReportMillis = nowMillis;
+
+        // Format on the calling thread (histograms are not thread-safe), write elsewhere
+        List<String> lines = reportLines();
+        REPORT_WRITER.execute(() -> writeReport(REPORT_PATH, lines));
+    }
+
+    // writeReport - Writes the given report lines to path
+    private static void writeReport(String path, List<String> lines) {
+        try (PrintWriter writer = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(path), StandardCharsets.UTF_8))) {
+            writer.println("Session.update profile @ " + new Date());
+            for (String line : lines) {
+                writer.println(line);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // formatRow - Formats one histogram as a report row
+    private static String formatRow(String label, NanoHistogram h) {
+        return String.format("%-14s %8d %8.1f %8.1f %8.1f %8.1f",
+                label, h.getCount(),
+                h.getMean() / 1000.0,
+                h.getPercentile(0.50) / 1000.0,
+                h.getPercentile(0.99) / 1000.0,
+                h.getMax() / 1000.0);
+    }
+}
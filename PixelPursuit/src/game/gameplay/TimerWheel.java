@@ -0,0 +1,331 @@
+package game.gameplay;
+
+/**
+ * Tick-based hierarchical timing wheel (Varghese & Lauck style):
+ *  - LEVELS wheels of SLOTS buckets each; level n covers delays up to
+ *    SLOTS^(n+1) ticks, and far-off timers cascade down as time reaches them.
+ *  - schedule() and cancel() are O(1): timers are intrusive doubly linked
+ *    nodes, so no searching and no per-operation allocation.
+ *  - Repeating timers reuse their node, and reschedule() re-arms finished ones,
+ *    so steady-state ticking allocates nothing.
+ *  - Timers due on the same tick fire in scheduling order (by creation
+ *    sequence; repeating timers keep theirs), so runs are reproducible.
+ *  - Not thread-safe; owned by one Session.
+ */
+public class TimerWheel {
+
+    // ---------- CONSTANTS ----------
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;     // 64
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;                  // 2^24 ticks ahead
+
+    // Longest delay the wheel can hold directly; later timers park on the top level
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    // ---------- FIELDS ----------
+
+    // One sentinel head per slot: wheels[level][slot]
+    private final Timer[][] wheels = new Timer[LEVELS][SLOTS];
+
+    private long currentTick = 0;
+    private long nextSequence = 0;
+    private int pending = 0;
+
+    // Reused buffer for the timers that fire on one tick
+    private Timer[] firing = new Timer[16];
+
+    // ---------- CONSTRUCTORS ----------
+
+    // TimerWheel - Creates an empty wheel at tick 0
+    public TimerWheel() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer head = new Timer(null, 0);
+                head.prev = head;
+                head.next = head;
+                wheels[level][slot] = head;
+            }
+        }
+    }
+
+    // ---------- QUERIES ----------
+
+    // getCurrentTick - Returns the last tick that has been processed
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    // size - Returns how many timers are waiting to fire
+    public int size() {
+        return pending;
+    }
+
+    // skipTo - Jumps an empty wheel forward to tick without firing anything (snapshot restore)
+    public void skipTo(long tick) {
+        if (pending != 0) {
+            throw new IllegalStateException("skipTo requires an empty wheel");
+        }
+        if (tick < currentTick) {
+            throw new IllegalArgumentException("cannot move the wheel backwards");
+        }
+        currentTick = tick;
+    }
+
+    // ---------- SCHEDULING ----------
+
+    // schedule - Runs task once, delayTicks (>= 1) ticks from now
+    public Timer schedule(long delayTicks, Runnable task) {
+        return scheduleRepeating(delayTicks, 0, task);
+    }
+
+    // scheduleRepeating - Runs task after delayTicks, then every periodTicks (0 = once)
+    public Timer scheduleRepeating(long delayTicks, long periodTicks, Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+        if (delayTicks < 1 || periodTicks < 0) {
+            throw new IllegalArgumentException("delayTicks must be >= 1 and periodTicks >= 0");
+        }
+        Timer timer = new Timer(task, periodTicks);
+        timer.sequence = nextSequence++;
+        timer.dueTick = currentTick + delayTicks;
+        insert(timer);
+        return timer;
+    }
+
+    // newIdleTimer - Creates a timer bound to this wheel that is not scheduled yet;
+    //                arm it with reschedule() (lets owners pre-allocate pooled timers)
+    public Timer newIdleTimer(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+        Timer timer = new Timer(task, 0);
+        timer.wheel = this;
+        return timer;
+    }
+
+    // reschedule - Re-arms an idle, fired or cancelled timer of this wheel, reusing its node
+    public Timer reschedule(Timer timer, long delayTicks) {
+        if (timer == null || timer.wheel != this) {
+            throw new IllegalArgumentException("timer does not belong to this wheel");
+        }
+        if (delayTicks < 1) {
+            throw new IllegalArgumentException("delayTicks must be >= 1");
+        }
+        if (!timer.isIdle()) {
+            throw new IllegalStateException("timer is still pending or firing");
+        }
+        timer.sequence = nextSequence++;
+        timer.dueTick = currentTick + delayTicks;
+        insert(timer);
+        return timer;
+    }
+
+    // cancel - Stops a pending timer; returns false if it already fired or was cancelled
+    public boolean cancel(Timer timer) {
+        if (timer == null || timer.wheel != this) {
+            return false;
+        }
+        if (timer.state == Timer.PENDING) {
+            unlink(timer);
+            timer.state = Timer.CANCELLED;
+            pending--;
+            return true;
+        }
+        if (timer.state == Timer.FIRING) {
+            // Already pulled off the wheel for this tick: just make sure it does not run / re-arm
+            timer.state = Timer.CANCELLED;
+            return true;
+        }
+        return false;
+    }
+
+    // ---------- ADVANCING ----------
+
+    // advanceTo - Processes every tick up to and including targetTick; returns timers fired
+    public int advanceTo(long targetTick) {
+        int fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            fired += fireCurrentSlot();
+        }
+        return fired;
+    }
+
+    // cascade - Moves timers from higher levels down once the lower wheel wraps
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            // Only when every lower level just wrapped to slot 0
+            if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                return;
+            }
+            int slot = (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+            Timer head = wheels[level][slot];
+            Timer t = head.next;
+            head.next = head;
+            head.prev = head;
+            while (t != head) {
+                Timer next = t.next;
+                place(t);
+                t = next;
+            }
+        }
+    }
+
+    // fireCurrentSlot - Runs every timer due on currentTick in sequence order
+    private int fireCurrentSlot() {
+        Timer head = wheels[0][(int) currentTick & SLOT_MASK];
+        if (head.next == head) {
+            return 0;
+        }
+
+        // Detach the whole slot so tasks can freely schedule / cancel
+        int count = 0;
+        Timer t = head.next;
+        while (t != head) {
+            if (count == firing.length) {
+                Timer[] grown = new Timer[count * 2];
+                System.arraycopy(firing, 0, grown, 0, count);
+                firing = grown;
+            }
+            firing[count++] = t;
+            t.state = Timer.FIRING;
+            t = t.next;
+        }
+        head.next = head;
+        head.prev = head;
+        pending -= count;
+
+        sortBySequence(firing, count);
+
+        int fired = 0;
+        for (int i = 0; i < count; i++) {
+            Timer timer = firing[i];
+            firing[i] = null;
+            if (timer.state != Timer.FIRING) {
+                continue; // cancelled by an earlier task this tick
+            }
+            timer.task.run();
+            fired++;
+
+            if (timer.state == Timer.FIRING) {
+                if (timer.periodTicks > 0) {
+                    timer.dueTick += timer.periodTicks;
+                    insert(timer);
+                } else {
+                    timer.state = Timer.DONE;
+                }
+            }
+        }
+        return fired;
+    }
+
+    // sortBySequence - Insertion sort; a tick's batch is small and usually already ordered
+    private static void sortBySequence(Timer[] a, int count) {
+        for (int i = 1; i < count; i++) {
+            Timer key = a[i];
+            int j = i - 1;
+            while (j >= 0 && a[j].sequence > key.sequence) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    // ---------- LIST HELPERS ----------
+
+    // insert - Adds a timer to the wheel as pending
+    private void insert(Timer timer) {
+        timer.wheel = this;
+        timer.state = Timer.PENDING;
+        pending++;
+        place(timer);
+    }
+
+    // place - Links a timer into the slot matching its distance from currentTick
+    private void place(Timer timer) {
+        long delta = timer.dueTick - currentTick;
+        int level;
+        long due = timer.dueTick;
+        if (delta >= MAX_SPAN) {
+            // Park at the farthest top-level slot; it cascades back down as time passes
+            level = LEVELS - 1;
+            due = currentTick + MAX_SPAN - 1;
+        } else {
+            level = 0;
+            while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+                level++;
+            }
+        }
+        int slot = (int) (due >>> (SLOT_BITS * level)) & SLOT_MASK;
+
+        Timer head = wheels[level][slot];
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    // unlink - Removes a timer from whatever slot list it is in
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    // ---------- TIMER ----------
+
+    /**
+     * Handle for one scheduled task. Also the intrusive list node.
+     */
+    public static final class Timer {
+
+        private static final int PENDING = 0;
+        private static final int FIRING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final Runnable task;
+        private final long periodTicks;
+
+        private TimerWheel wheel;
+        private long dueTick;
+        private long sequence;
+        private int state = DONE;
+
+        private Timer prev;
+        private Timer next;
+
+        // Timer - Created only by TimerWheel
+        private Timer(Runnable task, long periodTicks) {
+            this.task = task;
+            this.periodTicks = periodTicks;
+        }
+
+        // getDueTick - Returns the tick this timer fires next
+        public long getDueTick() {
+            return dueTick;
+        }
+
+        // isPending - Returns true while the timer is waiting to fire
+        public boolean isPending() {
+            return state == PENDING;
+        }
+
+        // isIdle - Returns true if the timer is neither waiting nor due this tick
+        //          (never scheduled, fired, or cancelled): safe to reschedule
+        public boolean isIdle() {
+            return state == DONE || state == CANCELLED;
+        }
+
+        // cancel - Same as TimerWheel.cancel(this)
+        public boolean cancel() {
+            return wheel != null && wheel.cancel(this);
+        }
+    }
+}
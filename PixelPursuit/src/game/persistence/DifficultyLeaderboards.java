@@ -0,0 +1,58 @@
+package game.persistence;
+
+import game.account.Account;
+import game.account.AccountManager;
+import game.settings.Difficulty;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One RankedLeaderboard per Difficulty, fed from each account's per-difficulty
+ * best time (Account.getBestTime(Difficulty)):
+ *  - attach() scans the accounts once and then follows every account the
+ *    AccountManager stores, e.g. the end-of-run payout, so the boards stay
+ *    current without rebuilding.
+ *  - Answers "my rank", "who is around me" and "percentile of a time" per
+ *    difficulty in O(log n).
+ */
+public class DifficultyLeaderboards {
+
+    // ---------- FIELDS ----------
+
+    private final Map<Difficulty, RankedLeaderboard> boards = new EnumMap<>(Difficulty.class);
+
+    // ---------- CONSTRUCTORS ----------
+
+    // DifficultyLeaderboards - Creates an empty board for every difficulty
+    public DifficultyLeaderboards() {
+        for (Difficulty d : Difficulty.values()) {
+            boards.put(d, new RankedLeaderboard());
+        }
+    }
+
+    // attach - Builds boards over manager's accounts and keeps them in step with every update
+    public static DifficultyLeaderboards attach(AccountManager manager) {
+        DifficultyLeaderboards boards = new DifficultyLeaderboards();
+        // Subscribe first, so an update racing with the scan is not lost (update is idempotent)
+        manager.addAccountListener(boards::update);
+        for (Account acc : manager.getAllAccounts()) {
+            boards.update(acc);
+        }
+        return boards;
+    }
+
+    // ---------- PUBLIC API ----------
+
+    // get - Returns the board of one difficulty
+    public RankedLeaderboard get(Difficulty difficulty) {
+        return boards.get(difficulty);
+    }
+
+    // update - Records all of acc's per-difficulty best times
+    public void update(Account acc) {
+        for (Difficulty d : Difficulty.values()) {
+            boards.get(d).update(acc.getUsername(), acc.getBestTime(d));
+        }
+    }
+}
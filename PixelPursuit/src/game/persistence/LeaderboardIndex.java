@@ -0,0 +1,111 @@
+package game.persistence;
+
+import game.account.Account;
+import game.account.AccountManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Live best-time leaderboard:
+ *  - Keeps every account with a recorded time in a skip list ordered by
+ *    (best time descending, username ascending), so ties never collide.
+ *  - update() moves one account in O(log n); top(k) walks the first k
+ *    entries in O(k). Only attach() scans the accounts, once.
+ *  - attach() also subscribes to the AccountManager, so every saved account
+ *    change reaches the index without anyone rebuilding it.
+ *  - Thread-safe: updates of one username are serialized through the
+ *    username -> entry map; the skip list takes concurrent readers and writers.
+ *    Reads are weakly consistent: an entry being moved may be missing from one
+ *    top() call.
+ */
+public class LeaderboardIndex {
+
+    // ---------- CONSTANTS ----------
+
+    // ORDER - Longest time first; equal times by username
+    private static final Comparator<LeaderboardEntry> ORDER =
+            Comparator.<LeaderboardEntry>naturalOrder().thenComparing(LeaderboardEntry::getUsername);
+
+    // ---------- FIELDS ----------
+
+    private final ConcurrentSkipListSet<LeaderboardEntry> ranked = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<String, LeaderboardEntry> byUsername = new ConcurrentHashMap<>();
+
+    // ---------- CONSTRUCTORS ----------
+
+    // LeaderboardIndex - Creates an empty index
+    public LeaderboardIndex() {
+    }
+
+    // fromAccounts - Builds an index over the given accounts (the only full scan)
+    public static LeaderboardIndex fromAccounts(Collection<Account> accounts) {
+        LeaderboardIndex index = new LeaderboardIndex();
+        for (Account acc : accounts) {
+            index.update(acc.getUsername(), acc.getBestTime());
+        }
+        return index;
+    }
+
+    // attach - Builds an index over manager's accounts and keeps it in step with every update
+    public static LeaderboardIndex attach(AccountManager manager) {
+        LeaderboardIndex index = new LeaderboardIndex();
+        // Subscribe first, so an update racing with the scan is not lost (update is idempotent)
+        manager.addAccountListener(acc -> index.update(acc.getUsername(), acc.getBestTime()));
+        for (Account acc : manager.getAllAccounts()) {
+            index.update(acc.getUsername(), acc.getBestTime());
+        }
+        return index;
+    }
+
+    // ---------- UPDATES ----------
+
+    // update - Records username's best time (<= 0 removes it); O(log n), no-op if unchanged
+    public void update(String username, double bestTime) {
+        byUsername.compute(username, (name, old) -> {
+            if (old != null && old.getBestTimeSeconds() == bestTime) {
+                return old;
+            }
+            if (old != null) {
+                ranked.remove(old);
+            }
+            if (bestTime <= 0.0) {
+                return null;
+            }
+            LeaderboardEntry entry = new LeaderboardEntry(name, bestTime);
+            ranked.add(entry);
+            return entry;
+        });
+    }
+
+    // remove - Drops username from the index
+    public void remove(String username) {
+        update(username, 0.0);
+    }
+
+    // ---------- QUERIES ----------
+
+    // top - Returns the k longest best times, longest first; O(k)
+    public List<LeaderboardEntry> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.min(k, 64));
+        Iterator<LeaderboardEntry> it = ranked.iterator();
+        while (entries.size() < k && it.hasNext()) {
+            entries.add(it.next());
+        }
+        return entries;
+    }
+
+    // get - Returns username's entry, or null if it has no recorded time
+    public LeaderboardEntry get(String username) {
+        return byUsername.get(username);
+    }
+
+    // size - Returns how many accounts have a recorded time
+    public int size() {
+        return byUsername.size();
+    }
+}
@@ -0,0 +1,189 @@
+package game.persistence;
+
+/**
+ * Treap of (time, username) keys where every node knows its subtree size, so
+ * besides insert and delete it answers "how many keys come before this one"
+ * (rank) and "which key is at position i" (select), all in O(log n) expected.
+ *  - Order: longest time first, equal times by username (the leaderboard order).
+ *  - Priorities come from a xorshift generator, so the expected depth stays
+ *    O(log n) whatever the insertion order (accounts often arrive sorted).
+ *  - Not thread-safe; RankedLeaderboard guards it.
+ */
+final class OrderStatisticTree {
+
+    // ---------- NODE ----------
+
+    private static final class Node {
+        final double time;
+        final String username;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(double time, String username, int priority) {
+            this.time = time;
+            this.username = username;
+            this.priority = priority;
+        }
+    }
+
+    // ---------- FIELDS ----------
+
+    private Node root;
+    private int seed;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // OrderStatisticTree - Creates an empty tree
+    OrderStatisticTree() {
+        this.seed = 0x2545F491;
+    }
+
+    // ---------- QUERIES ----------
+
+    // size - Returns the number of keys
+    int size() {
+        return size(root);
+    }
+
+    // rank - Returns how many keys come before (time, username); O(log n)
+    int rank(double time, String username) {
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(time, username, node) <= 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return before;
+    }
+
+    // timeAt - Returns the time of the key at position index (0 = longest); O(log n)
+    double timeAt(int index) {
+        return nodeAt(index).time;
+    }
+
+    // usernameAt - Returns the username of the key at position index; O(log n)
+    String usernameAt(int index) {
+        return nodeAt(index).username;
+    }
+
+    // ---------- UPDATES ----------
+
+    // insert - Adds (time, username); the key must not be present
+    void insert(double time, String username) {
+        Node[] parts = split(root, time, username);
+        root = merge(merge(parts[0], new Node(time, username, nextPriority())), parts[1]);
+    }
+
+    // delete - Removes (time, username); returns false if it was not present
+    boolean delete(double time, String username) {
+        int before = size(root);
+        root = delete(root, time, username);
+        return size(root) != before;
+    }
+
+    // ---------- TREAP OPERATIONS ----------
+
+    // split - Splits node into keys before (time, username) and the rest
+    private Node[] split(Node node, double time, String username) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(time, username, node) <= 0) {
+            Node[] parts = split(node.left, time, username);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+            return parts;
+        }
+        Node[] parts = split(node.right, time, username);
+        node.right = parts[0];
+        update(node);
+        parts[0] = node;
+        return parts;
+    }
+
+    // merge - Joins two treaps where every key of a comes before every key of b
+    private Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    // delete - Removes the key from node's subtree; returns the new subtree
+    private Node delete(Node node, double time, String username) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(time, username, node);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = delete(node.left, time, username);
+        } else {
+            node.right = delete(node.right, time, username);
+        }
+        update(node);
+        return node;
+    }
+
+    // nodeAt - Walks down by subtree sizes to position index
+    private Node nodeAt(int index) {
+        if (index < 0 || index >= size(root)) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size(root));
+        }
+        Node node = root;
+        while (true) {
+            int left = size(node.left);
+            if (index < left) {
+                node = node.left;
+            } else if (index == left) {
+                return node;
+            } else {
+                index -= left + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    // compare - Orders (time, username) against node: longer times first, then by username
+    private static int compare(double time, String username, Node node) {
+        if (time != node.time) {
+            return (time > node.time) ? -1 : 1;
+        }
+        return username.compareTo(node.username);
+    }
+
+    // size - Subtree size (0 for null)
+    private static int size(Node node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    // update - Recomputes node's size from its children
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    // nextPriority - xorshift32
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+}
@@ -0,0 +1,27 @@
+package game.persistence;
+
+/**
+ * Leaderboard entry that also knows its position:
+ *  - rank is 1-based (1 = longest time) within one RankedLeaderboard.
+ */
+public class RankedEntry extends LeaderboardEntry {
+
+    // ---------- FIELDS ----------
+
+    private final int rank;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // RankedEntry - Creates an entry at the given 1-based rank
+    public RankedEntry(int rank, String username, double bestTimeSeconds) {
+        super(username, bestTimeSeconds);
+        this.rank = rank;
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getRank - Returns the 1-based rank (1 = longest time)
+    public int getRank() {
+        return rank;
+    }
+}
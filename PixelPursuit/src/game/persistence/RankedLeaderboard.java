@@ -0,0 +1,140 @@
+package game.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Best times of one board (e.g. one Difficulty) with rank queries:
+ *  - Backed by an OrderStatisticTree, so update, rankOf and percentileOf are
+ *    O(log n), and top / around are O(k log n), at any number of accounts.
+ *  - Ranks are 1-based, longest time first; equal times are ordered by
+ *    username, so every account has a distinct rank.
+ *  - Thread-safe: queries share a read lock, updates take the write lock.
+ */
+public class RankedLeaderboard {
+
+    // ---------- FIELDS ----------
+
+    private final OrderStatisticTree tree = new OrderStatisticTree();
+    private final Map<String, Double> times = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ---------- UPDATES ----------
+
+    // update - Records username's best time (<= 0 removes it); no-op if unchanged
+    public void update(String username, double bestTime) {
+        if (username == null) {
+            throw new IllegalArgumentException("username cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            Double old = times.get(username);
+            if (old != null && old == bestTime) {
+                return;
+            }
+            if (old != null) {
+                tree.delete(old, username);
+                times.remove(username);
+            }
+            if (bestTime > 0.0) {
+                tree.insert(bestTime, username);
+                times.put(username, bestTime);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------- QUERIES ----------
+
+    // size - Returns how many accounts have a time on this board
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // bestTimeOf - Returns username's time on this board, or 0 if none
+    public double bestTimeOf(String username) {
+        lock.readLock().lock();
+        try {
+            Double time = times.get(username);
+            return (time == null) ? 0.0 : time;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // rankOf - Returns username's 1-based rank, or 0 if it has no time on this board
+    public int rankOf(String username) {
+        lock.readLock().lock();
+        try {
+            Double time = times.get(username);
+            return (time == null) ? 0 : tree.rank(time, username) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // percentileOf - Returns the share (0-100) of times on this board shorter than time
+    public double percentileOf(double time) {
+        lock.readLock().lock();
+        try {
+            int n = tree.size();
+            if (n == 0) {
+                return 0.0;
+            }
+            // Keys before (just under time, "") are exactly the times >= time
+            int atLeast = tree.rank(Math.nextDown(time), "");
+            return 100.0 * (n - atLeast) / n;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // top - Returns the first k entries, longest time first
+    public List<RankedEntry> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        lock.readLock().lock();
+        try {
+            return range(0, Math.min(k, tree.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // around - Returns up to k entries on each side of username plus its own (empty if no time)
+    public List<RankedEntry> around(String username, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        lock.readLock().lock();
+        try {
+            Double time = times.get(username);
+            if (time == null) {
+                return new ArrayList<>();
+            }
+            int index = tree.rank(time, username);
+            return range(Math.max(0, index - k), Math.min(tree.size(), index + k + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // range - Entries at positions [from, to) (read lock held)
+    private List<RankedEntry> range(int from, int to) {
+        List<RankedEntry> entries = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            entries.add(new RankedEntry(i + 1, tree.usernameAt(i), tree.timeAt(i)));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,193 @@
+package game.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Best times over a sliding window of recent runs (e.g. the last 24 hours):
+ *  - Runs fall into fixed-length time buckets kept in a ring of bucketCount
+ *    slots; each bucket only keeps every player's best run inside it.
+ *  - The window's best time per player is a maintained aggregate held in a
+ *    RankedLeaderboard, so top / rankOf / around never look at run history.
+ *  - Moving the window reuses the oldest slot instead of scanning: only
+ *    players whose window best lived in the expiring bucket are recomputed,
+ *    from at most bucketCount other buckets. Every run is thus added once and
+ *    expired once (amortized O(log n) per run).
+ *  - The window covers the current bucket and the bucketCount - 1 before it,
+ *    so it slides in steps of one bucket.
+ *  - Thread-safe: record / advanceTo are serialized; queries read the board.
+ */
+public class RollingLeaderboard {
+
+    // ---------- BUCKETS ----------
+
+    // One ring slot: the bucket's epoch (time / bucketMillis) and each player's best run in it
+    private static final class Bucket {
+        long epoch = Long.MIN_VALUE;
+        Map<String, Double> best = new HashMap<>();
+    }
+
+    // A player's window best and the newest bucket holding it
+    private static final class WindowBest {
+        double time;
+        long epoch;
+
+        WindowBest(double time, long epoch) {
+            this.time = time;
+            this.epoch = epoch;
+        }
+    }
+
+    // ---------- FIELDS ----------
+
+    private final long bucketMillis;
+    private final Bucket[] ring;
+
+    // Guarded by this
+    private long head = Long.MIN_VALUE;
+    private final Map<String, WindowBest> windowBest = new HashMap<>();
+
+    private final RankedLeaderboard board = new RankedLeaderboard();
+
+    // ---------- CONSTRUCTORS ----------
+
+    // RollingLeaderboard - Window of bucketCount buckets, each bucketMillis long
+    public RollingLeaderboard(long bucketMillis, int bucketCount) {
+        if (bucketMillis <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketMillis and bucketCount must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.ring = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            ring[i] = new Bucket();
+        }
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getWindowMillis - Returns the length of the window
+    public long getWindowMillis() {
+        return bucketMillis * ring.length;
+    }
+
+    // ---------- UPDATES ----------
+
+    // record - Adds a run that ended at atMillis; returns false if it is already outside the window
+    public synchronized boolean record(String username, double timeSeconds, long atMillis) {
+        if (username == null) {
+            throw new IllegalArgumentException("username cannot be null");
+        }
+        if (timeSeconds <= 0.0) {
+            return false;
+        }
+        long epoch = Math.floorDiv(atMillis, bucketMillis);
+        if (epoch > head) {
+            advanceTo(atMillis);
+        } else if (epoch <= head - ring.length) {
+            return false;
+        }
+
+        Bucket bucket = slotOf(epoch);
+        Double old = bucket.best.get(username);
+        if (old != null && old >= timeSeconds) {
+            return true;
+        }
+        bucket.best.put(username, timeSeconds);
+
+        WindowBest best = windowBest.get(username);
+        if (best == null) {
+            windowBest.put(username, new WindowBest(timeSeconds, epoch));
+            board.update(username, timeSeconds);
+        } else if (timeSeconds > best.time) {
+            best.time = timeSeconds;
+            best.epoch = epoch;
+            board.update(username, timeSeconds);
+        } else if (timeSeconds == best.time && epoch > best.epoch) {
+            // Keep the newest copy, so the best survives as long as possible
+            best.epoch = epoch;
+        }
+        return true;
+    }
+
+    // advanceTo - Slides the window forward so it ends at nowMillis, expiring older buckets
+    public synchronized void advanceTo(long nowMillis) {
+        long epoch = Math.floorDiv(nowMillis, bucketMillis);
+        if (epoch <= head) {
+            return;
+        }
+        // A jump longer than the window expires every slot once, no more
+        long firstLive = epoch - ring.length + 1;
+        for (long e = Math.max(head + 1, firstLive); e <= epoch; e++) {
+            Bucket bucket = slotOf(e);
+            expire(bucket, firstLive);
+            bucket.epoch = e;
+        }
+        head = epoch;
+    }
+
+    // expire - Drops a bucket's runs, recomputing players whose window best was in it (lock held)
+    private void expire(Bucket bucket, long firstLive) {
+        if (bucket.best.isEmpty()) {
+            return;
+        }
+        for (String username : bucket.best.keySet()) {
+            WindowBest best = windowBest.get(username);
+            if (best == null || best.epoch != bucket.epoch) {
+                continue;
+            }
+            // Next best among the buckets still inside the window (newest wins ties)
+            double time = 0.0;
+            long at = Long.MIN_VALUE;
+            for (Bucket other : ring) {
+                if (other == bucket || other.epoch < firstLive) continue;
+                Double t = other.best.get(username);
+                if (t != null && (t > time || (t == time && other.epoch > at))) {
+                    time = t;
+                    at = other.epoch;
+                }
+            }
+            if (at == Long.MIN_VALUE) {
+                windowBest.remove(username);
+                board.update(username, 0.0);
+            } else {
+                best.time = time;
+                best.epoch = at;
+                board.update(username, time);
+            }
+        }
+        bucket.best = new HashMap<>();
+    }
+
+    // slotOf - The ring slot of an epoch
+    private Bucket slotOf(long epoch) {
+        return ring[(int) Math.floorMod(epoch, (long) ring.length)];
+    }
+
+    // ---------- QUERIES (as of the last record / advanceTo) ----------
+
+    // size - Returns how many players have a run in the window
+    public int size() {
+        return board.size();
+    }
+
+    // bestTimeOf - Returns username's best time in the window, or 0 if none
+    public double bestTimeOf(String username) {
+        return board.bestTimeOf(username);
+    }
+
+    // rankOf - Returns username's 1-based rank in the window, or 0 if it has no run there
+    public int rankOf(String username) {
+        return board.rankOf(username);
+    }
+
+    // top - Returns the k longest window bests, longest first
+    public List<RankedEntry> top(int k) {
+        return board.top(k);
+    }
+
+    // around - Returns up to k entries on each side of username plus its own
+    public List<RankedEntry> around(String username, int k) {
+        return board.around(username, k);
+    }
+}
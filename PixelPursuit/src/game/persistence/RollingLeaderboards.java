@@ -0,0 +1,240 @@
+package game.persistence;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import game.account.GroupCommitter;
+import game.account.LineLog;
+
+/**
+ * Daily and weekly leaderboards over every finished run (the all-time board is
+ * the LeaderboardIndex over the accounts' best times):
+ *  - Each Period is a RollingLeaderboard, so queries read maintained
+ *    aggregates and old runs expire bucket by bucket as the clock moves.
+ *  - open() replays the run log (one "endMillis, username, seconds" line per
+ *    run) for the last week only, and rewrites the log once most of it has
+ *    aged out. Lines that do not have exactly those three fields are skipped.
+ *  - record() queues the new run for a writer thread (a GroupCommitter over a
+ *    LineLog), so the EDT never waits on the disk, and a torn last line from a
+ *    crash does not swallow the next run. Usernames with tabs or line breaks
+ *    are rejected. close() writes whatever is still queued.
+ *  - Thread-safe.
+ */
+public class RollingLeaderboards implements Closeable {
+
+    // ---------- CONSTANTS ----------
+
+    // LOG_PATH - The game's run log, next to accounts.txt
+    public static final String LOG_PATH = "src/game/resources/data/runs.log";
+
+    // TRIM_AFTER_STALE - Aged-out log lines tolerated before open() rewrites the log
+    private static final int TRIM_AFTER_STALE = 1000;
+
+    // CLOSE_TIMEOUT_MS - Upper bound close() waits for queued runs to be written
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    // ---------- PERIODS ----------
+
+    public enum Period {
+        // Last 24 hours, sliding hour by hour
+        DAILY("Today", TimeUnit.HOURS.toMillis(1), 24),
+        // Last 7 days, sliding six hours at a time
+        WEEKLY("This Week", TimeUnit.HOURS.toMillis(6), 28);
+
+        private final String displayName;
+        private final long bucketMillis;
+        private final int buckets;
+
+        Period(String displayName, long bucketMillis, int buckets) {
+            this.displayName = displayName;
+            this.bucketMillis = bucketMillis;
+            this.buckets = buckets;
+        }
+
+        // getDisplayName - Returns the label shown in the leaderboard
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // ---------- FIELDS ----------
+
+    private final Map<Period, RollingLeaderboard> boards = new EnumMap<>(Period.class);
+    private final LongSupplier clock;
+
+    // Both null when the boards are not backed by a log
+    private final File logFile;
+    private final GroupCommitter writer;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // RollingLeaderboards - In-memory boards whose windows end at clock's time
+    public RollingLeaderboards(LongSupplier clock) {
+        this(clock, null);
+    }
+
+    // RollingLeaderboards - Boards logging runs to logFile (may be null)
+    private RollingLeaderboards(LongSupplier clock, File logFile) {
+        if (clock == null) {
+            throw new IllegalArgumentException("clock cannot be null");
+        }
+        this.clock = clock;
+        this.logFile = logFile;
+        this.writer = (logFile == null) ? null
+                : new GroupCommitter("run-log-writer", new LineLog(logFile, false), 0, null);
+        for (Period p : Period.values()) {
+            boards.put(p, new RollingLeaderboard(p.bucketMillis, p.buckets));
+        }
+    }
+
+    // open - Boards over the runs logged at logPath within the longest window
+    public static RollingLeaderboards open(String logPath, LongSupplier clock) throws IOException {
+        if (logPath == null) {
+            throw new IllegalArgumentException("logPath cannot be null");
+        }
+        RollingLeaderboards boards = new RollingLeaderboards(clock, new File(logPath));
+        boards.replayLog();
+        return boards;
+    }
+
+    // ---------- PUBLIC API ----------
+
+    // record - Adds a run that ended now to every board and queues it for the log
+    public void record(String username, double timeSeconds) {
+        long now = clock.getAsLong();
+        record(username, timeSeconds, now);
+        if (writer != null && timeSeconds > 0.0) {
+            writer.submit(List.of(now + "\t" + username + "\t" + timeSeconds));
+        }
+    }
+
+    // record - Adds a run that ended at atMillis to every board (not logged)
+    public void record(String username, double timeSeconds, long atMillis) {
+        if (username == null || username.indexOf('\t') >= 0
+                || username.indexOf('\n') >= 0 || username.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("username cannot be null or contain tabs or line breaks");
+        }
+        for (RollingLeaderboard board : boards.values()) {
+            board.record(username, timeSeconds, atMillis);
+        }
+    }
+
+    // get - Returns one period's board, slid forward to the clock's time
+    public RollingLeaderboard get(Period period) {
+        RollingLeaderboard board = boards.get(period);
+        board.advanceTo(clock.getAsLong());
+        return board;
+    }
+
+    // flush - Completes once every run recorded so far is in the log
+    public CompletableFuture<Void> flush() {
+        return (writer == null) ? CompletableFuture.completedFuture(null) : writer.flush();
+    }
+
+    // close - Writes the runs still queued and stops the writer; a run it cannot write only
+    //         costs that run its place after a restart
+    @Override
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            if (!writer.close(CLOSE_TIMEOUT_MS)) {
+                System.err.println("Timed out writing the run log");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---------- RUN LOG ----------
+
+    // replayLog - Records every logged run inside the longest window; trims the log if mostly
+    //             stale. Runs before the writer has anything to write, so the two never overlap
+    private void replayLog() throws IOException {
+        if (!logFile.exists()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long since = now - longestWindowMillis();
+        List<String> live = new ArrayList<>();
+        int stale = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(logFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length != 3 || fields[1].isEmpty()) {
+                    stale++; // malformed or torn: drop it on the next trim
+                    continue;
+                }
+                try {
+                    long at = Long.parseLong(fields[0]);
+                    double time = Double.parseDouble(fields[2]);
+                    if (at < since) {
+                        stale++;
+                        continue;
+                    }
+                    record(fields[1], time, at);
+                    live.add(line);
+                } catch (NumberFormatException e) {
+                    stale++;
+                }
+            }
+        }
+        for (RollingLeaderboard board : boards.values()) {
+            board.advanceTo(now);
+        }
+
+        if (stale >= TRIM_AFTER_STALE && stale > live.size()) {
+            trimLog(live);
+        }
+    }
+
+    // trimLog - Rewrites the log with only the given lines
+    private void trimLog(List<String> live) throws IOException {
+        File tmp = new File(logFile.getPath() + ".tmp");
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(tmp), StandardCharsets.UTF_8))) {
+            for (String line : live) {
+                out.write(line);
+                out.write('\n');
+            }
+        }
+        try {
+            Files.move(tmp.toPath(), logFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), logFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // longestWindowMillis - Length of the longest period's window
+    private long longestWindowMillis() {
+        long longest = 0;
+        for (RollingLeaderboard board : boards.values()) {
+            longest = Math.max(longest, board.getWindowMillis());
+        }
+        return longest;
+    }
+}
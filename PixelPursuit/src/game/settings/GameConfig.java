@@ -41,6 +41,9 @@ public final class GameConfig {
     public static final double SURVIVAL_GOLD_INTERVAL_SEC = 10.0;
     public static final int SURVIVAL_GOLD_PER_TICK       = 1;
 
+    // Session timer wheel resolution; every timed mechanic is rounded to this
+    public static final double TIMER_TICK_SEC            = 0.1;
+
     // ---------- SCORING / MULTIPLIERS ----------
 
     public static final double MULTIPLIER_DEATH  = 0.0;
@@ -49,6 +52,12 @@ public final class GameConfig {
 
     public static final int DIAMOND_GOLD_VALUE   = 10;
 
+    // ---------- LOOT LIFECYCLE ----------
+
+    // Spawned loot despawns after this long; at most MAX_LIVE_LOOT items at once
+    public static final double LOOT_LIFETIME_SEC = 30.0;
+    public static final int MAX_LIVE_LOOT        = 12;
+
     // ---------- LEADERBOARD ----------
 
     public static final int LEADERBOARD_MAX_ENTRIES = 10;
@@ -0,0 +1,244 @@
+package game.simulation;
+
+import game.gameplay.ChaserAI;
+import game.gameplay.DirectChaserAI;
+import game.gameplay.SearchRunnerBot;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.world.GameRandom;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Head-to-head arena for ChaserAI strategies:
+ *  - Every entrant plays the same fixed set of seeded mazes against the same
+ *    reference SearchRunnerBot, so differences come from the AI alone.
+ *  - Games run in parallel; each game owns its maze, session, bot and AIs.
+ *  - Reports capture rate, mean time-to-capture and CPU nanoseconds per decision,
+ *    so AI quality and AI cost are measured together.
+ *
+ * Usage: ChaserArena [games] [seed] [threads]
+ */
+public final class ChaserArena {
+
+    // ---------- CONSTANTS ----------
+
+    // MAX_TICKS - Cap per game (10 minutes of play)
+    private static final long MAX_TICKS = 2000;
+
+    // Reference runner: fixed depth so every entrant faces the identical opponent
+    private static final int BOT_DEPTH = 6;
+    private static final double BOT_LOOTING_SECONDS = 60.0;
+
+    // ---------- FIELDS ----------
+
+    private final int threads;
+    private final long[] mazeSeeds;
+    private final int chaserCount;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // ChaserArena - Configures worker count, the fixed maze seed set and chasers per game
+    public ChaserArena(int threads, long[] mazeSeeds, int chaserCount) {
+        if (threads < 1 || chaserCount < 1 || mazeSeeds == null || mazeSeeds.length == 0) {
+            throw new IllegalArgumentException("threads, chaserCount and mazeSeeds must be non-empty/positive");
+        }
+        this.threads = threads;
+        this.mazeSeeds = mazeSeeds.clone();
+        this.chaserCount = chaserCount;
+    }
+
+    // seedSet - Derives count reproducible maze seeds from one base seed
+    public static long[] seedSet(long baseSeed, int count) {
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = GameRandom.streamSeed(baseSeed, i, 0);
+        }
+        return seeds;
+    }
+
+    // ---------- RUNNING ----------
+
+    // run - Plays every entrant on every maze seed and returns one Result per entrant
+    public List<Result> run(List<Entrant> entrants) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<List<Future<Result>>> futures = new ArrayList<>();
+            for (Entrant entrant : entrants) {
+                List<Future<Result>> games = new ArrayList<>();
+                for (long seed : mazeSeeds) {
+                    games.add(pool.submit(() -> playOne(entrant, seed)));
+                }
+                futures.add(games);
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (int e = 0; e < entrants.size(); e++) {
+                Result total = new Result(entrants.get(e).name);
+                for (Future<Result> game : futures.get(e)) {
+                    total.merge(game.get());
+                }
+                results.add(total);
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Arena game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // playOne - Plays a single game of one entrant on one maze seed
+    private Result playOne(Entrant entrant, long mazeSeed) {
+        List<TimedChaserAI> timed = new ArrayList<>();
+        Function<GameRandom, ChaserAI> factory = rng -> {
+            TimedChaserAI ai = new TimedChaserAI(entrant.factory.apply(rng));
+            timed.add(ai);
+            return ai;
+        };
+
+        // Same run seed for every entrant: identical loot spawns and AI random streams
+        HeadlessGame game = HeadlessGame.create(
+                mazeSeed, GameRandom.streamSeed(mazeSeed, 1, 0),
+                chaserCount,
+                GameConfig.getGoldSpawnIntervalForCurrentDifficulty(),
+                GameConfig.getDiamondChanceForCurrentDifficulty(),
+                factory,
+                new SearchRunnerBot(BOT_DEPTH, 0L, BOT_LOOTING_SECONDS));
+        game.run(MAX_TICKS);
+
+        Result result = new Result(entrant.name);
+        result.games = 1;
+        if (game.isCaught()) {
+            result.captures = 1;
+            result.captureTicks = game.getTicks();
+        }
+        for (TimedChaserAI ai : timed) {
+            result.decisions += ai.getDecisions();
+            result.decisionNanos += ai.getNanos();
+        }
+        return result;
+    }
+
+    // ---------- REPORTING ----------
+
+    // report - Prints one row per entrant
+    public static void report(PrintStream out, List<Result> results) {
+        String unit = TimedChaserAI.isCpuTime() ? "cpu ns/decision" : "wall ns/decision";
+        out.printf("%-24s | %6s %9s %16s | %12s %16s%n",
+                "ai", "games", "capture%", "mean capture (s)", "decisions", unit);
+        for (Result r : results) {
+            out.printf("%-24s | %6d %8.1f%% %16.1f | %12d %16.0f%n",
+                    r.name, r.games, 100.0 * r.getCaptureRate(), r.getMeanTimeToCaptureSeconds(),
+                    r.decisions, r.getNanosPerDecision());
+        }
+    }
+
+    // ---------- ENTRY POINT ----------
+
+    // main - Compares the built-in AIs on a shared seed set
+    public static void main(String[] args) throws Exception {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 42L;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2])
+                                        : Runtime.getRuntime().availableProcessors();
+
+        List<Entrant> entrants = new ArrayList<>();
+        entrants.add(new Entrant("SimpleChaserAI r=7", rng -> new SimpleChaserAI(7, rng)));
+        entrants.add(new Entrant("SimpleChaserAI r=11", rng -> new SimpleChaserAI(11, rng)));
+        entrants.add(new Entrant("DirectChaserAI", rng -> new DirectChaserAI()));
+
+        ChaserArena arena = new ChaserArena(threads, seedSet(seed, games),
+                GameConfig.getChaserCountForCurrentDifficulty());
+        report(System.out, arena.run(entrants));
+    }
+
+    // ---------- ENTRANT ----------
+
+    /**
+     * One contestant: a display name and a factory building a fresh AI per chaser.
+     */
+    public static final class Entrant {
+
+        private final String name;
+        private final Function<GameRandom, ChaserAI> factory;
+
+        // Entrant - Names an AI strategy and how to build it from a seeded RNG
+        public Entrant(String name, Function<GameRandom, ChaserAI> factory) {
+            if (name == null || factory == null) {
+                throw new IllegalArgumentException("name and factory cannot be null");
+            }
+            this.name = name;
+            this.factory = factory;
+        }
+
+        // getName - Returns the entrant's display name
+        public String getName() {
+            return name;
+        }
+    }
+
+    // ---------- RESULT ----------
+
+    /**
+     * Aggregated arena outcome for one entrant.
+     */
+    public static final class Result {
+
+        private final String name;
+
+        private long games;
+        private long captures;
+        private long captureTicks;
+        private long decisions;
+        private long decisionNanos;
+
+        // Result - Creates an empty result for the named entrant
+        Result(String name) {
+            this.name = name;
+        }
+
+        // merge - Adds another game's (or batch's) counts into this one
+        void merge(Result other) {
+            games += other.games;
+            captures += other.captures;
+            captureTicks += other.captureTicks;
+            decisions += other.decisions;
+            decisionNanos += other.decisionNanos;
+        }
+
+        // getName - Returns the entrant's display name
+        public String getName() { return name; }
+
+        // getGames - Returns the number of games played
+        public long getGames() { return games; }
+
+        // getCaptures - Returns how many games ended in a capture
+        public long getCaptures() { return captures; }
+
+        // getDecisions - Returns how many AI decisions were timed
+        public long getDecisions() { return decisions; }
+
+        // getCaptureRate - Returns the fraction of games ending in a capture
+        public double getCaptureRate() {
+            return games == 0 ? 0.0 : (double) captures / games;
+        }
+
+        // getMeanTimeToCaptureSeconds - Returns the mean game time of captures only
+        public double getMeanTimeToCaptureSeconds() {
+            return captures == 0 ? 0.0 : captureTicks * HeadlessGame.TICK_SECONDS / captures;
+        }
+
+        // getNanosPerDecision - Returns the mean cost of one AI decision
+        public double getNanosPerDecision() {
+            return decisions == 0 ? 0.0 : (double) decisionNanos / decisions;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package game.simulation;
+
+import game.gameplay.SearchRunnerBot;
+import game.gameplay.SimpleChaserAI;
+import game.world.GameRandom;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch difficulty calibration:
+ *  - Plays many headless SearchRunnerBot vs SimpleChaserAI games per parameter set.
+ *  - Sweeps detection radius, chaser count, loot spawn interval and diamond chance.
+ *  - Reports escape rate, survival-time distribution and gold yield per configuration.
+ *  - Every game draws from its own seeded stream, so results do not depend on
+ *    thread count or scheduling; games are split into independent chunks so the
+ *    work scales with the number of cores.
+ *
+ * Usage: DifficultyCalibration [gamesPerConfig] [seed] [threads] [csvPath]
+ */
+public final class DifficultyCalibration {
+
+    // ---------- CONSTANTS ----------
+
+    // MAX_TICKS - Cap per game (10 minutes of play) so a stalled bot cannot hang a worker
+    private static final long MAX_TICKS = 2000;
+
+    // Survival histogram: 10-second buckets, last bucket collects everything longer
+    private static final int BUCKET_SECONDS = 10;
+    private static final int BUCKETS = 61;
+
+    // CHUNK_GAMES - Games per task; large enough to amortize scheduling, small enough to balance
+    private static final int CHUNK_GAMES = 64;
+
+    // Bot settings: fixed depth (no time budget) keeps every game deterministic
+    private static final int BOT_DEPTH = 6;
+    private static final double BOT_LOOTING_SECONDS = 60.0;
+
+    // ---------- FIELDS ----------
+
+    private final int threads;
+    private final int gamesPerConfig;
+    private final long baseSeed;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // DifficultyCalibration - Configures a sweep with a worker count, sample size and base seed
+    public DifficultyCalibration(int threads, int gamesPerConfig, long baseSeed) {
+        if (threads < 1 || gamesPerConfig < 1) {
+            throw new IllegalArgumentException("threads and gamesPerConfig must be positive");
+        }
+        this.threads = threads;
+        this.gamesPerConfig = gamesPerConfig;
+        this.baseSeed = baseSeed;
+    }
+
+    // ---------- SWEEP DEFINITION ----------
+
+    // defaultSweep - Grid around the current EASY/HARD values in GameConfig
+    public static List<Params> defaultSweep() {
+        int[] radii = { 5, 7, 9, 11, 13 };
+        int[] chaserCounts = { 1, 2, 3 };
+        double[] spawnIntervals = { 3.0, 4.0, 5.0, 6.0 };
+        double[] diamondChances = { 0.10, 0.20 };
+
+        List<Params> sweep = new ArrayList<>();
+        for (int radius : radii) {
+            for (int count : chaserCounts) {
+                for (double interval : spawnIntervals) {
+                    for (double chance : diamondChances) {
+                        sweep.add(new Params(radius, count, interval, chance));
+                    }
+                }
+            }
+        }
+        return sweep;
+    }
+
+    // ---------- RUNNING ----------
+
+    // run - Plays gamesPerConfig games for every parameter set and returns stats in sweep order
+    public List<Stats> run(List<Params> sweep) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<List<Future<Stats>>> futures = new ArrayList<>();
+            for (int c = 0; c < sweep.size(); c++) {
+                Params params = sweep.get(c);
+                int configIndex = c;
+
+                List<Future<Stats>> chunks = new ArrayList<>();
+                for (int first = 0; first < gamesPerConfig; first += CHUNK_GAMES) {
+                    int from = first;
+                    int to = Math.min(gamesPerConfig, first + CHUNK_GAMES);
+                    chunks.add(pool.submit(() -> playChunk(params, configIndex, from, to)));
+                }
+                futures.add(chunks);
+            }
+
+            List<Stats> results = new ArrayList<>();
+            for (int c = 0; c < sweep.size(); c++) {
+                Stats total = new Stats(sweep.get(c));
+                for (Future<Stats> chunk : futures.get(c)) {
+                    total.merge(chunk.get());
+                }
+                results.add(total);
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Calibration game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // playChunk - Plays games [from, to) of one configuration into a thread-local Stats
+    private Stats playChunk(Params params, int configIndex, int from, int to) {
+        Stats stats = new Stats(params);
+        SearchRunnerBot bot = new SearchRunnerBot(BOT_DEPTH, 0L, BOT_LOOTING_SECONDS);
+
+        for (int game = from; game < to; game++) {
+            // Same maze for a given game index across all configs (common random numbers),
+            // separate stream per config for loot spawns and chaser roaming.
+            HeadlessGame headless = HeadlessGame.create(
+                    GameRandom.streamSeed(baseSeed, game, 0),
+                    GameRandom.streamSeed(baseSeed, game, configIndex + 1L),
+                    params.chaserCount, params.goldSpawnInterval, params.diamondChance,
+                    rng -> new SimpleChaserAI(params.detectionRadius, rng),
+                    bot);
+            headless.run(MAX_TICKS);
+            stats.record(headless);
+        }
+        return stats;
+    }
+
+    // ---------- REPORTING ----------
+
+    // report - Prints one row per configuration
+    public static void report(PrintStream out, List<Stats> results) {
+        out.println(" radius chasers spawn diamond |   games escape%  caught% | survival mean  p50  p90 | gold mean  gold/escape");
+        for (Stats s : results) {
+            Params p = s.params;
+            out.printf("%7d %7d %5.1f %7.2f | %7d %6.1f%% %7.1f%% | %13.1f %4d %4d | %9.2f %12.2f%n",
+                    p.detectionRadius, p.chaserCount, p.goldSpawnInterval, p.diamondChance,
+                    s.games, 100.0 * s.getEscapeRate(), 100.0 * s.getCaptureRate(),
+                    s.getMeanSurvivalSeconds(), s.getSurvivalPercentile(0.50), s.getSurvivalPercentile(0.90),
+                    s.getMeanGold(), s.getMeanGoldPerEscape());
+        }
+    }
+
+    // writeCsv - Writes results including the full survival histogram to a CSV file
+    public static void writeCsv(String path, List<Stats> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(path), StandardCharsets.UTF_8))) {
+
+            StringBuilder header = new StringBuilder(
+                    "detectionRadius,chaserCount,goldSpawnInterval,diamondChance,games,escapes,captures,timeouts,meanSurvivalSec,meanGold");
+            for (int b = 0; b < BUCKETS; b++) {
+                header.append(",survival_").append(b * BUCKET_SECONDS).append('s');
+            }
+            writer.println(header);
+
+            for (Stats s : results) {
+                Params p = s.params;
+                StringBuilder row = new StringBuilder();
+                row.append(p.detectionRadius).append(',').append(p.chaserCount).append(',')
+                   .append(p.goldSpawnInterval).append(',').append(p.diamondChance).append(',')
+                   .append(s.games).append(',').append(s.escapes).append(',')
+                   .append(s.captures).append(',').append(s.timeouts).append(',')
+                   .append(s.getMeanSurvivalSeconds()).append(',').append(s.getMeanGold());
+                for (long count : s.survivalHistogram) {
+                    row.append(',').append(count);
+                }
+                writer.println(row);
+            }
+        }
+    }
+
+    // ---------- ENTRY POINT ----------
+
+    // main - Runs the default sweep and prints the report (optionally also a CSV)
+    public static void main(String[] args) throws Exception {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 42L;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2])
+                                        : Runtime.getRuntime().availableProcessors();
+        String csvPath = (args.length > 3) ? args[3] : null;
+
+        List<Params> sweep = defaultSweep();
+        System.out.println("Calibrating " + sweep.size() + " configs x " + games
+                + " games on " + threads + " threads (seed " + seed + ")");
+
+        long start = System.nanoTime();
+        List<Stats> results = new DifficultyCalibration(threads, games, seed).run(sweep);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        report(System.out, results);
+        long totalGames = (long) sweep.size() * games;
+        System.out.printf("%d games in %.1f s (%.0f games/s)%n", totalGames, seconds, totalGames / seconds);
+
+        if (csvPath != null) {
+            writeCsv(csvPath, results);
+            System.out.println("Wrote " + csvPath);
+        }
+    }
+
+    // ---------- PARAMETER SET ----------
+
+    /**
+     * One point in the sweep: the GameConfig difficulty knobs being calibrated.
+     */
+    public static final class Params {
+
+        public final int detectionRadius;
+        public final int chaserCount;
+        public final double goldSpawnInterval;
+        public final double diamondChance;
+
+        // Params - Stores one combination of difficulty knobs
+        public Params(int detectionRadius, int chaserCount, double goldSpawnInterval, double diamondChance) {
+            this.detectionRadius = detectionRadius;
+            this.chaserCount = chaserCount;
+            this.goldSpawnInterval = goldSpawnInterval;
+            this.diamondChance = diamondChance;
+        }
+    }
+
+    // ---------- AGGREGATED RESULTS ----------
+
+    /**
+     * Aggregated outcome of every game played with one Params.
+     * Counters are integral so merging chunks in any order gives identical results.
+     */
+    public static final class Stats {
+
+        private final Params params;
+
+        private long games;
+        private long escapes;
+        private long captures;
+        private long timeouts;
+        private long totalTicks;
+        private long totalGold;
+        private long escapedGold;
+        private final long[] survivalHistogram = new long[BUCKETS];
+
+        // Stats - Creates an empty accumulator for the given parameters
+        Stats(Params params) {
+            this.params = params;
+        }
+
+        // record - Adds one finished game
+        void record(HeadlessGame game) {
+            games++;
+            totalTicks += game.getTicks();
+
+            int gold = game.getSession().getRunGold();
+            totalGold += gold;
+
+            if (game.isEscaped()) {
+                escapes++;
+                escapedGold += gold;
+            } else if (game.isCaught()) {
+                captures++;
+            } else {
+                timeouts++;
+            }
+
+            double seconds = game.getTicks() * HeadlessGame.TICK_SECONDS;
+            int bucket = Math.min(BUCKETS - 1, (int) (seconds / BUCKET_SECONDS));
+            survivalHistogram[bucket]++;
+        }
+
+        // merge - Adds another accumulator's counts into this one
+        void merge(Stats other) {
+            games += other.games;
+            escapes += other.escapes;
+            captures += other.captures;
+            timeouts += other.timeouts;
+            totalTicks += other.totalTicks;
+            totalGold += other.totalGold;
+            escapedGold += other.escapedGold;
+            for (int b = 0; b < BUCKETS; b++) {
+                survivalHistogram[b] += other.survivalHistogram[b];
+            }
+        }
+
+        // getParams - Returns the parameters these stats belong to
+        public Params getParams() { return params; }
+
+        // getGames - Returns the number of games played
+        public long getGames() { return games; }
+
+        // getEscapeRate - Returns the fraction of games where the bot escaped
+        public double getEscapeRate() {
+            return games == 0 ? 0.0 : (double) escapes / games;
+        }
+
+        // getCaptureRate - Returns the fraction of games where a chaser caught the bot
+        public double getCaptureRate() {
+            return games == 0 ? 0.0 : (double) captures / games;
+        }
+
+        // getMeanSurvivalSeconds - Returns the mean run length in seconds
+        public double getMeanSurvivalSeconds() {
+            return games == 0 ? 0.0 : totalTicks * HeadlessGame.TICK_SECONDS / games;
+        }
+
+        // getMeanGold - Returns the mean run gold (before multipliers) over all games
+        public double getMeanGold() {
+            return games == 0 ? 0.0 : (double) totalGold / games;
+        }
+
+        // getMeanGoldPerEscape - Returns the mean run gold over escaped games only
+        public double getMeanGoldPerEscape() {
+            return escapes == 0 ? 0.0 : (double) escapedGold / escapes;
+        }
+
+        // getSurvivalPercentile - Returns the lower edge (seconds) of the bucket holding quantile q
+        public int getSurvivalPercentile(double q) {
+            long target = (long) Math.ceil(q * games);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += survivalHistogram[b];
+                if (seen >= target && seen > 0) {
+                    return b * BUCKET_SECONDS;
+                }
+            }
+            return (BUCKETS - 1) * BUCKET_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package game.simulation;
+
+import game.gameplay.ChaserAI;
+import game.gameplay.Runner;
+import game.gameplay.RunnerController;
+import game.gameplay.Session;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.world.GameRandom;
+import game.world.Maze;
+
+import java.util.function.Function;
+
+/**
+ * Headless game loop:
+ *  - Runs the same per-tick sequence as GamePanel's Swing timer, without any UI.
+ *  - Steers the runner with a RunnerController instead of keyboard input.
+ *  - Used for bot self-play, batch simulations and soak tests.
+ */
+public class HeadlessGame {
+
+    // ---------- CONSTANTS ----------
+
+    // TICK_SECONDS - Simulated time per tick, matching GamePanel's movement timer
+    public static final double TICK_SECONDS = GameConfig.RUNNER_MOVE_INTERVAL_MS / 1000.0;
+
+    // ---------- FIELDS ----------
+
+    private final Session session;
+    private final RunnerController controller;
+
+    private long ticks = 0;
+    private boolean escaped = false;
+    private boolean caught = false;
+
+    // Optional per-tick state hash recording (for replays / divergence checks)
+    private StateHashTrace trace;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // HeadlessGame - Wraps an already-built session and the controller that drives its runner
+    public HeadlessGame(Session session, RunnerController controller) {
+        if (session == null || controller == null) {
+            throw new IllegalArgumentException("session and controller cannot be null");
+        }
+        this.session = session;
+        this.controller = controller;
+    }
+
+    // create - Builds a fresh maze, runner and SimpleChaserAI chasers like GameWindow does
+    public static HeadlessGame create(int chaserCount, RunnerController controller) {
+        Maze maze = new Maze();
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        Session session = new Session(maze, runner);
+        session.spawnChasers(chaserCount, SimpleChaserAI::new);
+        return new HeadlessGame(session, controller);
+    }
+
+    // create - Builds a fully seeded game: the maze comes from mazeSeed, loot spawns and
+    //          chaser AIs draw from runSeed, so the same seeds always replay the same run
+    public static HeadlessGame create(long mazeSeed, long runSeed,
+                                      int chaserCount, double goldSpawnInterval, double diamondChance,
+                                      Function<GameRandom, ChaserAI> aiFactory,
+                                      RunnerController controller) {
+        Maze maze = new Maze(GameConfig.MAZE_WIDTH, GameConfig.MAZE_HEIGHT, new GameRandom(mazeSeed));
+        GameRandom rng = new GameRandom(runSeed);
+
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        Session session = new Session(maze, runner,
+                goldSpawnInterval, diamondChance, new GameRandom(rng.nextLong()));
+        session.spawnChasers(chaserCount, () -> aiFactory.apply(new GameRandom(rng.nextLong())));
+        return new HeadlessGame(session, controller);
+    }
+
+    // ---------- ACCESSORS ----------
+
+    // getSession - Returns the session being simulated
+    public Session getSession() {
+        return session;
+    }
+
+    // getTicks - Returns how many ticks have been simulated
+    public long getTicks() {
+        return ticks;
+    }
+
+    // isEscaped - Returns true if the runner reached the exit
+    public boolean isEscaped() {
+        return escaped;
+    }
+
+    // isCaught - Returns true if a chaser caught the runner
+    public boolean isCaught() {
+        return caught;
+    }
+
+    // isFinished - Returns true once the run has ended either way
+    public boolean isFinished() {
+        return escaped || caught || !session.isRunning();
+    }
+
+    // setTrace - Records session.getStateHash() after every tick into trace (null = off)
+    public void setTrace(StateHashTrace trace) {
+        this.trace = trace;
+    }
+
+    // getTrace - Returns the trace being recorded, or null
+    public StateHashTrace getTrace() {
+        return trace;
+    }
+
+    // ---------- LOOP ----------
+
+    // tick - Advances one tick; returns false once the run has ended
+    public boolean tick() {
+        if (isFinished()) {
+            return false;
+        }
+
+        Runner runner = session.getRunner();
+
+        controller.control(runner, session);
+        runner.step();
+        session.update(TICK_SECONDS);
+        ticks++;
+
+        // Check exit first, then death (same order as GamePanel)
+        if (runner.isAlive() && session.isRunnerAtExit()) {
+            escaped = true;
+            session.endSession();
+        } else if (!runner.isAlive()) {
+            caught = true;
+        }
+
+        if (trace != null) {
+            trace.record(session.getStateHash());
+        }
+        return !escaped && !caught;
+    }
+
+    // run - Ticks until the run ends or maxTicks is reached; returns ticks simulated
+    public long run(long maxTicks) {
+        while (ticks < maxTicks && tick()) {
+            // keep ticking
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,357 @@
+package game.simulation;
+
+import game.gameplay.NanoHistogram;
+import game.gameplay.Runner;
+import game.gameplay.RunnerController;
+import game.gameplay.Session;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.ui.components.panels.GamePanel;
+import game.world.GameRandom;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Optional JIT warm-up at launch:
+ *  - Plays throwaway seeded games headlessly and paints a GamePanel offscreen
+ *    every few ticks, so Session.update, the chaser BFS and paintComponent are
+ *    compiled before the player's first game instead of during it.
+ *  - Runs on a low-priority daemon thread while the login window is open.
+ *    Nothing it builds is shared with the real game.
+ *  - Off by default; enable with -Dpixelpursuit.warmup=true (tick count via
+ *    -Dpixelpursuit.warmup.ticks).
+ *  - main() measures the benefit: it starts one cold and one warmed-up JVM and
+ *    compares the frame times of their first game.
+ *
+ * Usage: JitWarmup [ticks] [frames]
+ */
+public final class JitWarmup {
+
+    // ---------- CONSTANTS ----------
+
+    // ENABLE_PROPERTY / TICKS_PROPERTY - Launch switches read by startIfRequested()
+    public static final String ENABLE_PROPERTY = "pixelpursuit.warmup";
+    public static final String TICKS_PROPERTY = "pixelpursuit.warmup.ticks";
+
+    // DEFAULT_TICKS - Enough for C2 to compile the per-tick and per-frame paths
+    public static final long DEFAULT_TICKS = 5000;
+
+    // PAINT_EVERY - One offscreen frame per this many ticks: a frame walks every maze
+    // cell, so a few hundred frames already compile it, and the image blits
+    // (most of a frame) are native and gain nothing from more
+    private static final int PAINT_EVERY = 8;
+
+    // Frame size of the probed frames (the game window's usual size); warm-up paints
+    // are smaller since compiling the paint path does not depend on pixel count
+    private static final int FRAME_WIDTH = 1280;
+    private static final int FRAME_HEIGHT = 720;
+    private static final int WARMUP_FRAME_WIDTH = 480;
+    private static final int WARMUP_FRAME_HEIGHT = 270;
+
+    // Warm-up games are busier than a normal run so every AI path gets hot
+    private static final int CHASERS = 3;
+
+    // MAX_TICKS_PER_GAME - Cap so a runner that never finishes still rotates games
+    private static final long MAX_TICKS_PER_GAME = 2000;
+
+    // Seeds of the throwaway warm-up games and of the probed first game
+    private static final long WARMUP_SEED = 0x5741524DL;
+    private static final long PROBE_SEED = 0x50524F42L;
+
+    // ---------- FIELDS ----------
+
+    private final long ticks;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // JitWarmup - Configures how many ticks to play
+    public JitWarmup(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("ticks cannot be negative");
+        }
+        this.ticks = ticks;
+    }
+
+    // ---------- LAUNCH ----------
+
+    // startIfRequested - Starts the background warm-up if -Dpixelpursuit.warmup is set;
+    //                    returns the thread, or null when warm-up is off
+    public static Thread startIfRequested() {
+        if (!Boolean.getBoolean(ENABLE_PROPERTY)) {
+            return null;
+        }
+        return start(Long.getLong(TICKS_PROPERTY, DEFAULT_TICKS), System.out);
+    }
+
+    // start - Runs the warm-up on a low-priority daemon thread and logs its duration
+    public static Thread start(long ticks, PrintStream log) {
+        JitWarmup warmup = new JitWarmup(ticks);
+        Thread thread = new Thread(() -> {
+            try {
+                Result result = warmup.run();
+                if (log != null) {
+                    log.println("JIT warm-up: " + result);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "jit-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return thread;
+    }
+
+    // ---------- WARM-UP ----------
+
+    // run - Plays throwaway games until ticks have been simulated, painting as it goes
+    public Result run() throws InterruptedException {
+        Result result = new Result();
+        long start = System.nanoTime();
+
+        for (int index = 0; result.ticks < ticks; index++) {
+            GameRandom steer = new GameRandom(GameRandom.streamSeed(WARMUP_SEED, index, 2));
+            HeadlessGame game = newGame(WARMUP_SEED, index, new TurnAtWalls(steer));
+            GamePanel panel = offscreenPanel(game.getSession(), WARMUP_FRAME_WIDTH, WARMUP_FRAME_HEIGHT);
+            BufferedImage frame = new BufferedImage(WARMUP_FRAME_WIDTH, WARMUP_FRAME_HEIGHT,
+                    BufferedImage.TYPE_INT_ARGB);
+
+            long played = 0;
+            while (result.ticks < ticks && played < MAX_TICKS_PER_GAME && game.tick()) {
+                played++;
+                result.ticks++;
+                if (played % PAINT_EVERY == 0) {
+                    paint(panel, frame);
+                    result.frames++;
+                }
+            }
+            result.games++;
+
+            game.getSession().endSession();
+            game.getSession().getMaze().clearAllEntities();
+        }
+
+        result.millis = (System.nanoTime() - start) / 1_000_000;
+        return result;
+    }
+
+    // ---------- PROBE ----------
+
+    // probeFirstGame - Times frames (one tick plus one paint each) of a fresh game,
+    //                  the way the player's first game experiences them
+    public static NanoHistogram probeFirstGame(int frames) throws InterruptedException {
+        NanoHistogram histogram = new NanoHistogram();
+        BufferedImage frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+        for (int index = 0; histogram.getCount() < frames; index++) {
+            GameRandom steer = new GameRandom(GameRandom.streamSeed(PROBE_SEED, index, 2));
+            HeadlessGame game = newGame(PROBE_SEED, index, new TurnAtWalls(steer));
+            GamePanel panel = offscreenPanel(game.getSession(), FRAME_WIDTH, FRAME_HEIGHT);
+
+            long played = 0;
+            while (histogram.getCount() < frames && played < MAX_TICKS_PER_GAME) {
+                long t0 = System.nanoTime();
+                boolean running = game.tick();
+                paint(panel, frame);
+                histogram.record(System.nanoTime() - t0);
+                played++;
+                if (!running) {
+                    break;
+                }
+            }
+        }
+        return histogram;
+    }
+
+    // ---------- HELPERS ----------
+
+    // newGame - Builds seeded throwaway game number index
+    private static HeadlessGame newGame(long baseSeed, int index, RunnerController controller) {
+        return HeadlessGame.create(
+                GameRandom.streamSeed(baseSeed, index, 0),
+                GameRandom.streamSeed(baseSeed, index, 1),
+                CHASERS,
+                GameConfig.getGoldSpawnIntervalForCurrentDifficulty(),
+                GameConfig.getDiamondChanceForCurrentDifficulty(),
+                rng -> new SimpleChaserAI(GameConfig.getDetectionRadiusForCurrentDifficulty(), rng),
+                controller);
+    }
+
+    // offscreenPanel - Builds a GamePanel for session on the EDT and stops its timer there,
+    //                  so the Swing timer can never tick the session this thread is playing
+    private static GamePanel offscreenPanel(Session session, int width, int height) throws InterruptedException {
+        GamePanel[] panel = new GamePanel[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                panel[0] = new GamePanel(session, null);
+                panel[0].stopMovement();
+                panel[0].setSize(width, height);
+                // Paint straight into our image, never through the shared RepaintManager buffer
+                panel[0].setDoubleBuffered(false);
+            });
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not build the warm-up panel", e.getCause());
+        }
+        return panel[0];
+    }
+
+    // paint - Renders one frame of panel into frame
+    private static void paint(GamePanel panel, BufferedImage frame) {
+        Graphics2D g = frame.createGraphics();
+        try {
+            panel.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // ---------- ENTRY POINT ----------
+
+    // main - Runs a cold and a warmed-up JVM and reports their first-game frame times;
+    //        with "probe cold|warm" as arguments it is one of those JVMs
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 2 && args[0].equals("probe")) {
+            long ticks = (args.length > 2) ? Long.parseLong(args[2]) : DEFAULT_TICKS;
+            int frames = (args.length > 3) ? Integer.parseInt(args[3]) : 200;
+            probe(args[1].equals("warm"), ticks, frames);
+            System.exit(0);
+        }
+
+        long ticks = (args.length > 0) ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+        int frames = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+
+        double[] cold = runProbe("cold", ticks, frames);
+        double[] warm = runProbe("warm", ticks, frames);
+
+        System.out.printf("first %d frames (us)  %10s %10s %10s%n", frames, "mean", "p99", "max");
+        System.out.printf("  cold               %10.1f %10.1f %10.1f%n", cold[0], cold[1], cold[2]);
+        System.out.printf("  warm               %10.1f %10.1f %10.1f%n", warm[0], warm[1], warm[2]);
+        System.out.printf("warm-up took %.0f ms; first-game mean frame %.1fx faster, worst frame %.1fx faster%n",
+                warm[3], cold[0] / warm[0], cold[2] / warm[2]);
+    }
+
+    // probe - Child JVM: optionally warms up, then prints "probe mean p99 max warmupMs"
+    private static void probe(boolean warm, long ticks, int frames) throws InterruptedException {
+        long warmupMillis = 0;
+        if (warm) {
+            Result result = new JitWarmup(ticks).run();
+            System.out.println("JIT warm-up: " + result);
+            warmupMillis = result.getMillis();
+        }
+
+        NanoHistogram h = probeFirstGame(frames);
+        System.out.printf("probe %.1f %.1f %.1f %d%n",
+                h.getMean() / 1000.0,
+                h.getPercentile(0.99) / 1000.0,
+                h.getMax() / 1000.0,
+                warmupMillis);
+    }
+
+    // runProbe - Starts a headless child JVM in the given mode and parses its probe line
+    private static double[] runProbe(String mode, long ticks, int frames) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Djava.awt.headless=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(JitWarmup.class.getName());
+        command.add("probe");
+        command.add(mode);
+        command.add(Long.toString(ticks));
+        command.add(Integer.toString(frames));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        double[] values = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("probe ")) {
+                    String[] parts = line.substring(6).trim().split("\\s+");
+                    values = new double[parts.length];
+                    for (int i = 0; i < parts.length; i++) {
+                        values[i] = Double.parseDouble(parts[i]);
+                    }
+                } else {
+                    System.out.println("[" + mode + "] " + line);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || values == null) {
+            throw new IllegalStateException("The " + mode + " probe JVM failed");
+        }
+        return values;
+    }
+
+    // ---------- RESULT ----------
+
+    /**
+     * What one warm-up run did and how long it took.
+     */
+    public static final class Result {
+
+        private long ticks;
+        private long frames;
+        private int games;
+        private long millis;
+
+        // getTicks - Returns how many ticks were simulated
+        public long getTicks() { return ticks; }
+
+        // getFrames - Returns how many offscreen frames were painted
+        public long getFrames() { return frames; }
+
+        // getGames - Returns how many throwaway games were played
+        public int getGames() { return games; }
+
+        // getMillis - Returns the wall-clock duration of the warm-up
+        public long getMillis() { return millis; }
+
+        // toString - One-line summary for the launch log
+        @Override
+        public String toString() {
+            return ticks + " ticks, " + frames + " frames over " + games + " games in " + millis + " ms";
+        }
+    }
+
+    // ---------- CONTROLLER ----------
+
+    /**
+     * Keeps the probed runner moving without adding bot search time to the frames:
+     * picks a random new direction whenever it has stopped against a wall.
+     */
+    private static final class TurnAtWalls implements RunnerController {
+
+        private static final int[] DX = { 1, -1, 0, 0 };
+        private static final int[] DY = { 0, 0, 1, -1 };
+
+        private final GameRandom rng;
+
+        // TurnAtWalls - Steers from its own seeded stream
+        TurnAtWalls(GameRandom rng) {
+            this.rng = rng;
+        }
+
+        // control - Re-rolls the direction when stopped
+        @Override
+        public void control(Runner runner, Session session) {
+            if (runner.getDirX() == 0 && runner.getDirY() == 0) {
+                int d = rng.nextInt(DX.length);
+                runner.setDirection(DX[d], DY[d]);
+            }
+        }
+    }
+}
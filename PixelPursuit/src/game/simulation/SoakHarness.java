@@ -0,0 +1,414 @@
+package game.simulation;
+
+import game.gameplay.SearchRunnerBot;
+import game.gameplay.Session;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.ui.components.panels.GamePanel;
+import game.ui.windows.GameWindow;
+import game.world.GameRandom;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.swing.SwingUtilities;
+
+/**
+ * Long-running soak test for leaks across many runs:
+ *  - Each cycle plays one seeded headless game to the end, tears it down, then
+ *    creates and disposes a game window (a real GameWindow when a display is
+ *    available, an offscreen GamePanel frame when the JVM is headless).
+ *  - Every sample records heap used right after a full GC, live thread count
+ *    (minus the JDK's image-loading pool), running GamePanel movement timers
+ *    and instance counts of every game.* class.
+ *  - The verdict compares the last third of the samples with the first third
+ *    after warm-up. Anything that keeps growing past its slack fails the run.
+ *
+ * Usage: SoakHarness [minutes] [sampleSeconds] [chasers] [seed]
+ * (exits with status 1 when a leak is detected)
+ */
+public final class SoakHarness {
+
+    // ---------- CONSTANTS ----------
+
+    // MAX_TICKS - Cap per game so a bot that never finishes still rotates games
+    private static final long MAX_TICKS = 2000;
+
+    // WINDOW_TICKS - Movement-timer ticks a window lives before it is disposed
+    private static final int WINDOW_TICKS = 3;
+
+    // Leak slack: growth below these is noise (JIT, caches, lazy statics)
+    private static final long HEAP_SLACK_BYTES = 8L * 1024 * 1024;
+    private static final double HEAP_SLACK_RATIO = 0.25;
+    private static final long INSTANCE_SLACK = 200;
+    private static final double INSTANCE_SLACK_RATIO = 0.5;
+    private static final int THREAD_SLACK = 2;
+
+    // IMAGE_FETCHER_PREFIX - The JDK's image-loading pool (up to 4 threads that idle
+    //                        out on their own), which is not counted as a leak
+    private static final String IMAGE_FETCHER_PREFIX = "Image Fetcher";
+
+    // Only the game's own classes are tracked per class
+    private static final String TRACKED_PREFIX = "game.";
+
+    // One histogram row: " 12:   345   6789  game.world.Cell"
+    private static final Pattern HISTOGRAM_ROW =
+            Pattern.compile("^\\s*\\d+:\\s+(\\d+)\\s+\\d+\\s+(\\S+)");
+
+    // ---------- FIELDS ----------
+
+    private final int chaserCount;
+    private final long baseSeed;
+    private final boolean realWindows;
+
+    private long cycles = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // SoakHarness - Configures chasers per game and the base seed for all games;
+    //               real windows are cycled whenever a display is available
+    public SoakHarness(int chaserCount, long baseSeed) {
+        this(chaserCount, baseSeed, !GraphicsEnvironment.isHeadless());
+    }
+
+    // SoakHarness - Same, choosing real GameWindows or offscreen GamePanels explicitly
+    public SoakHarness(int chaserCount, long baseSeed, boolean realWindows) {
+        if (chaserCount < 0) {
+            throw new IllegalArgumentException("chaserCount cannot be negative");
+        }
+        if (realWindows && GraphicsEnvironment.isHeadless()) {
+            throw new IllegalArgumentException("real windows need a display");
+        }
+        this.chaserCount = chaserCount;
+        this.baseSeed = baseSeed;
+        this.realWindows = realWindows;
+    }
+
+    // ---------- RUNNING ----------
+
+    // run - Cycles for durationMillis, sampling every sampleMillis; log may be null
+    public Report run(long durationMillis, long sampleMillis, PrintStream log) throws InterruptedException {
+        if (durationMillis <= 0 || sampleMillis <= 0) {
+            throw new IllegalArgumentException("durationMillis and sampleMillis must be positive");
+        }
+
+        List<Sample> samples = new ArrayList<>();
+        long start = System.currentTimeMillis();
+        long nextSample = start;
+
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (now >= nextSample) {
+                Sample sample = sample(now - start);
+                samples.add(sample);
+                if (log != null) {
+                    log.println(sample);
+                }
+                nextSample += sampleMillis;
+            }
+            if (now - start >= durationMillis) {
+                break;
+            }
+            cycle();
+        }
+        return new Report(samples);
+    }
+
+    // cycle - One game played and torn down, plus one window created and disposed
+    private void cycle() throws InterruptedException {
+        long index = cycles++;
+
+        HeadlessGame game = HeadlessGame.create(
+                GameRandom.streamSeed(baseSeed, index, 0),
+                GameRandom.streamSeed(baseSeed, index, 1),
+                chaserCount,
+                GameConfig.getGoldSpawnIntervalForCurrentDifficulty(),
+                GameConfig.getDiamondChanceForCurrentDifficulty(),
+                rng -> new SimpleChaserAI(GameConfig.getDetectionRadiusForCurrentDifficulty(), rng),
+                new SearchRunnerBot(4, 0L, 60.0));
+        game.run(MAX_TICKS);
+        tearDown(game.getSession());
+
+        if (realWindows) {
+            cycleWindow();
+        } else {
+            cyclePanel();
+        }
+    }
+
+    // tearDown - What the game does when a run ends
+    private static void tearDown(Session session) {
+        session.endSession();
+        session.getMaze().clearAllEntities();
+    }
+
+    // cycleWindow - Opens a real GameWindow, lets its timer tick, then disposes it
+    private void cycleWindow() throws InterruptedException {
+        GameWindow[] window = new GameWindow[1];
+        onEdt(() -> window[0] = new GameWindow(null, null));
+        Thread.sleep((long) GameConfig.RUNNER_MOVE_INTERVAL_MS * WINDOW_TICKS);
+        onEdt(() -> window[0].dispose());
+    }
+
+    // cyclePanel - Offscreen stand-in: paints one offscreen GamePanel frame, then
+    //              detaches it the way Window.dispose() detaches every child
+    private void cyclePanel() throws InterruptedException {
+        onEdt(() -> {
+            HeadlessGame game = HeadlessGame.create(chaserCount, (runner, session) -> { });
+            GamePanel panel = new GamePanel(game.getSession(), null);
+            panel.setSize(640, 360);
+
+            BufferedImage frame = new BufferedImage(640, 360, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = frame.createGraphics();
+            try {
+                panel.paint(g);
+            } finally {
+                g.dispose();
+            }
+            panel.removeNotify();
+        });
+    }
+
+    // onEdt - Runs task on the Swing thread and waits for it
+    private static void onEdt(Runnable task) throws InterruptedException {
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Soak UI cycle failed", e.getCause());
+        }
+    }
+
+    // ---------- SAMPLING ----------
+
+    // sample - Full GC, then heap, threads, timers and per-class counts
+    private Sample sample(long elapsedMillis) {
+        // Collect first: the histogram's own pre-dump GC can be skipped (GC locker),
+        // which would count garbage as live
+        System.gc();
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        int threads = countThreads();
+        return new Sample(elapsedMillis, cycles, heap, threads,
+                GamePanel.getRunningTimerCount(), liveHistogram());
+    }
+
+    // countThreads - Live threads, minus the JDK's image fetchers (their number follows load timing)
+    private static int countThreads() {
+        int count = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (!t.getName().startsWith(IMAGE_FETCHER_PREFIX)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // liveHistogram - Per-class minimum of two histograms: if either dump's GC was skipped,
+    //                 the other one still counts only live instances
+    private static Map<String, Long> liveHistogram() {
+        Map<String, Long> first = classHistogram();
+        Map<String, Long> second = classHistogram();
+        Map<String, Long> live = new TreeMap<>();
+        for (Map.Entry<String, Long> e : first.entrySet()) {
+            live.put(e.getKey(), Math.min(e.getValue(), second.getOrDefault(e.getKey(), 0L)));
+        }
+        return live;
+    }
+
+    // classHistogram - Instance counts of game.* classes via the HotSpot diagnostic MBean
+    //                  (empty if this JVM does not offer one)
+    static Map<String, Long> classHistogram() {
+        Map<String, Long> counts = new TreeMap<>();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            String text = (String) server.invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "gcClassHistogram",
+                    new Object[] { null },
+                    new String[] { String[].class.getName() });
+
+            for (String line : text.split("\n")) {
+                Matcher m = HISTOGRAM_ROW.matcher(line);
+                if (m.find() && m.group(2).startsWith(TRACKED_PREFIX)) {
+                    counts.put(m.group(2), Long.parseLong(m.group(1)));
+                }
+            }
+        } catch (Exception e) {
+            // Not HotSpot (or no management access): heap / thread checks still apply
+        }
+        return counts;
+    }
+
+    // ---------- ENTRY POINT ----------
+
+    // main - Soaks for the given time and exits non-zero on a detected leak
+    public static void main(String[] args) throws Exception {
+        double minutes = (args.length > 0) ? Double.parseDouble(args[0]) : 60.0;
+        long sampleSeconds = (args.length > 1) ? Long.parseLong(args[1]) : 30L;
+        int chasers = (args.length > 2) ? Integer.parseInt(args[2])
+                                        : GameConfig.getChaserCountForCurrentDifficulty();
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : 42L;
+
+        Report report = new SoakHarness(chasers, seed)
+                .run((long) (minutes * 60_000), sampleSeconds * 1000, System.out);
+        report.print(System.out);
+
+        if (report.isLeaking()) {
+            System.exit(1);
+        }
+        System.exit(0); // a real GameWindow leaves the AWT threads alive
+    }
+
+    // ---------- SAMPLE ----------
+
+    /**
+     * One measurement point.
+     */
+    public static final class Sample {
+
+        private final long elapsedMillis;
+        private final long cycles;
+        private final long heapBytes;
+        private final int threads;
+        private final int runningTimers;
+        private final Map<String, Long> instances;
+
+        // Sample - Captures one measurement (instances maps class name -> live count)
+        public Sample(long elapsedMillis, long cycles, long heapBytes, int threads,
+                      int runningTimers, Map<String, Long> instances) {
+            this.elapsedMillis = elapsedMillis;
+            this.cycles = cycles;
+            this.heapBytes = heapBytes;
+            this.threads = threads;
+            this.runningTimers = runningTimers;
+            this.instances = Collections.unmodifiableMap(new TreeMap<>(instances));
+        }
+
+        // getCycles - Returns how many cycles had completed when this was taken
+        public long getCycles() { return cycles; }
+
+        // getHeapBytes - Returns heap used right after a full GC
+        public long getHeapBytes() { return heapBytes; }
+
+        // getThreads - Returns the live thread count
+        public int getThreads() { return threads; }
+
+        // getRunningTimers - Returns how many GamePanel movement timers were running
+        public int getRunningTimers() { return runningTimers; }
+
+        // getInstances - Returns live instance counts of tracked classes
+        public Map<String, Long> getInstances() { return instances; }
+
+        // toString - One log line
+        @Override
+        public String toString() {
+            return String.format("t=%6ds cycles=%6d heap=%8.1fMB threads=%3d timers=%2d classes=%d",
+                    elapsedMillis / 1000, cycles, heapBytes / (1024.0 * 1024.0),
+                    threads, runningTimers, instances.size());
+        }
+    }
+
+    // ---------- REPORT ----------
+
+    /**
+     * Verdict over a soak's samples: the first sample is warm-up, the rest are
+     * split into thirds and the last third is compared with the first.
+     */
+    public static final class Report {
+
+        private final List<Sample> samples;
+        private final List<String> problems = new ArrayList<>();
+
+        // Report - Evaluates the given samples (fewer than 4 cannot show a trend)
+        public Report(List<Sample> samples) {
+            this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+            evaluate();
+        }
+
+        // getSamples - Returns every sample taken
+        public List<Sample> getSamples() {
+            return samples;
+        }
+
+        // getProblems - Returns one line per detected leak
+        public List<String> getProblems() {
+            return Collections.unmodifiableList(problems);
+        }
+
+        // isLeaking - Returns true if anything grew past its slack
+        public boolean isLeaking() {
+            return !problems.isEmpty();
+        }
+
+        // print - Writes the verdict
+        public void print(PrintStream out) {
+            if (samples.size() < 4) {
+                out.println("Soak too short to judge (" + samples.size() + " samples)");
+            }
+            if (problems.isEmpty()) {
+                out.println("No leak detected over " + samples.size() + " samples");
+            }
+            for (String problem : problems) {
+                out.println("LEAK: " + problem);
+            }
+        }
+
+        // evaluate - Compares the late window with the early one
+        private void evaluate() {
+            if (samples.size() < 4) {
+                return;
+            }
+            List<Sample> steady = samples.subList(1, samples.size());
+            int third = Math.max(1, steady.size() / 3);
+            List<Sample> early = steady.subList(0, third);
+            List<Sample> late = steady.subList(steady.size() - third, steady.size());
+
+            double earlyHeap = mean(early, Sample::getHeapBytes);
+            double lateHeap = mean(late, Sample::getHeapBytes);
+            if (lateHeap - earlyHeap > Math.max(HEAP_SLACK_BYTES, earlyHeap * HEAP_SLACK_RATIO)) {
+                problems.add(String.format("heap after GC grew from %.1fMB to %.1fMB",
+                        earlyHeap / (1024.0 * 1024.0), lateHeap / (1024.0 * 1024.0)));
+            }
+
+            Sample first = early.get(0);
+            Sample last = late.get(late.size() - 1);
+            if (last.getThreads() > first.getThreads() + THREAD_SLACK) {
+                problems.add("threads grew from " + first.getThreads() + " to " + last.getThreads());
+            }
+            if (last.getRunningTimers() > first.getRunningTimers()) {
+                problems.add("GamePanel timers still running: " + last.getRunningTimers());
+            }
+
+            for (String type : last.getInstances().keySet()) {
+                double before = mean(early, sample -> sample.getInstances().getOrDefault(type, 0L));
+                double after = mean(late, sample -> sample.getInstances().getOrDefault(type, 0L));
+                if (after - before > Math.max(INSTANCE_SLACK, before * INSTANCE_SLACK_RATIO)) {
+                    problems.add(String.format("%s instances grew from %.0f to %.0f", type, before, after));
+                }
+            }
+        }
+
+        // mean - Average of one numeric field over samples
+        private static double mean(List<Sample> samples, ToLongFunction<Sample> field) {
+            double sum = 0;
+            for (Sample s : samples) {
+                sum += field.applyAsLong(s);
+            }
+            return sum / samples.size();
+        }
+    }
+}
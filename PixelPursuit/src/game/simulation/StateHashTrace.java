@@ -0,0 +1,88 @@
+package game.simulation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Per-tick record of Session.getStateHash():
+ *  - Entry i is the hash after tick i + 1 of a run.
+ *  - Compact (8 bytes per tick) and serializable, so it can ship with a
+ *    replay and be checked against a re-simulation.
+ *  - firstDivergence() finds the first tick where two runs stopped matching,
+ *    without comparing full states.
+ */
+public class StateHashTrace {
+
+    // ---------- FIELDS ----------
+
+    private long[] hashes;
+    private int size = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // StateHashTrace - Creates an empty trace
+    public StateHashTrace() {
+        this.hashes = new long[256];
+    }
+
+    // ---------- RECORDING ----------
+
+    // record - Appends the hash for the next tick
+    public void record(long hash) {
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        hashes[size++] = hash;
+    }
+
+    // size - Returns the number of recorded ticks
+    public int size() {
+        return size;
+    }
+
+    // get - Returns the hash recorded for entry i
+    public long get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("No hash for entry " + i);
+        }
+        return hashes[i];
+    }
+
+    // ---------- COMPARISON ----------
+
+    // firstDivergence - Returns the first entry where a and b differ (or where the shorter
+    //                   one ends), or -1 if they are identical
+    public static int firstDivergence(StateHashTrace a, StateHashTrace b) {
+        int common = Math.min(a.size, b.size);
+        int mismatch = Arrays.mismatch(a.hashes, 0, common, b.hashes, 0, common);
+        if (mismatch >= 0) {
+            return mismatch;
+        }
+        return (a.size == b.size) ? -1 : common;
+    }
+
+    // ---------- SERIALIZATION ----------
+
+    // write - Writes the trace as a count followed by the hashes
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(hashes[i]);
+        }
+    }
+
+    // read - Reads a trace written by write
+    public static StateHashTrace read(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Bad trace length " + count);
+        }
+        StateHashTrace trace = new StateHashTrace();
+        for (int i = 0; i < count; i++) {
+            trace.record(in.readLong());
+        }
+        return trace;
+    }
+}
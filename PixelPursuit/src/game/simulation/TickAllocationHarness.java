@@ -0,0 +1,197 @@
+package game.simulation;
+
+import game.gameplay.Runner;
+import game.gameplay.RunnerController;
+import game.gameplay.Session;
+import game.gameplay.SimpleChaserAI;
+import game.settings.GameConfig;
+import game.world.GameRandom;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation regression harness for the steady-state game tick:
+ *  - Plays seeded headless games back to back and charges the bytes the calling
+ *    thread allocates during ticks (com.sun.management.ThreadMXBean).
+ *  - The first WARMUP_TICKS of every game are not charged: that is where chaser
+ *    AIs size their buffers. Building each game is never charged either.
+ *  - One whole game runs uncharged first, so class loading and lambda linkage
+ *    do not count.
+ *  - The runner wanders under a controller that never allocates, so only the
+ *    game itself is measured.
+ *
+ * Usage: TickAllocationHarness [ticks] [maxBytesPerTick] [chasers] [seed]
+ * (exits with status 1 when the average exceeds maxBytesPerTick)
+ */
+public final class TickAllocationHarness {
+
+    // ---------- CONSTANTS ----------
+
+    // WARMUP_TICKS - Uncharged ticks at the start of each game
+    public static final int WARMUP_TICKS = 20;
+
+    // DEFAULT_MAX_BYTES_PER_TICK - Budget well below one small object per tick (~16 bytes)
+    public static final double DEFAULT_MAX_BYTES_PER_TICK = 8.0;
+
+    // MAX_TICKS_PER_GAME - Cap so a runner that never meets a chaser still rotates games
+    private static final long MAX_TICKS_PER_GAME = 2000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    // ---------- FIELDS ----------
+
+    private final int chaserCount;
+    private final long baseSeed;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // TickAllocationHarness - Configures chasers per game and the base seed for all games
+    public TickAllocationHarness(int chaserCount, long baseSeed) {
+        if (chaserCount < 0) {
+            throw new IllegalArgumentException("chaserCount cannot be negative");
+        }
+        this.chaserCount = chaserCount;
+        this.baseSeed = baseSeed;
+    }
+
+    // isSupported - Returns true if this JVM can report per-thread allocated bytes
+    public static boolean isSupported() {
+        return THREADS != null
+                && THREADS.isThreadAllocatedMemorySupported()
+                && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    // ---------- MEASURING ----------
+
+    // measure - Charges at least ticks steady-state ticks and returns the totals
+    public Result measure(long ticks) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Thread allocation counting is not available on this JVM");
+        }
+
+        // Uncharged warm-up game
+        playUncharged(newGame(-1));
+
+        Result result = new Result();
+        for (int game = 0; result.ticks < ticks; game++) {
+            HeadlessGame g = newGame(game);
+            for (int i = 0; i < WARMUP_TICKS && g.tick(); i++) {
+                // warm-up: buffers get sized here
+            }
+
+            long budget = Math.min(ticks - result.ticks, MAX_TICKS_PER_GAME - WARMUP_TICKS);
+            long played = 0;
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            while (played < budget && g.tick()) {
+                played++;
+            }
+            long after = THREADS.getCurrentThreadAllocatedBytes();
+
+            result.ticks += played;
+            result.bytes += after - before;
+            result.games++;
+        }
+        return result;
+    }
+
+    // newGame - Builds seeded game number index (built outside the charged window)
+    private HeadlessGame newGame(int index) {
+        long mazeSeed = GameRandom.streamSeed(baseSeed, index, 0);
+        long runSeed = GameRandom.streamSeed(baseSeed, index, 1);
+        return HeadlessGame.create(mazeSeed, runSeed, chaserCount,
+                GameConfig.getGoldSpawnIntervalForCurrentDifficulty(),
+                GameConfig.getDiamondChanceForCurrentDifficulty(),
+                rng -> new SimpleChaserAI(GameConfig.getDetectionRadiusForCurrentDifficulty(), rng),
+                new WanderController(new GameRandom(runSeed ^ 0x5DEECE66DL)));
+    }
+
+    // playUncharged - Plays a game to the end (or the tick cap) without measuring
+    private static void playUncharged(HeadlessGame game) {
+        for (long i = 0; i < MAX_TICKS_PER_GAME && game.tick(); i++) {
+            // run to completion
+        }
+    }
+
+    // threadBean - The HotSpot ThreadMXBean, or null on JVMs without it
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return (bean instanceof com.sun.management.ThreadMXBean)
+                ? (com.sun.management.ThreadMXBean) bean
+                : null;
+    }
+
+    // ---------- ENTRY POINT ----------
+
+    // main - Measures and exits non-zero if the per-tick budget is exceeded
+    public static void main(String[] args) {
+        long ticks = (args.length > 0) ? Long.parseLong(args[0]) : 20_000;
+        double maxBytesPerTick = (args.length > 1) ? Double.parseDouble(args[1]) : DEFAULT_MAX_BYTES_PER_TICK;
+        int chasers = (args.length > 2) ? Integer.parseInt(args[2])
+                                        : GameConfig.getChaserCountForCurrentDifficulty();
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : 42L;
+
+        Result result = new TickAllocationHarness(chasers, seed).measure(ticks);
+        System.out.printf("%d ticks over %d games: %d bytes, %.2f bytes/tick (budget %.2f)%n",
+                result.getTicks(), result.getGames(), result.getBytes(),
+                result.getBytesPerTick(), maxBytesPerTick);
+
+        if (result.getBytesPerTick() > maxBytesPerTick) {
+            System.exit(1);
+        }
+    }
+
+    // ---------- RESULT ----------
+
+    /**
+     * Charged totals of one measure() call.
+     */
+    public static final class Result {
+
+        private long ticks;
+        private long bytes;
+        private int games;
+
+        // getTicks - Returns how many ticks were charged
+        public long getTicks() { return ticks; }
+
+        // getBytes - Returns the bytes allocated during charged ticks
+        public long getBytes() { return bytes; }
+
+        // getGames - Returns how many games the charged ticks came from
+        public int getGames() { return games; }
+
+        // getBytesPerTick - Returns the mean allocation per charged tick
+        public double getBytesPerTick() {
+            return ticks == 0 ? 0.0 : (double) bytes / ticks;
+        }
+    }
+
+    // ---------- CONTROLLER ----------
+
+    /**
+     * Keeps the runner moving: picks a new random direction when it stops and
+     * now and then on its own.
+     */
+    private static final class WanderController implements RunnerController {
+
+        private static final int[] DX = { 1, -1, 0, 0 };
+        private static final int[] DY = { 0, 0, 1, -1 };
+
+        private final GameRandom rng;
+
+        // WanderController - Steers from its own seeded stream
+        WanderController(GameRandom rng) {
+            this.rng = rng;
+        }
+
+        // control - Re-rolls the direction when stopped, or one tick in eight
+        @Override
+        public void control(Runner runner, Session session) {
+            boolean stopped = runner.getDirX() == 0 && runner.getDirY() == 0;
+            if (stopped || rng.nextInt(8) == 0) {
+                int d = rng.nextInt(DX.length);
+                runner.setDirection(DX[d], DY[d]);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package game.simulation;
+
+import game.gameplay.Chaser;
+import game.gameplay.ChaserAI;
+import game.gameplay.Session;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * ChaserAI decorator that measures decision cost:
+ *  - Wraps another ChaserAI and counts how often it is asked to decide.
+ *  - Accumulates thread CPU nanoseconds per call (wall-clock nanos if the JVM
+ *    does not support thread CPU time).
+ *  - Not thread-safe; each simulated game owns its own instances.
+ */
+public class TimedChaserAI implements ChaserAI {
+
+    // ---------- FIELDS ----------
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+
+    private final ChaserAI delegate;
+
+    private long decisions = 0;
+    private long nanos = 0;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // TimedChaserAI - Wraps the AI whose decisions should be timed
+    public TimedChaserAI(ChaserAI delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    // ---------- CONTRACT ----------
+
+    // update - Times one decision of the wrapped AI
+    @Override
+    public void update(Chaser chaser, Session session) {
+        long start = now();
+        delegate.update(chaser, session);
+        nanos += now() - start;
+        decisions++;
+    }
+
+    // getStateHash - The wrapped AI's memory (timing is not game state)
+    @Override
+    public long getStateHash() {
+        return delegate.getStateHash();
+    }
+
+    // ---------- RESULTS ----------
+
+    // getDecisions - Returns how many decisions have been timed
+    public long getDecisions() {
+        return decisions;
+    }
+
+    // getNanos - Returns total CPU (or wall) nanoseconds spent deciding
+    public long getNanos() {
+        return nanos;
+    }
+
+    // isCpuTime - Returns true if getNanos() is thread CPU time rather than wall time
+    public static boolean isCpuTime() {
+        return CPU_TIME;
+    }
+
+    // now - Current thread CPU time if available, else wall time
+    private static long now() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+}
@@ -2,10 +2,18 @@ package game.ui;
 
 import game.account.Account;
 import game.account.AccountManager;
+import game.account.CurrencyLedger;
+import game.gameplay.Session;
+import game.persistence.DifficultyLeaderboards;
+import game.persistence.LeaderboardIndex;
+import game.persistence.RollingLeaderboards;
 import game.ui.windows.*;
 
 import javax.swing.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * WindowManager - Central controller for creating, showing, and updating all game windows.
  */
@@ -16,6 +24,10 @@ public class WindowManager {
     private MainMenuWindow mainMenuWindow;
 
     private final AccountManager accountManager;
+    private final CurrencyLedger ledger;
+    private final LeaderboardIndex leaderboard;
+    private final DifficultyLeaderboards rankings;
+    private final RollingLeaderboards recentRuns;
     private Account currentAccount;
 
     // Tracks whichever window is currently on screen
@@ -26,6 +38,21 @@ public class WindowManager {
     // WindowManager - Creates a new manager with its own AccountManager
     public WindowManager() {
         this.accountManager = new AccountManager();
+        try {
+            this.ledger = new CurrencyLedger(accountManager, CurrencyLedger.LOG_PATH,
+                    AccountManager.DEFAULT_COMMIT_WINDOW_MS);
+            // Daily / weekly boards: the last week of the run log, then every finished run
+            this.recentRuns = RollingLeaderboards.open(RollingLeaderboards.LOG_PATH, System::currentTimeMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Scans the accounts once; from then on every saved best time updates it
+        this.leaderboard = LeaderboardIndex.attach(accountManager);
+        this.rankings = DifficultyLeaderboards.attach(accountManager);
+
+        // Window close buttons exit without exitGame(): flush queued saves there too
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeAccounts, "account-flush"));
     }
 
     // ---------- ACCESSORS ----------
@@ -35,6 +62,26 @@ public class WindowManager {
         return accountManager;
     }
 
+    // getLedger - Returns the ledger all gold and diamond changes go through
+    public CurrencyLedger getLedger() {
+        return ledger;
+    }
+
+    // getLeaderboard - Returns the live best-time leaderboard
+    public LeaderboardIndex getLeaderboard() {
+        return leaderboard;
+    }
+
+    // getRankings - Returns the per-difficulty ranked boards
+    public DifficultyLeaderboards getRankings() {
+        return rankings;
+    }
+
+    // getRecentRuns - Returns the daily and weekly boards
+    public RollingLeaderboards getRecentRuns() {
+        return recentRuns;
+    }
+
     // getCurrentAccount - Returns the currently active account, or null
     public Account getCurrentAccount() {
         return currentAccount;
@@ -75,6 +122,11 @@ public class WindowManager {
         showWindow(new GameWindow(this, currentAccount));
     }
 
+    // showGameWindow - Resumes a restored session for the current account
+    public void showGameWindow(Session resumed) {
+        showWindow(new GameWindow(this, currentAccount, resumed));
+    }
+
     // showLeaderboardWindow - Opens the leaderboard as a separate window
     public void showLeaderboardWindow() {
         new LeaderboardWindow(this);
@@ -92,7 +144,7 @@ public class WindowManager {
 
     // ---------- ACCOUNT / UI SYNC ----------
 
-    // updateAccount - Saves account changes and refreshes any dependent UI
+    // updateAccount - Queues account changes for saving and refreshes any dependent UI
     public void updateAccount(Account account) {
         if (account == null) return;
 
@@ -111,11 +163,23 @@ public class WindowManager {
         }
     }
 
-    // exitGame - Closes the active window and exits the application
+    // exitGame - Closes the active window, flushes account saves and exits the application
     public void exitGame() {
         if (currentWindow != null) {
             currentWindow.dispose();
         }
+        closeAccounts();
         System.exit(0);
     }
+
+    // closeAccounts - Writes the ledger log, the run log and every queued account save
+    private void closeAccounts() {
+        try {
+            ledger.close();
+            recentRuns.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        accountManager.close();
+    }
 }
@@ -12,6 +12,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * GamePanel - Draws the maze and runner, handles keyboard input,
@@ -45,9 +46,18 @@ public class GamePanel extends JPanel implements KeyListener {
     
     private boolean paused = false;
 
+    // F3 debug overlay showing Session.update phase timings
+    private boolean profilerOverlay = false;
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color OVERLAY_BG = new Color(0, 0, 0, 170);
+
     private final Timer movementTimer;
+    private boolean movementRunning = false;
     private static final int MOVE_INTERVAL_MS = GameConfig.RUNNER_MOVE_INTERVAL_MS;
 
+    // Movement timers running across all panels (a running Swing Timer pins its panel)
+    private static final AtomicInteger RUNNING_TIMERS = new AtomicInteger();
+
     // ---------- CONSTRUCTORS ----------
 
     // GamePanel - Wires session, loads textures, and starts the movement timer
@@ -94,6 +104,7 @@ public class GamePanel extends JPanel implements KeyListener {
 
             double dt = MOVE_INTERVAL_MS / 1000.0;
             session.update(dt);
+            session.getProfiler().maybeWriteReport(System.currentTimeMillis());
 
             window.updateHudFromSession();
 
@@ -114,6 +125,8 @@ public class GamePanel extends JPanel implements KeyListener {
             repaint();
         });
         movementTimer.start();
+        movementRunning = true;
+        RUNNING_TIMERS.incrementAndGet();
     }
     
     // Called by GameWindow when pause/resume happens
@@ -126,6 +139,23 @@ public class GamePanel extends JPanel implements KeyListener {
     // stopMovement - Stops the movement timer when the run ends
     public void stopMovement() {
         movementTimer.stop();
+        if (movementRunning) {
+            movementRunning = false;
+            RUNNING_TIMERS.decrementAndGet();
+        }
+    }
+
+    // removeNotify - Stops the timer when the panel leaves its window (e.g. on dispose);
+    //                otherwise Swing's timer queue keeps ticking the dead session forever
+    @Override
+    public void removeNotify() {
+        stopMovement();
+        super.removeNotify();
+    }
+
+    // getRunningTimerCount - Returns how many panels still have a running movement timer
+    public static int getRunningTimerCount() {
+        return RUNNING_TIMERS.get();
     }
 
     // ---------- PAINTING ----------
@@ -235,33 +265,42 @@ public class GamePanel extends JPanel implements KeyListener {
                     g2.fillRect(px, py, cellSize, cellSize);
                 }
 
-                if (!cell.isWall() && cell.hasGold() && goldScaled != null) {
-                    int gx = px + (cellSize - goldDrawSize) / 2;
-                    int gy = py + (cellSize - goldDrawSize) / 2;
-                    g2.drawImage(goldScaled, gx, gy, null);
-                }
+                g2.setColor(gridColor);
+                g2.drawRect(px, py, cellSize, cellSize);
+            }
+        }
+
+        // Draw loot (only live items, straight from the registry)
+        LootRegistry loot = session.getLoot();
+        for (int i = 0; i < loot.size(); i++) {
+            int px = offsetX + loot.getX(i) * cellSize;
+            int py = offsetY + loot.getY(i) * cellSize;
 
-                if (!cell.isWall() && cell.hasDiamond() && diamondScaled != null) {
+            if (loot.isDiamond(i)) {
+                if (diamondScaled != null) {
                     int dx = px + (cellSize - diamondDrawSize) / 2;
                     int dy = py + (cellSize - diamondDrawSize) / 2;
                     g2.drawImage(diamondScaled, dx, dy, null);
                 }
-
-                g2.setColor(gridColor);
-                g2.drawRect(px, py, cellSize, cellSize);
+            } else if (goldScaled != null) {
+                int gx = px + (cellSize - goldDrawSize) / 2;
+                int gy = py + (cellSize - goldDrawSize) / 2;
+                g2.drawImage(goldScaled, gx, gy, null);
             }
         }
 
-        // Draw chasers
-        for (Chaser chaser : session.getChasers()) {
-            int cx = offsetX + chaser.getX() * cellSize;
-            int cy = offsetY + chaser.getY() * cellSize;
-
-            int marginC = cellSize / 6;
-            int sizeC   = cellSize - 2 * marginC;
-            int arcC    = cellSize / 3;
-
-            g2.setColor(chaserColor);
+        // Draw chasers (straight from the entity store columns)
+        EntityStore entities = maze.getEntities();
+        int marginC = cellSize / 6;
+        int sizeC   = cellSize - 2 * marginC;
+        int arcC    = cellSize / 3;
+        g2.setColor(chaserColor);
+        for (int id = 0; id < entities.size(); id++) {
+            if (entities.getKind(id) != EntityStore.KIND_CHASER) {
+                continue;
+            }
+            int cx = offsetX + entities.getX(id) * cellSize;
+            int cy = offsetY + entities.getY(id) * cellSize;
             g2.fillRoundRect(cx + marginC, cy + marginC, sizeC, sizeC, arcC, arcC);
         }
 
@@ -311,9 +350,37 @@ public class GamePanel extends JPanel implements KeyListener {
             }
         }
 
+        if (profilerOverlay) {
+            drawProfilerOverlay(g2);
+        }
+
         g2.dispose();
     }
 
+    // drawProfilerOverlay - Draws the per-phase tick timings in the top-left corner
+    private void drawProfilerOverlay(Graphics2D g2) {
+        java.util.List<String> lines = session.getProfiler().reportLines();
+
+        g2.setFont(OVERLAY_FONT);
+        FontMetrics fm = g2.getFontMetrics();
+        int lineH = fm.getHeight();
+        int boxW = 0;
+        for (String line : lines) {
+            boxW = Math.max(boxW, fm.stringWidth(line));
+        }
+
+        int pad = 6;
+        g2.setColor(OVERLAY_BG);
+        g2.fillRect(pad, pad, boxW + 2 * pad, lines.size() * lineH + 2 * pad);
+
+        g2.setColor(Color.WHITE);
+        int y = pad + pad + fm.getAscent();
+        for (String line : lines) {
+            g2.drawString(line, pad + pad, y);
+            y += lineH;
+        }
+    }
+
     // ---------- KEY INPUT ----------
 
     // keyPressed - Handles WASD/arrow keys to set runner direction (space to stop)
@@ -345,6 +412,12 @@ public class GamePanel extends JPanel implements KeyListener {
             case KeyEvent.VK_SPACE:
                 runner.stop();
                 break;
+            case KeyEvent.VK_F3:
+                // Toggle tick profiling together with its overlay
+                profilerOverlay = !profilerOverlay;
+                session.getProfiler().setEnabled(profilerOverlay);
+                repaint();
+                break;
         }
     }
 
@@ -45,6 +45,11 @@ public class LootDisplayPanel extends JPanel {
     private JLabel timeLabel;           // only used in GAME
     private JLabel infoLabel;           // "Multiplier: X    Difficulty: Y"
 
+    // Values currently on the labels; setters skip rebuilding text that would not change
+    private int shownGold;
+    private int shownDiamonds;
+    private int shownSeconds;
+
     // ---------- CONSTRUCTORS ----------
 
     // LootDisplayPanel - Main-menu constructor (vault HUD)
@@ -60,6 +65,9 @@ public class LootDisplayPanel extends JPanel {
     // LootDisplayPanel - Internal constructor used by the public ones
     private LootDisplayPanel(Context context, int goldAmount, int diamondAmount, double seconds) {
         this.context = context;
+        this.shownGold = goldAmount;
+        this.shownDiamonds = diamondAmount;
+        this.shownSeconds = (int) Math.floor(seconds);
 
         setOpaque(false);
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
@@ -154,14 +162,16 @@ public class LootDisplayPanel extends JPanel {
 
     // setGoldAmount - Updates displayed gold (vault or run)
     public void setGoldAmount(int amount) {
-        if (goldAmountLabel != null) {
+        if (goldAmountLabel != null && amount != shownGold) {
+            shownGold = amount;
             goldAmountLabel.setText(": " + amount);
         }
     }
 
     // setDiamondAmount - Updates displayed diamonds (vault or run)
     public void setDiamondAmount(int amount) {
-        if (diamondAmountLabel != null) {
+        if (diamondAmountLabel != null && amount != shownDiamonds) {
+            shownDiamonds = amount;
             diamondAmountLabel.setText(": " + amount);
         }
     }
@@ -174,17 +184,19 @@ public class LootDisplayPanel extends JPanel {
 
     // setTime - Updates the time label from seconds (GAME context only)
     public void setTime(double seconds) {
-        if (timeLabel != null && context == Context.GAME) {
+        int total = (int) Math.floor(seconds);
+        if (timeLabel != null && context == Context.GAME && total != shownSeconds) {
+            shownSeconds = total;
             timeLabel.setText(formatTime(seconds));
         }
     }
 
-    // formatTime - Formats seconds as "Time: mm:ss"
+    // formatTime - Formats seconds as "Time: mm:ss" (no String.format: runs during play)
     private String formatTime(double seconds) {
         int total = (int) Math.floor(seconds);
         int mins = total / 60;
         int secs = total % 60;
-        return String.format("Time: %02d:%02d", mins, secs);
+        return "Time: " + (mins < 10 ? "0" : "") + mins + (secs < 10 ? ":0" : ":") + secs;
     }
 
     // updateLoot - MAIN_MENU helper to refresh vault values
@@ -1,6 +1,7 @@
 package game.ui.windows;
 
 import game.account.Account;
+import game.account.PurchaseResult;
 import game.cosmetics.PlayerCosmetics;
 import game.cosmetics.CosmeticInfo;
 import game.cosmetics.ColorInfo;
@@ -350,8 +351,7 @@ public class CustomizeWindow extends JFrame {
                 return;
             }
 
-            if (confirmAndSpendGold(itemName, cost)) {
-                unlockBit(colorId);
+            if (confirmAndSpendGold(itemName, cost, colorId)) {
                 if (account != null) {
                     account.setColor(colorId);
                     if (windowManager != null) {
@@ -452,8 +452,7 @@ public class CustomizeWindow extends JFrame {
                 return;
             }
 
-            if (confirmAndSpendGold(info.name, info.goldCost)) {
-                unlockBit(info.id);
+            if (confirmAndSpendGold(info.name, info.goldCost, info.id)) {
                 if (account != null) {
                     account.setCosmetic(info.id);
                     if (windowManager != null) {
@@ -567,8 +566,7 @@ public class CustomizeWindow extends JFrame {
                 return;
             }
 
-            if (confirmAndSpendDiamonds(info.label, cost)) {
-                unlockBit(bitIndex);
+            if (confirmAndSpendDiamonds(info.label, cost, bitIndex)) {
                 if (account != null) {
                     account.setMultiplier(index);
                     if (windowManager != null) {
@@ -599,8 +597,8 @@ public class CustomizeWindow extends JFrame {
 
     // ---------- PURCHASE HELPERS ----------
 
-    // confirmAndSpendGold - Shows a dialog to buy an item with gold; returns true if purchased
-    private boolean confirmAndSpendGold(String itemName, int cost) {
+    // confirmAndSpendGold - Shows a dialog to buy an item (unlock bit bitIndex) with gold; returns true if it is now owned
+    private boolean confirmAndSpendGold(String itemName, int cost, int bitIndex) {
         if (account == null || cost <= 0) {
             return true;
         }
@@ -686,17 +684,17 @@ public class CustomizeWindow extends JFrame {
         dialog.setLocationRelativeTo(this);
 
         buyButton.addActionListener(e -> {
-            int gold = account.getVaultGold();
-            if (gold < cost) {
+            PurchaseResult.Status status = spend(itemName, cost, 0, bitIndex);
+            if (status == PurchaseResult.Status.INSUFFICIENT_FUNDS) {
                 errorLabel.setText("Not enough gold.");
                 return;
             }
-
-            account.setVaultGold(gold - cost);
-            if (windowManager != null) {
-                windowManager.updateAccount(account);
-            }
             purchased[0] = true;
+            if (status == PurchaseResult.Status.ALREADY_OWNED) {
+                errorLabel.setText("You already own this. Nothing was charged.");
+                buyButton.setEnabled(false);
+                return;
+            }
             dialog.dispose();
         });
 
@@ -706,8 +704,8 @@ public class CustomizeWindow extends JFrame {
         return purchased[0];
     }
 
-    // confirmAndSpendDiamonds - Shows a dialog to buy an item with diamonds; returns true if purchased
-    private boolean confirmAndSpendDiamonds(String itemName, int cost) {
+    // confirmAndSpendDiamonds - Shows a dialog to buy an item (unlock bit bitIndex) with diamonds; returns true if it is now owned
+    private boolean confirmAndSpendDiamonds(String itemName, int cost, int bitIndex) {
         if (account == null || cost <= 0) {
             return true;
         }
@@ -793,17 +791,17 @@ public class CustomizeWindow extends JFrame {
         dialog.setLocationRelativeTo(this);
 
         buyButton.addActionListener(e -> {
-            int diamonds = account.getVaultDiamonds();
-            if (diamonds < cost) {
+            PurchaseResult.Status status = spend(itemName, 0, cost, bitIndex);
+            if (status == PurchaseResult.Status.INSUFFICIENT_FUNDS) {
                 errorLabel.setText("Not enough diamonds.");
                 return;
             }
-
-            account.setVaultDiamonds(diamonds - cost);
-            if (windowManager != null) {
-                windowManager.updateAccount(account);
-            }
             purchased[0] = true;
+            if (status == PurchaseResult.Status.ALREADY_OWNED) {
+                errorLabel.setText("You already own this. Nothing was charged.");
+                buyButton.setEnabled(false);
+                return;
+            }
             dialog.dispose();
         });
 
@@ -813,6 +811,31 @@ public class CustomizeWindow extends JFrame {
         return purchased[0];
     }
 
+    // spend - Debits the vault and sets bitIndex in one ledger transaction (the only place a
+    //         bought item is unlocked); returns whether it was bought or why not
+    private PurchaseResult.Status spend(String itemName, int goldCost, int diamondCost, int bitIndex) {
+        if (windowManager == null) {
+            // Standalone window: no ledger, only this in-memory account changes
+            if (isUnlockedBit(bitIndex)) {
+                return PurchaseResult.Status.ALREADY_OWNED;
+            }
+            if (account.getVaultGold() < goldCost || account.getVaultDiamonds() < diamondCost) {
+                return PurchaseResult.Status.INSUFFICIENT_FUNDS;
+            }
+            account.setVaultGold(account.getVaultGold() - goldCost);
+            account.setVaultDiamonds(account.getVaultDiamonds() - diamondCost);
+            unlockBit(bitIndex);
+            return PurchaseResult.Status.BOUGHT;
+        }
+
+        PurchaseResult result = windowManager.getLedger()
+                .purchase(account.getUsername(), goldCost, diamondCost, bitIndex, itemName);
+        if (result.isBought()) {
+            windowManager.refreshMainMenuLoot();
+        }
+        return result.getStatus();
+    }
+
     // ---------- UNLOCK HELPERS ----------
 
     // isUnlockedBit - Returns true if a given unlock bit is set on the account
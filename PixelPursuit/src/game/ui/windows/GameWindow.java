@@ -15,6 +15,8 @@ import game.ui.components.controls.RoundedHoverButton;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.util.function.Consumer;
 import javax.swing.JTextPane;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Style;
@@ -46,10 +48,22 @@ public class GameWindow extends JFrame {
 	private boolean gameOver = false;
 	private boolean paused = false;
 
+	// HUD is driven by session events instead of polling every getter each tick
+	private final SessionEventBuffer.Cursor hudCursor;
+	private final SessionEventHandler hudHandler = this::onSessionEvent;
+	private boolean hudLootDirty = true; // first refresh shows the starting (or resumed) loot
+	private long hudMissedSeen = 0;
+	private int hudShownSecond = -1;
+
 	// ---------- CONSTRUCTORS ----------
 
 	// GameWindow - Creates the full-screen game window and starts a new session
 	public GameWindow(WindowManager windowManager, Account account) {
+		this(windowManager, account, null);
+	}
+
+	// GameWindow - Creates the game window, continuing the resumed session if not null
+	public GameWindow(WindowManager windowManager, Account account, Session resumed) {
 		super("Pixel Pursuit - Game");
 		this.windowManager = windowManager;
 		this.currentAccount = account;
@@ -71,30 +85,17 @@ public class GameWindow extends JFrame {
 		setResizable(false);
 
 		// world / gameplay setup
-		Maze maze = new Maze();
-		Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
-		this.session = new Session(maze, runner);
-
-		int chaserCount = GameConfig.getChaserCountForCurrentDifficulty();
-
-		int spawnX = Math.max(1, maze.getExitX() - 3);
-		int baseY = maze.getExitY();
-
-		for (int i = 0; i < chaserCount; i++) {
-			int dy = (i - (chaserCount - 1) / 2);
-			int spawnY = baseY + 2 * dy;
-
-			// clamp inside borders
-			spawnY = Math.max(1, Math.min(maze.getHeight() - 2, spawnY));
-
-			// walk upward until we find a walkable spawn cell
-			while (!maze.getCell(spawnX, spawnY).isWalkable() && spawnY > 1) {
-				spawnY--;
-			}
+		if (resumed != null) {
+			this.session = resumed;
+		} else {
+			Maze maze = new Maze();
+			Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+			this.session = new Session(maze, runner);
 
-			Chaser chaser = new Chaser(maze, spawnX, spawnY, new SimpleChaserAI());
-			session.addChaser(chaser);
+			int chaserCount = GameConfig.getChaserCountForCurrentDifficulty();
+			session.spawnChasers(chaserCount, SimpleChaserAI::new);
 		}
+		this.hudCursor = session.getEvents().newCursor();
 
 		// background frame art
 		BackgroundPanel mainPanel = new BackgroundPanel("/game/resources/images/gameBackground.png");
@@ -169,25 +170,51 @@ public class GameWindow extends JFrame {
 		showEndOfRunDialog(true);
 	}
 
-	// updateHudFromSession - Syncs HUD values from the current session state
+	// updateHudFromSession - Drains new session events and refreshes only what changed
 	public void updateHudFromSession() {
 		if (lootDisplay == null)
 			return;
 
-		int runGold = session.getRunGold();
-		int runDiamonds = session.getPickupDiamonds();
-		double time = session.getElapsedTimeSeconds();
+		session.getEvents().drain(hudCursor, hudHandler);
 
-		if (currentAccount != null) {
-			currentAccount.setFreeGold(runGold);
-			currentAccount.setFreeDiamonds(runDiamonds);
+		// If we ever fell behind the ring, resync from the session once
+		if (hudCursor.getMissed() != hudMissedSeen) {
+			hudMissedSeen = hudCursor.getMissed();
+			hudLootDirty = true;
 		}
 
-		lootDisplay.setAmounts(runGold, runDiamonds);
-		lootDisplay.setTime(time);
+		if (hudLootDirty) {
+			hudLootDirty = false;
 
-		double equippedMult = getEquippedMultiplierValue();
-		lootDisplay.setMultiplierAndDifficulty(equippedMult, difficulty.getDisplayName());
+			int runGold = session.getRunGold();
+			int runDiamonds = session.getPickupDiamonds();
+
+			if (currentAccount != null) {
+				currentAccount.setFreeGold(runGold);
+				currentAccount.setFreeDiamonds(runDiamonds);
+			}
+			lootDisplay.setAmounts(runGold, runDiamonds);
+		}
+
+		// The clock only shows whole seconds
+		int second = (int) Math.floor(session.getElapsedTimeSeconds());
+		if (second != hudShownSecond) {
+			hudShownSecond = second;
+			lootDisplay.setTime(second);
+		}
+	}
+
+	// onSessionEvent - Marks the loot display stale when gold or diamonds change
+	private void onSessionEvent(SessionEventType type, int x, int y, int value, double timeSeconds) {
+		switch (type) {
+			case SURVIVAL_GOLD:
+			case GOLD_PICKUP:
+			case DIAMOND_PICKUP:
+				hudLootDirty = true;
+				break;
+			default:
+				break;
+		}
 	}
 
 	// handleRunnerDied - Called when a chaser catches the runner
@@ -246,6 +273,21 @@ public class GameWindow extends JFrame {
 		}
 	}
 
+	// Called by PauseWindow when "Save & Exit" is clicked
+	public void saveAndExitFromPause() {
+		if (currentAccount != null) {
+			// Snapshot is taken now on the EDT; the file is written in the background
+			File file = SessionSnapshot.saveFileFor(currentAccount.getUsername());
+			SessionSnapshot.saveAsync(session, difficulty, file).exceptionally(ex -> {
+				ex.printStackTrace();
+				SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null,
+						"Your run could not be saved.", "Save Failed", JOptionPane.ERROR_MESSAGE));
+				return null;
+			});
+		}
+		returnToMenuFromPause();
+	}
+
 	// Wire ESC trigger requestPause() while the game window is focused
 	private void installPauseKeyBinding() {
 		InputMap im = gamePanel.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
@@ -289,27 +331,32 @@ public class GameWindow extends JFrame {
 
 		// update Account with final rewards
 		if (currentAccount != null) {
-			double oldBest = currentAccount.getBestTime();
-			if (timeSec > oldBest) {
-				currentAccount.setBestTime(timeSec);
-			}
-
-			int vaultGold = currentAccount.getVaultGold();
-			int freeGold = currentAccount.getFreeGold();
-
-			int vaultDiamonds = currentAccount.getVaultDiamonds();
-			int freeDiamonds = currentAccount.getFreeDiamonds();
-
-			freeGold = 0;
-			freeDiamonds = 0;
+			// Overall and per-difficulty bests (the latter feeds the ranked boards via the save)
+			Consumer<Account> recordBest = acc -> {
+				if (timeSec > acc.getBestTime()) {
+					acc.setBestTime(timeSec);
+				}
+				if (timeSec > acc.getBestTime(difficulty)) {
+					acc.setBestTime(difficulty, timeSec);
+				}
+			};
 
-			vaultGold += finalGold;
-			vaultDiamonds += finalDiamonds;
+			if (windowManager != null) {
+				// Every run counts on the daily / weekly boards, not just personal bests
+				windowManager.getRecentRuns().record(currentAccount.getUsername(), timeSec);
 
-			currentAccount.setVaultGold(vaultGold);
-			currentAccount.setFreeGold(freeGold);
-			currentAccount.setVaultDiamonds(vaultDiamonds);
-			currentAccount.setFreeDiamonds(freeDiamonds);
+				// One logged transaction under the account's lock: best times, rewards into the vault,
+				// free balances cleared, account saved
+				windowManager.getLedger().payout(currentAccount.getUsername(), finalGold, finalDiamonds,
+						escaped ? "run escaped" : "run caught", recordBest);
+			} else {
+				// Standalone window: no ledger, only this in-memory account changes
+				recordBest.accept(currentAccount);
+				currentAccount.setVaultGold(currentAccount.getVaultGold() + finalGold);
+				currentAccount.setVaultDiamonds(currentAccount.getVaultDiamonds() + finalDiamonds);
+				currentAccount.setFreeGold(0);
+				currentAccount.setFreeDiamonds(0);
+			}
 		}
 
 		String titleText = escaped ? "You Escaped!" : "You Were Caught!";
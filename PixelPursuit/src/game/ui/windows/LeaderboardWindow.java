@@ -1,11 +1,18 @@
 package game.ui.windows;
 
+import game.account.Account;
 import game.account.AccountManager;
 import game.persistence.Leaderboard;
 import game.persistence.LeaderboardEntry;
+import game.persistence.RankedEntry;
+import game.persistence.RankedLeaderboard;
+import game.persistence.RollingLeaderboards;
+import game.settings.Difficulty;
+import game.settings.GameConfig;
 import game.ui.WindowManager;
 import game.ui.components.controls.RoundedHoverButton;
 import game.ui.theme.GameFonts;
+import game.ui.theme.UiColors;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -16,7 +23,10 @@ import java.util.List;
  * Leaderboard window:
  *  - Shows top runs ordered by best time (longest survival).
  *  - Uses a dark background + white pixel font, matching other dialogs.
- *  - Reads account data through AccountManager and formats as mm:ss rows.
+ *  - Reads the live LeaderboardIndex (no account scan) and formats as mm:ss rows.
+ *  - "This Week" / "Today" swap in the rolling boards of recent runs.
+ *  - Below it, the current player's rank and percentile on each difficulty,
+ *    with the players just above and below them on that board.
  */
 public class LeaderboardWindow extends JFrame {
 
@@ -26,11 +36,18 @@ public class LeaderboardWindow extends JFrame {
 
     private static final Color BG_COLOR = new Color(30, 30, 30);
     private static final Dimension CLOSE_BUTTON_SIZE = new Dimension(200, 48);
+    private static final Dimension PERIOD_BUTTON_SIZE = new Dimension(150, 36);
+
+    // NEIGHBOURS - Players shown above and below the current one on each ranked board
+    private static final int NEIGHBOURS = 2;
 
     // ---------- FIELDS ----------
 
     private final WindowManager windowManager;
 
+    private JLabel title;
+    private JPanel rows;
+
     // ---------- CONSTRUCTORS ----------
 
     // LeaderboardWindow - Builds and shows the leaderboard dialog
@@ -47,17 +64,20 @@ public class LeaderboardWindow extends JFrame {
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 
         // Slightly wider + taller so long usernames / times fit comfortably
-        setSize(700, 460);
+        setSize(700, 740);
         setLocationRelativeTo(null);
         setResizable(false);
 
         // ----- LOAD DATA -----
-        AccountManager am = (windowManager != null)
-                ? windowManager.getAccountManager()
-                : new AccountManager(); // fallback if ever used standalone
-
-        Leaderboard lb = new Leaderboard();
-        List<LeaderboardEntry> entries = lb.buildFromAccounts(am.getAllAccounts(), 10);
+        List<LeaderboardEntry> entries;
+        if (windowManager != null) {
+            // Live index: O(K), no scan of the accounts
+            entries = windowManager.getLeaderboard().top(GameConfig.LEADERBOARD_MAX_ENTRIES);
+        } else {
+            // Fallback if ever used standalone
+            Leaderboard lb = new Leaderboard();
+            entries = lb.buildFromAccounts(new AccountManager().getAllAccounts(), GameConfig.LEADERBOARD_MAX_ENTRIES);
+        }
 
         // ----- ROOT PANEL -----
         JPanel root = new JPanel();
@@ -67,39 +87,52 @@ public class LeaderboardWindow extends JFrame {
         root.setBackground(BG_COLOR);
 
         // Title
-        JLabel title = new JLabel("Longest Runs");
+        title = new JLabel();
         title.setAlignmentX(Component.CENTER_ALIGNMENT);
         title.setFont(GameFonts.get(32f, Font.BOLD));
         title.setForeground(Color.WHITE);
         root.add(title);
-        root.add(Box.createRigidArea(new Dimension(0, 16)));
+        root.add(Box.createRigidArea(new Dimension(0, 10)));
 
-        if (entries.isEmpty()) {
-            JLabel empty = new JLabel("No runs recorded yet.");
-            empty.setAlignmentX(Component.CENTER_ALIGNMENT);
-            empty.setFont(GameFonts.get(20f, Font.PLAIN));
-            empty.setForeground(Color.LIGHT_GRAY);
-            root.add(empty);
-        } else {
-            int rank = 1;
-            for (LeaderboardEntry entry : entries) {
-                double bestSeconds = entry.getBestTimeSeconds();
-
-                // Format strictly as mm:ss
-                String timeStr = formatTime(bestSeconds);
-
-                String rowText = String.format("%2d. %-18s  %s",
-                        rank, entry.getUsername(), timeStr);
+        // ----- PERIOD ROW (all time / rolling boards) -----
+        if (windowManager != null) {
+            JPanel periodRow = new JPanel();
+            periodRow.setOpaque(false);
+            periodRow.setLayout(new BoxLayout(periodRow, BoxLayout.X_AXIS));
+            periodRow.add(Box.createHorizontalGlue());
+            periodRow.add(periodButton("All Time", () -> showRows("Longest Runs", entries)));
+            for (RollingLeaderboards.Period p : RollingLeaderboards.Period.values()) {
+                periodRow.add(Box.createRigidArea(new Dimension(10, 0)));
+                periodRow.add(periodButton(p.getDisplayName(), () -> showRows("Longest Runs - " + p.getDisplayName(),
+                        windowManager.getRecentRuns().get(p).top(GameConfig.LEADERBOARD_MAX_ENTRIES))));
+            }
+            periodRow.add(Box.createHorizontalGlue());
+            root.add(periodRow);
+            root.add(Box.createRigidArea(new Dimension(0, 12)));
+        }
 
-                JLabel row = new JLabel(rowText);
-                row.setAlignmentX(Component.CENTER_ALIGNMENT);
-                row.setFont(GameFonts.get(20f, Font.PLAIN));
-                row.setForeground(Color.WHITE);
-                root.add(row);
-                root.add(Box.createRigidArea(new Dimension(0, 6)));
+        rows = new JPanel();
+        rows.setOpaque(false);
+        rows.setLayout(new BoxLayout(rows, BoxLayout.Y_AXIS));
+        root.add(rows);
+        showRows("Longest Runs", entries);
 
-                rank++;
+        // ----- OWN STANDING (per difficulty side by side, O(log n + k) each) -----
+        Account me = (windowManager != null) ? windowManager.getCurrentAccount() : null;
+        if (me != null) {
+            root.add(Box.createRigidArea(new Dimension(0, 14)));
+            JPanel standings = new JPanel();
+            standings.setOpaque(false);
+            standings.setLayout(new BoxLayout(standings, BoxLayout.X_AXIS));
+            standings.add(Box.createHorizontalGlue());
+            for (Difficulty d : Difficulty.values()) {
+                if (d.ordinal() > 0) {
+                    standings.add(Box.createRigidArea(new Dimension(30, 0)));
+                }
+                standings.add(standingColumn(windowManager.getRankings().get(d), me, d));
             }
+            standings.add(Box.createHorizontalGlue());
+            root.add(standings);
         }
 
         root.add(Box.createRigidArea(new Dimension(0, 18)));
@@ -127,8 +160,93 @@ public class LeaderboardWindow extends JFrame {
         setVisible(true);
     }
 
+    // periodButton - Small button that switches the board shown
+    private RoundedHoverButton periodButton(String text, Runnable onClick) {
+        RoundedHoverButton button = new RoundedHoverButton(text);
+        button.setFont(GameFonts.get(16f, Font.BOLD));
+        button.setMaximumSize(PERIOD_BUTTON_SIZE);
+        button.setPreferredSize(PERIOD_BUTTON_SIZE);
+        button.setMinimumSize(PERIOD_BUTTON_SIZE);
+        button.addActionListener(e -> onClick.run());
+        return button;
+    }
+
+    // showRows - Replaces the board rows (and title) with the given entries
+    private void showRows(String heading, List<? extends LeaderboardEntry> entries) {
+        title.setText(heading);
+        rows.removeAll();
+
+        if (entries.isEmpty()) {
+            JLabel empty = new JLabel("No runs recorded yet.");
+            empty.setAlignmentX(Component.CENTER_ALIGNMENT);
+            empty.setFont(GameFonts.get(20f, Font.PLAIN));
+            empty.setForeground(Color.LIGHT_GRAY);
+            rows.add(empty);
+        } else {
+            int rank = 1;
+            for (LeaderboardEntry entry : entries) {
+                double bestSeconds = entry.getBestTimeSeconds();
+
+                // Format strictly as mm:ss
+                String timeStr = formatTime(bestSeconds);
+
+                String rowText = String.format("%2d. %-18s  %s",
+                        rank, entry.getUsername(), timeStr);
+
+                JLabel row = new JLabel(rowText);
+                row.setAlignmentX(Component.CENTER_ALIGNMENT);
+                row.setFont(GameFonts.get(20f, Font.PLAIN));
+                row.setForeground(Color.WHITE);
+                rows.add(row);
+                rows.add(Box.createRigidArea(new Dimension(0, 6)));
+
+                rank++;
+            }
+        }
+
+        rows.revalidate();
+        rows.repaint();
+    }
+
+    // standingColumn - The player's standing on one board, then their neighbours (own row highlighted)
+    private JPanel standingColumn(RankedLeaderboard board, Account me, Difficulty d) {
+        JPanel column = new JPanel();
+        column.setOpaque(false);
+        column.setLayout(new BoxLayout(column, BoxLayout.Y_AXIS));
+
+        JLabel standing = new JLabel(standingText(board, me, d));
+        standing.setAlignmentX(Component.LEFT_ALIGNMENT);
+        standing.setFont(GameFonts.get(16f, Font.PLAIN));
+        standing.setForeground(Color.LIGHT_GRAY);
+        column.add(standing);
+        column.add(Box.createRigidArea(new Dimension(0, 6)));
+
+        for (RankedEntry entry : board.around(me.getUsername(), NEIGHBOURS)) {
+            JLabel row = new JLabel(String.format("#%-4d %-14s %s",
+                    entry.getRank(), entry.getUsername(), formatTime(entry.getBestTimeSeconds())));
+            row.setAlignmentX(Component.LEFT_ALIGNMENT);
+            row.setFont(GameFonts.get(14f, Font.PLAIN));
+            boolean mine = entry.getUsername().equals(me.getUsername());
+            row.setForeground(mine ? UiColors.ACCENT_PRIMARY : Color.WHITE);
+            column.add(row);
+            column.add(Box.createRigidArea(new Dimension(0, 3)));
+        }
+        return column;
+    }
+
     // ---------- FORMAT HELPERS ----------
 
+    // standingText - "Easy: #12 of 3400 (03:25, longer than 87% of players)" for one board
+    private String standingText(RankedLeaderboard board, Account me, Difficulty d) {
+        int rank = board.rankOf(me.getUsername());
+        if (rank == 0) {
+            return d.getDisplayName() + ": no run yet";
+        }
+        double best = board.bestTimeOf(me.getUsername());
+        return String.format("%s: #%d of %d (%s, longer than %.0f%% of players)",
+                d.getDisplayName(), rank, board.size(), formatTime(best), board.percentileOf(best));
+    }
+
     // formatTime - Converts seconds into mm:ss, returning "00:00" for non-positive values
     private String formatTime(double seconds) {
         if (seconds <= 0) {
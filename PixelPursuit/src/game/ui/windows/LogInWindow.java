@@ -211,7 +211,7 @@ public class LogInWindow extends JFrame {
 
         loginButton.addActionListener(e -> handleLogin());
         createButton.addActionListener(e -> handleCreateAccount());
-        exitButton.addActionListener(e -> System.exit(0));
+        exitButton.addActionListener(e -> windowManager.exitGame());
 
         setVisible(true);
     }
@@ -246,6 +246,11 @@ public class LogInWindow extends JFrame {
             setMessage("Enter username and password.", Color.RED);
             return;
         }
+        // The run log is tab-separated, so a tab would split the name apart
+        if (username.indexOf('\t') >= 0) {
+            setMessage("Username cannot contain tabs.", Color.RED);
+            return;
+        }
 
         Account acc = accountManager.createAccount(username, password);
         if (acc == null) {
@@ -7,10 +7,13 @@ import game.ui.components.panels.*;
 import game.ui.theme.*;
 import game.settings.*;
 import game.cosmetics.MultiplierInfo;
+import game.gameplay.SessionSnapshot;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
 
 /**
  * MainMenuWindow - Full screen main menu with background art, loot HUD, and menu buttons.
@@ -216,6 +219,10 @@ public class MainMenuWindow extends JFrame {
                 return;
             }
 
+            if (windowManager != null && offerResume()) {
+                return;
+            }
+
             if (windowManager != null) {
                 windowManager.showGameWindow();
             } else {
@@ -282,4 +289,42 @@ public class MainMenuWindow extends JFrame {
 
         lootDisplay.setMultiplierAndDifficulty(multValue, difficultyName);
     }
+
+    // ---------- SAVED RUN ----------
+
+    // offerResume - If this account has a saved run, asks to resume it; returns true if resumed
+    private boolean offerResume() {
+        File save = SessionSnapshot.saveFileFor(currentAccount.getUsername());
+        if (!save.isFile()) {
+            return false;
+        }
+
+        int choice = JOptionPane.showConfirmDialog(
+                this,
+                "You have a saved run. Resume it?",
+                "Saved Run",
+                JOptionPane.YES_NO_OPTION
+        );
+        if (choice != JOptionPane.YES_OPTION) {
+            return false;
+        }
+
+        try {
+            SessionSnapshot snapshot = SessionSnapshot.load(save);
+            save.delete(); // one save per run: resuming consumes it
+
+            GameConfig.setCurrentDifficulty(snapshot.getDifficulty());
+            windowManager.showGameWindow(snapshot.getSession());
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            ex.printStackTrace();
+            JOptionPane.showMessageDialog(
+                    this,
+                    "The saved run could not be loaded.",
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE
+            );
+            return false;
+        }
+    }
 }
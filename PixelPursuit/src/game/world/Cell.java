@@ -7,8 +7,11 @@ import java.util.List;
 /**
  * Single tile in the maze grid:
  *  - Knows its (x, y) location and whether it is walkable or a wall.
- *  - Can hold gold and a single diamond as loot.
+ *  - Can hold gold and a single diamond as loot. During a run the Session's
+ *    LootRegistry decides what is live: loot is placed with Session.placeLoot,
+ *    and gold set here directly is neither drawn nor picked up.
  *  - Tracks entities (Runner, Chaser, etc.) standing on this cell.
+ *  - Once attached to a maze's StateHash, reports every terrain / loot change to it.
  */
 public class Cell {
 
@@ -23,8 +26,12 @@ public class Cell {
     private int gold;
     private boolean diamond;
 
-    // Later these will be Runner / Chaser, for now keep it generic Object
-    private final List<Object> entities = new ArrayList<>();
+    // Later these will be Runner / Chaser, for now keep it generic Object.
+    // Sized up front (runner + the usual max of 3 chasers) so entities walking in do not allocate mid-game.
+    private final List<Object> entities = new ArrayList<>(4);
+
+    // Owning maze's state hash, or null for a standalone cell
+    private StateHash hash;
 
     // ---------- CONSTRUCTORS ----------
 
@@ -38,6 +45,14 @@ public class Cell {
 
     // ---------- BASIC INFO ----------
 
+    // attachHash - Adds this cell's current contents to hash and reports later changes to it
+    void attachHash(StateHash hash) {
+        this.hash = hash;
+        hash.toggle(StateHash.CELL_WALKABLE, x, y, walkable ? 1 : 0);
+        hash.toggle(StateHash.CELL_GOLD, x, y, gold);
+        hash.toggle(StateHash.CELL_DIAMOND, x, y, diamond ? 1 : 0);
+    }
+
     // getX - Returns the cell's x-coordinate in the maze
     public int getX() {
         return x;
@@ -55,6 +70,9 @@ public class Cell {
 
     // setWalkable - Marks this cell as walkable or not
     public void setWalkable(boolean walkable) {
+        if (hash != null) {
+            hash.replace(StateHash.CELL_WALKABLE, x, y, this.walkable ? 1 : 0, walkable ? 1 : 0);
+        }
         this.walkable = walkable;
     }
 
@@ -65,7 +83,7 @@ public class Cell {
 
     // setWall - Sets this cell to wall or floor
     public void setWall(boolean wall) {
-        this.walkable = !wall;
+        setWalkable(!wall);
     }
 
     // ---------- GOLD ----------
@@ -85,13 +103,16 @@ public class Cell {
         if (amount < 0) {
             throw new IllegalArgumentException("Gold amount cannot be negative");
         }
+        if (hash != null) {
+            hash.replace(StateHash.CELL_GOLD, x, y, gold, amount);
+        }
         this.gold = amount;
     }
 
     // takeGold - Removes and returns all gold on this cell
     public int takeGold() {
         int amount = gold;
-        gold = 0;
+        setGold(0);
         return amount;
     }
 
@@ -104,13 +125,16 @@ public class Cell {
 
     // setDiamond - Places or removes a diamond on this cell
     public void setDiamond(boolean value) {
+        if (hash != null) {
+            hash.replace(StateHash.CELL_DIAMOND, x, y, diamond ? 1 : 0, value ? 1 : 0);
+        }
         this.diamond = value;
     }
 
     // takeDiamond - Removes the diamond and returns true if there was one
     public boolean takeDiamond() {
         boolean had = diamond;
-        diamond = false;
+        setDiamond(false);
         return had;
     }
 
@@ -0,0 +1,345 @@
+package game.world;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Struct-of-arrays storage for every entity on one Maze:
+ *  - One column per field (x, y, state flags, kind, AI kind), indexed by
+ *    entity id, so bulk passes (collision, rendering, snapshots) are tight
+ *    loops over primitive arrays.
+ *  - Runner and Chaser objects are thin handles holding an id into this store.
+ *  - Ids are dense and stable; entities are never removed mid-run, only
+ *    deactivated via their state flags.
+ *  - Columns grow by doubling, so swarm-sized counts cost O(1) amortized per add.
+ *  - An occupancy grid (one intrusive list head per cell) answers "who is on
+ *    this cell", "who is within r" and "who is nearest" without touching
+ *    unrelated entities; any number of entities may share a cell.
+ *  - Every row change is folded into the owning maze's StateHash.
+ */
+public class EntityStore {
+
+    // ---------- CONSTANTS ----------
+
+    // Entity kinds
+    public static final byte KIND_RUNNER = 0;
+    public static final byte KIND_CHASER = 1;
+
+    // AI kinds (chasers only)
+    public static final byte AI_NONE   = 0;
+    public static final byte AI_SIMPLE = 1;
+    public static final byte AI_DIRECT = 2;
+    public static final byte AI_CUSTOM = 3;
+
+    // State flags
+    public static final byte STATE_ACTIVE = 1;   // runner alive / chaser active
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // ---------- FIELDS ----------
+
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private byte[] aiKinds = new byte[INITIAL_CAPACITY];
+
+    // Occupancy: cellHead[y * width + x] -> first id on that cell, then nextInCell / prevInCell
+    private final int width;
+    private final int height;
+    private final int[] cellHead;
+    private int[] nextInCell = new int[INITIAL_CAPACITY];
+    private int[] prevInCell = new int[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    private final StateHash hash;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // EntityStore - Creates an empty store for a width x height grid with its own hash
+    public EntityStore(int width, int height) {
+        this(width, height, new StateHash());
+    }
+
+    // EntityStore - Creates an empty store reporting row changes to hash
+    public EntityStore(int width, int height, StateHash hash) {
+        if (hash == null) {
+            throw new IllegalArgumentException("hash cannot be null");
+        }
+        this.hash = hash;
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.cellHead = new int[width * height];
+        Arrays.fill(cellHead, -1);
+    }
+
+    // ---------- ADDING ----------
+
+    // add - Appends an active entity at (x, y) and returns its id
+    public int add(byte kind, int x, int y, byte aiKind) {
+        checkBounds(x, y);
+        if (size == xs.length) {
+            int capacity = size * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            states = Arrays.copyOf(states, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            aiKinds = Arrays.copyOf(aiKinds, capacity);
+            nextInCell = Arrays.copyOf(nextInCell, capacity);
+            prevInCell = Arrays.copyOf(prevInCell, capacity);
+        }
+        int id = size++;
+        xs[id] = x;
+        ys[id] = y;
+        states[id] = STATE_ACTIVE;
+        kinds[id] = kind;
+        aiKinds[id] = aiKind;
+        link(id);
+
+        hash.toggle(StateHash.ENTITY_KIND, id, 0, (kind << 8) | (aiKind & 0xFF));
+        hash.toggle(StateHash.ENTITY_POS, id, 0, StateHash.packXY(x, y));
+        hash.toggle(StateHash.ENTITY_STATE, id, 0, STATE_ACTIVE);
+        return id;
+    }
+
+    // ---------- ROW ACCESS ----------
+
+    // size - Returns the number of entities ever added
+    public int size() {
+        return size;
+    }
+
+    // getX - Returns the x-coordinate of an entity
+    public int getX(int id) {
+        return xs[id];
+    }
+
+    // getY - Returns the y-coordinate of an entity
+    public int getY(int id) {
+        return ys[id];
+    }
+
+    // setPosition - Moves an entity (callers check walkability) and updates occupancy
+    public void setPosition(int id, int x, int y) {
+        if (xs[id] == x && ys[id] == y) {
+            return;
+        }
+        checkBounds(x, y);
+        hash.replace(StateHash.ENTITY_POS, id, 0, StateHash.packXY(xs[id], ys[id]), StateHash.packXY(x, y));
+        unlink(id);
+        xs[id] = x;
+        ys[id] = y;
+        link(id);
+    }
+
+    // getKind - Returns KIND_RUNNER or KIND_CHASER
+    public byte getKind(int id) {
+        return kinds[id];
+    }
+
+    // getAiKind - Returns one of the AI_* tags
+    public byte getAiKind(int id) {
+        return aiKinds[id];
+    }
+
+    // getState - Returns the raw state flags
+    public byte getState(int id) {
+        return states[id];
+    }
+
+    // setState - Replaces the raw state flags
+    public void setState(int id, byte state) {
+        hash.replace(StateHash.ENTITY_STATE, id, 0, states[id], state);
+        states[id] = state;
+    }
+
+    // isActive - Returns true if the STATE_ACTIVE flag is set
+    public boolean isActive(int id) {
+        return (states[id] & STATE_ACTIVE) != 0;
+    }
+
+    // setActive - Sets or clears the STATE_ACTIVE flag
+    public void setActive(int id, boolean active) {
+        setState(id, (byte) (active ? (states[id] | STATE_ACTIVE) : (states[id] & ~STATE_ACTIVE)));
+    }
+
+    // ---------- BULK QUERIES ----------
+
+    // countActive - Returns how many entities of the given kind are active
+    public int countActive(byte kind) {
+        int count = 0;
+        for (int id = 0; id < size; id++) {
+            if (kinds[id] == kind && (states[id] & STATE_ACTIVE) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ---------- PROXIMITY QUERIES ----------
+
+    // firstAt - Returns an id of the given kind on (x, y), or -1; cost = entities on that cell
+    public int firstAt(byte kind, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return -1;
+        }
+        for (int id = cellHead[y * width + x]; id >= 0; id = nextInCell[id]) {
+            if (kinds[id] == kind) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    // firstAt - Same, but only ids set in among (e.g. the entities one session owns)
+    public int firstAt(byte kind, int x, int y, BitSet among) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return -1;
+        }
+        for (int id = cellHead[y * width + x]; id >= 0; id = nextInCell[id]) {
+            if (kinds[id] == kind && among.get(id)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    // anyAt - Returns true if an entity of the given kind is on (x, y)
+    public boolean anyAt(byte kind, int x, int y) {
+        return firstAt(kind, x, y) >= 0;
+    }
+
+    // collectWithin - Writes ids of the given kind within Manhattan distance r of (x, y)
+    // into out (up to out.length) and returns how many matched in total
+    public int collectWithin(byte kind, int x, int y, int r, int[] out) {
+        if (r < 0) {
+            return 0;
+        }
+        int found = 0;
+
+        // Scan the diamond of cells unless that would visit more cells than there are entities
+        long diamondCells = 2L * r * (r + 1) + 1;
+        if (diamondCells > size) {
+            for (int id = 0; id < size; id++) {
+                if (kinds[id] == kind && Math.abs(xs[id] - x) + Math.abs(ys[id] - y) <= r) {
+                    if (found < out.length) out[found] = id;
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        for (int dy = -r; dy <= r; dy++) {
+            int cy = y + dy;
+            if (cy < 0 || cy >= height) continue;
+            int span = r - Math.abs(dy);
+            int fromX = Math.max(0, x - span);
+            int toX = Math.min(width - 1, x + span);
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (int id = cellHead[cy * width + cx]; id >= 0; id = nextInCell[id]) {
+                    if (kinds[id] == kind) {
+                        if (found < out.length) out[found] = id;
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // nearest - Returns the id of the given kind closest to (x, y) by Manhattan distance
+    // (lowest id on ties), or -1 if there is none
+    public int nearest(byte kind, int x, int y) {
+        int maxRing = width + height;
+        long scanned = 0;
+
+        for (int d = 0; d <= maxRing; d++) {
+            int best = -1;
+            for (int dy = -d; dy <= d; dy++) {
+                int cy = y + dy;
+                if (cy < 0 || cy >= height) continue;
+                int dx = d - Math.abs(dy);
+                best = lowestOfKind(kind, x - dx, cy, best);
+                if (dx != 0) {
+                    best = lowestOfKind(kind, x + dx, cy, best);
+                }
+                scanned += 2;
+            }
+            if (best >= 0) {
+                return best;
+            }
+            // Far from everything: a straight pass over the columns is cheaper than more rings
+            if (scanned > size) {
+                return nearestByScan(kind, x, y);
+            }
+        }
+        return -1;
+    }
+
+    // nearestByScan - Linear fallback for nearest()
+    private int nearestByScan(byte kind, int x, int y) {
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int id = 0; id < size; id++) {
+            if (kinds[id] != kind) continue;
+            int dist = Math.abs(xs[id] - x) + Math.abs(ys[id] - y);
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = id;
+            }
+        }
+        return best;
+    }
+
+    // lowestOfKind - Returns the lower of best and the lowest id of kind on (x, y)
+    private int lowestOfKind(byte kind, int x, int y, int best) {
+        if (x < 0 || x >= width) {
+            return best;
+        }
+        for (int id = cellHead[y * width + x]; id >= 0; id = nextInCell[id]) {
+            if (kinds[id] == kind && (best < 0 || id < best)) {
+                best = id;
+            }
+        }
+        return best;
+    }
+
+    // ---------- OCCUPANCY LISTS ----------
+
+    // link - Pushes an entity onto its cell's list
+    private void link(int id) {
+        int cell = ys[id] * width + xs[id];
+        int head = cellHead[cell];
+        nextInCell[id] = head;
+        prevInCell[id] = -1;
+        if (head >= 0) {
+            prevInCell[head] = id;
+        }
+        cellHead[cell] = id;
+    }
+
+    // unlink - Removes an entity from its cell's list
+    private void unlink(int id) {
+        int prev = prevInCell[id];
+        int next = nextInCell[id];
+        if (prev >= 0) {
+            nextInCell[prev] = next;
+        } else {
+            cellHead[ys[id] * width + xs[id]] = next;
+        }
+        if (next >= 0) {
+            prevInCell[next] = prev;
+        }
+    }
+
+    // checkBounds - Rejects positions outside the grid
+    private void checkBounds(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IllegalArgumentException("position outside the grid: " + x + "," + y);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package game.world;
+
+import java.util.Random;
+
+/**
+ * Seedable random source for gameplay:
+ *  - Drop-in java.util.Random replacement backed by a 64-bit SplitMix generator.
+ *  - Same seed → same maze, loot spawns and chaser roaming, on any thread.
+ *  - Exposes its full state so runs can be reproduced or saved mid-game.
+ */
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    // ---------- CONSTANTS ----------
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // ---------- FIELDS ----------
+
+    // No initializer: Random's constructor calls setSeed() before field initializers run
+    private long state;
+
+    // ---------- CONSTRUCTORS ----------
+
+    // GameRandom - Seeds from the clock (non-reproducible, like new Random())
+    public GameRandom() {
+        this(mix(System.nanoTime() ^ Thread.currentThread().getId()));
+    }
+
+    // GameRandom - Seeds deterministically from the given value
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    // ---------- STATE ----------
+
+    // setSeed - Resets the generator to the given seed
+    @Override
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    // getState - Returns the raw generator state (for snapshots / replays)
+    public long getState() {
+        return state;
+    }
+
+    // setState - Restores a raw state previously returned by getState()
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    // ---------- GENERATION ----------
+
+    // nextLong - Returns the next 64 random bits (SplitMix64 step)
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    // next - Feeds every other Random method (nextInt, nextDouble, ...) from nextLong()
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    // ---------- SEED HELPERS ----------
+
+    // streamSeed - Derives an independent seed for sub-stream (a, b) of a base seed
+    public static long streamSeed(long baseSeed, long a, long b) {
+        long z = mix(baseSeed + GOLDEN_GAMMA * (a + 1));
+        return mix(z + GOLDEN_GAMMA * (b + 1));
+    }
+
+    // mix - SplitMix64 finalizer; scrambles a 64-bit value
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -27,7 +27,13 @@ public class Maze {
 	private int entranceX, entranceY;
 	private int exitX, exitY;
 
-	private final Random rng = new Random();
+	private final Random rng;
+
+	// Positions and state of every runner / chaser on this maze
+	private final EntityStore entities;
+
+	// Incremental hash of cells, entities and (via Session) run counters
+	private final StateHash stateHash = new StateHash();
 
 	// Path relative to PROJECT ROOT:
 	// PixelPursuit/src/game/resources/data/mazes.txt
@@ -42,13 +48,29 @@ public class Maze {
 
 	// Maze - Constructs a maze with an explicit width and height
 	public Maze(int width, int height) {
+		this(width, height, new Random(), true);
+	}
+
+	// Maze - Constructs a procedurally generated maze from the given RNG (no
+	// preset file, so the same seed always builds the same layout)
+	public Maze(int width, int height, Random rng) {
+		this(width, height, rng, false);
+	}
+
+	// Maze - Shared constructor; usePresets tries mazes.txt before generating
+	private Maze(int width, int height, Random rng, boolean usePresets) {
 		if (width <= 0 || height <= 0) {
 			throw new IllegalArgumentException("Maze size must be positive");
 		}
+		if (rng == null) {
+			throw new IllegalArgumentException("rng cannot be null");
+		}
 
 		this.width = width;
 		this.height = height;
 		this.cells = new Cell[height][width];
+		this.rng = rng;
+		this.entities = new EntityStore(width, height, stateHash);
 
 		// Start with everything walkable
 		for (int y = 0; y < height; y++) {
@@ -58,9 +80,18 @@ public class Maze {
 		}
 
 		// Try to load a preset, else fall back to a random layout
-		if (!loadRandomPresetFromFile()) {
+		if (!usePresets || !loadRandomPresetFromFile()) {
 			generateRandomLayout();
 		}
+
+		// Start hashing once the layout is built; every later cell change updates it
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				cells[y][x].attachHash(stateHash);
+			}
+		}
+		stateHash.toggle(StateHash.MAZE_DOOR, 0, 0, StateHash.packXY(entranceX, entranceY));
+		stateHash.toggle(StateHash.MAZE_DOOR, 1, 0, StateHash.packXY(exitX, exitY));
 	}
 
 	// ---------- DIMENSIONS / CELLS ----------
@@ -108,6 +139,24 @@ public class Maze {
 		return exitY;
 	}
 
+	// setEntrance - Moves the entrance (used when restoring a saved maze)
+	public void setEntrance(int x, int y) {
+		getCell(x, y);
+		stateHash.replace(StateHash.MAZE_DOOR, 0, 0,
+				StateHash.packXY(entranceX, entranceY), StateHash.packXY(x, y));
+		entranceX = x;
+		entranceY = y;
+	}
+
+	// setExit - Moves the exit (used when restoring a saved maze)
+	public void setExit(int x, int y) {
+		getCell(x, y);
+		stateHash.replace(StateHash.MAZE_DOOR, 1, 0,
+				StateHash.packXY(exitX, exitY), StateHash.packXY(x, y));
+		exitX = x;
+		exitY = y;
+	}
+
 	// getEntranceCell - Returns the entrance cell
 	public Cell getEntranceCell() {
 		return getCell(entranceX, entranceY);
@@ -463,6 +512,16 @@ public class Maze {
 
 	// ---------- BULK HELPERS ----------
 
+	// getStateHash - Returns the incremental hash of this maze's cells and entities
+	public StateHash getStateHash() {
+		return stateHash;
+	}
+
+	// getEntities - Returns the entity store backing the runner and chasers on this maze
+	public EntityStore getEntities() {
+		return entities;
+	}
+
 	// clearAllEntities - Removes all entities from every cell
 	public void clearAllEntities() {
 		for (int y = 0; y < getHeight(); y++) {
@@ -0,0 +1,67 @@
+package game.world;
+
+/**
+ * Incremental Zobrist-style hash of a run's state:
+ *  - Every tracked field contributes key(domain, a, b, value), a 64-bit
+ *    pseudo-random value derived on the fly (no key tables to allocate).
+ *  - The hash is the XOR of all contributions, so a mutation is O(1):
+ *    XOR out the old value's key, XOR in the new one.
+ *  - Two states built through different mutation orders hash the same.
+ *  - Fed by Cell (walkable / gold / diamond), EntityStore (rows) and Session
+ *    (counters); query it any time to compare runs cheaply. Session's own
+ *    getStateHash() adds chaser AI memory, timer due ticks and loot expiry.
+ */
+public final class StateHash {
+
+    // ---------- DOMAINS ----------
+
+    public static final int CELL_WALKABLE = 1;   // a, b = x, y
+    public static final int CELL_GOLD     = 2;
+    public static final int CELL_DIAMOND  = 3;
+    public static final int ENTITY_POS    = 4;   // a = entity id
+    public static final int ENTITY_STATE  = 5;
+    public static final int ENTITY_KIND   = 6;
+    public static final int COUNTER       = 7;   // a = counter index
+    public static final int RNG           = 8;   // a = stream index
+    public static final int MAZE_DOOR     = 9;   // a = 0 entrance, 1 exit; value = packed x, y
+    public static final int AI_MEMORY     = 10;  // a, b = x, y of a visit count (a = -1: other fields)
+    public static final int CHASER_AI     = 11;  // a = chaser index; value = its AI's own hash
+    public static final int TIMER_DUE     = 12;  // a = timer index
+    public static final int LOOT_EXPIRY   = 13;  // a, b = x, y
+
+    // ---------- FIELDS ----------
+
+    private long hash = 0L;
+
+    // ---------- QUERIES ----------
+
+    // get - Returns the current hash
+    public long get() {
+        return hash;
+    }
+
+    // ---------- UPDATES ----------
+
+    // toggle - XORs one field value in or out
+    public void toggle(int domain, int a, int b, long value) {
+        hash ^= key(domain, a, b, value);
+    }
+
+    // replace - Swaps a field's old value for its new one
+    public void replace(int domain, int a, int b, long oldValue, long newValue) {
+        if (oldValue != newValue) {
+            hash ^= key(domain, a, b, oldValue) ^ key(domain, a, b, newValue);
+        }
+    }
+
+    // packXY - Packs a grid position into one hashable value
+    public static long packXY(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    // key - Pseudo-random key for one (field, value) pair
+    public static long key(int domain, int a, int b, long value) {
+        long z = GameRandom.mix(((long) domain << 56) ^ ((long) a << 28) ^ (b & 0xFFFFFFFL));
+        return GameRandom.mix(z ^ GameRandom.mix(value + 0x9E3779B97F4A7C15L));
+    }
+}
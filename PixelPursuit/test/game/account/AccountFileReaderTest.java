@@ -0,0 +1,130 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import game.settings.Difficulty;
+
+public class AccountFileReaderTest {
+
+    @TempDir
+    File dir;
+
+    // write - Writes text to a temp file
+    private File write(String text) throws IOException {
+        File file = new File(dir, "accounts.txt");
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    // readAll - Every account the reader returns, with a buffer of bufferBytes
+    private static List<Account> readAll(File file, int bufferBytes, List<String> problems) throws IOException {
+        List<Account> accounts = new ArrayList<>();
+        try (AccountFileReader reader = new AccountFileReader(
+                FileChannel.open(file.toPath(), StandardOpenOption.READ),
+                (offset, reason, line) -> problems.add(offset + " " + reason + " " + line), bufferBytes)) {
+            Account acc;
+            while ((acc = reader.next()) != null) {
+                accounts.add(acc);
+            }
+        }
+        return accounts;
+    }
+
+    @Test
+    void readsWhatFromFileLineReadsAtAnyBufferSize() throws IOException {
+        Random rng = new Random(3);
+        StringBuilder text = new StringBuilder();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Account acc = new Account("plåyer" + i, "pw" + rng.nextInt(),
+                    rng.nextInt(), -rng.nextInt(50), rng.nextInt(100000), rng.nextInt(12),
+                    rng.nextInt(4) == 0 ? 0.0 : rng.nextDouble() * 1000, rng.nextInt(16),
+                    rng.nextInt(8), rng.nextInt(5) - 1, rng.nextLong());
+            acc.setBestTime(Difficulty.HARD, rng.nextInt(600) / 4.0);
+            String line = acc.toFileLine();
+            if (i % 7 == 0) {
+                line = line.substring(0, line.lastIndexOf(';', line.lastIndexOf(';') - 1)); // legacy 11 fields
+            }
+            lines.add(line);
+            text.append(i % 5 == 0 ? "  " + line + " \r\n" : line + "\n");
+            if (i % 50 == 0) text.append("\n   \n");
+        }
+        text.setLength(text.length() - 1); // last line without '\n'
+        File file = write(text.toString());
+
+        for (int bufferBytes : new int[] { 7, 64, AccountFileReader.DEFAULT_BUFFER_BYTES }) {
+            List<String> problems = new ArrayList<>();
+            List<Account> read = readAll(file, bufferBytes, problems);
+            assertEquals(List.of(), problems);
+            assertEquals(lines.size(), read.size());
+            for (int i = 0; i < lines.size(); i++) {
+                assertEquals(Account.fromFileLine(lines.get(i)).toFileLine(), read.get(i).toFileLine(),
+                        "line " + i + " with a " + bufferBytes + "-byte buffer");
+            }
+        }
+    }
+
+    @Test
+    void malformedLinesAreSkippedAndReportedWithTheirOffsets() throws IOException {
+        String good = new Account("ok", "pw").toFileLine() + "\n";
+        String shortLine = "short;pw;1;2\n";
+        String badNumber = "bad;pw;1;2;x3;4;5.0;6;7;8;9\n";
+        String overflow = "big;pw;1;2;3;4;5.0;6;7;8;99999999999999999999\n";
+        File file = write(good + shortLine + good + badNumber + overflow + good);
+
+        List<String> problems = new ArrayList<>();
+        assertEquals(3, readAll(file, 16, problems).size());
+        assertEquals(3, problems.size());
+
+        int offset = good.length();
+        assertTrue(problems.get(0).startsWith(offset + " expected at least 11 fields, found 4 short"),
+                problems.get(0));
+        offset += shortLine.length() + good.length();
+        assertTrue(problems.get(1).startsWith(offset + " bad vaultGold (field 5) bad;"), problems.get(1));
+        offset += badNumber.length();
+        assertTrue(problems.get(2).startsWith(offset + " bad unlocks (field 11) big;"), problems.get(2));
+    }
+
+    @Test
+    void doublesMatchDoubleParseDouble() throws IOException {
+        String[] times = {
+                "0.0", "-0.0", "61.25", "1.0E-5", "123456.78901234567", "9.999999999999999E22",
+                "0.1", "3", ".5", "+2.5", "1e3", "NaN", "Infinity", "0.30000000000000004",
+                "4.9E-324", "1.7976931348623157E308", "0.000000000000000000000001"
+        };
+        StringBuilder text = new StringBuilder();
+        for (String t : times) {
+            text.append("u;pw;0;0;0;0;").append(t).append(";14;0;-1;0;").append(t).append('\n');
+        }
+        Random rng = new Random(8);
+        for (int i = 0; i < 2000; i++) {
+            double t = (i % 2 == 0) ? rng.nextDouble() * 10000 : Math.round(rng.nextDouble() * 1e6) / 1e3;
+            text.append("u;pw;0;0;0;0;").append(t).append(";14;0;-1;0\n");
+        }
+
+        List<String> problems = new ArrayList<>();
+        List<Account> read = readAll(write(text.toString()), 4096, problems);
+        assertEquals(List.of(), problems);
+        String[] lines = text.toString().split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            Account expected = Account.fromFileLine(lines[i]);
+            assertEquals(Double.doubleToRawLongBits(expected.getBestTime()),
+                    Double.doubleToRawLongBits(read.get(i).getBestTime()), lines[i]);
+            assertEquals(Double.doubleToRawLongBits(expected.getBestTime(Difficulty.EASY)),
+                    Double.doubleToRawLongBits(read.get(i).getBestTime(Difficulty.EASY)), lines[i]);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AccountJournalTest {
+
+    @TempDir
+    File dir;
+
+    private Account account(String name, int gold) {
+        Account acc = new Account(name, "pw");
+        acc.setFreeGold(gold);
+        return acc;
+    }
+
+    private void append(AccountJournal journal, Account... changed) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Account acc : changed) {
+            lines.add(acc.toFileLine());
+        }
+        journal.appendLines(lines, true);
+    }
+
+    private Map<String, Account> load(AccountJournal journal) throws IOException {
+        Map<String, Account> accounts = new HashMap<>();
+        journal.load(accounts, (offset, reason, line) -> fail("malformed: " + line));
+        return accounts;
+    }
+
+    private void writeSnapshot(File file, Account... accounts) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (Account acc : accounts) {
+            text.append(acc.toFileLine()).append('\n');
+        }
+        Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void updateAppendsOneRecordAndLeavesTheSnapshotAlone() throws IOException {
+        File snapshot = new File(dir, "accounts.txt");
+        writeSnapshot(snapshot, account("a", 1), account("b", 2));
+        long snapshotBytes = snapshot.length();
+
+        AccountJournal journal = new AccountJournal(snapshot.getPath());
+        append(journal, account("a", 50));
+        journal.close();
+
+        assertEquals(snapshotBytes, snapshot.length());
+        assertEquals(1, Files.readAllLines(journal.getJournalFile().toPath()).size());
+        assertEquals(50, load(new AccountJournal(snapshot.getPath())).get("a").getFreeGold());
+    }
+
+    @Test
+    void compactionFoldsTheJournalIntoTheSnapshot() throws IOException {
+        File snapshot = new File(dir, "accounts.txt");
+        writeSnapshot(snapshot, account("a", 1), account("b", 2));
+
+        AccountJournal journal = new AccountJournal(snapshot.getPath());
+        append(journal, account("a", 10));
+        append(journal, account("c", 3), account("a", 11));
+        assertEquals(3, journal.getRecordsSinceCompaction());
+
+        assertTrue(journal.compact());
+        assertFalse(journal.getJournalFile().exists());
+        assertEquals(0, journal.getRecordsSinceCompaction());
+        assertFalse(journal.compact(), "nothing left to compact");
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(3, lines.size());
+        Map<String, Account> accounts = load(new AccountJournal(snapshot.getPath()));
+        assertEquals(11, accounts.get("a").getFreeGold());
+        assertEquals(2, accounts.get("b").getFreeGold());
+        assertEquals(3, accounts.get("c").getFreeGold());
+    }
+
+    @Test
+    void tornLastRecordIsIgnoredOnRecovery() throws IOException {
+        File snapshot = new File(dir, "accounts.txt");
+        AccountJournal journal = new AccountJournal(snapshot.getPath());
+        append(journal, account("a", 7));
+        journal.close();
+
+        // A crash mid-append: the second record lost its tail
+        String torn = AccountJournal.encode(account("a", 1234).toFileLine());
+        Files.write(journal.getJournalFile().toPath(),
+                torn.substring(0, torn.length() - 3).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(7, load(new AccountJournal(snapshot.getPath())).get("a").getFreeGold());
+    }
+
+    @Test
+    void recordsAppendedAfterATornTailSurviveReloading() throws IOException {
+        File snapshot = new File(dir, "accounts.txt");
+        AccountJournal journal = new AccountJournal(snapshot.getPath());
+
+        // The journal holds nothing but a torn record, as after a crash in the first append
+        String torn = AccountJournal.encode(account("alice", 5).toFileLine());
+        Files.write(journal.getJournalFile().toPath(),
+                torn.substring(0, torn.length() - 3).getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(load(journal).isEmpty());
+        append(journal, account("bob", 1));
+        append(journal, account("carol", 2));
+        journal.close();
+
+        Map<String, Account> accounts = load(new AccountJournal(snapshot.getPath()));
+        assertEquals(2, accounts.size());
+        assertEquals(1, accounts.get("bob").getFreeGold());
+        assertEquals(2, accounts.get("carol").getFreeGold());
+
+        // Compaction keeps them too
+        assertTrue(journal.compact());
+        accounts = load(new AccountJournal(snapshot.getPath()));
+        assertEquals(2, accounts.size());
+        assertFalse(accounts.containsKey("alice"));
+    }
+
+    @Test
+    void interruptedCompactionIsRecoveredAndFinished() throws IOException {
+        File snapshot = new File(dir, "accounts.txt");
+        writeSnapshot(snapshot, account("a", 1));
+
+        // Rotated journal left behind by a crash, plus newer records after it
+        File rotated = new File(snapshot.getPath() + ".journal.old");
+        Files.write(rotated.toPath(),
+                (AccountJournal.encode(account("a", 5).toFileLine()) + "\n").getBytes(StandardCharsets.UTF_8));
+        AccountJournal journal = new AccountJournal(snapshot.getPath());
+        append(journal, account("a", 9));
+
+        assertEquals(9, load(new AccountJournal(snapshot.getPath())).get("a").getFreeGold());
+
+        assertTrue(journal.compact());
+        assertFalse(rotated.exists());
+        assertEquals(9, load(new AccountJournal(snapshot.getPath())).get("a").getFreeGold());
+    }
+
+    @Test
+    void managerJournalsUpdatesAndRecoversThem() {
+        File snapshot = new File(dir, "accounts.txt");
+        AccountManager manager = new AccountManager(snapshot.getPath());
+        Account acc = manager.createAccount("player", "pw");
+        acc.setFreeGold(42);
+        manager.updateAccount(acc);
+        manager.close();
+
+        assertFalse(snapshot.exists(), "updates must not rewrite the snapshot");
+
+        AccountManager reloaded = new AccountManager(snapshot.getPath());
+        assertEquals(42, reloaded.login("player", "pw").getFreeGold());
+
+        reloaded.compactAccounts();
+        assertTrue(snapshot.exists());
+        assertEquals(42, new AccountManager(snapshot.getPath()).login("player", "pw").getFreeGold());
+    }
+}
@@ -0,0 +1,195 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AccountManagerConcurrencyTest {
+
+    private static final int PLAYERS = 2000;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 25;
+
+    // Few shared accounts every player pays into and buys from, so updates collide
+    private static final int HOT_ACCOUNTS = 8;
+
+    @TempDir
+    File dir;
+
+    private String logPath() {
+        return new File(dir, "transactions.log").getPath();
+    }
+
+    // runAll - Runs every task on THREADS threads and rethrows the first failure
+    private static <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> f : pool.invokeAll(tasks, 60, TimeUnit.SECONDS)) {
+                results.add(f.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // playSessions - PLAYERS simulated players sign up, log in, and trade gold with the hot
+    //                accounts through one ledger; returns each hot account's expected vault gold
+    private long[] playSessions(AccountManager manager) throws Exception {
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 5)) {
+            return playSessions(manager, ledger);
+        }
+    }
+
+    private static long[] playSessions(AccountManager manager, CurrencyLedger ledger) throws Exception {
+        for (int h = 0; h < HOT_ACCOUNTS; h++) {
+            manager.createAccount("hot" + h, "pw");
+        }
+        AtomicLongArray expected = new AtomicLongArray(HOT_ACCOUNTS);
+
+        List<Callable<Void>> players = new ArrayList<>();
+        for (int p = 0; p < PLAYERS; p++) {
+            String name = "player" + p;
+            long seed = p;
+            players.add(() -> {
+                Random rng = new Random(seed);
+                manager.createAccount(name, "pw");
+                manager.login(name, "pw");
+                for (int r = 0; r < ROUNDS; r++) {
+                    int hot = rng.nextInt(HOT_ACCOUNTS);
+                    int gold = 1 + rng.nextInt(10);
+                    if (rng.nextInt(3) == 0) {
+                        if (ledger.purchase("hot" + hot, gold, 0, -1, "hot").isBought()) {
+                            expected.addAndGet(hot, -gold);
+                        }
+                    } else {
+                        ledger.payout("hot" + hot, gold, 0, "trade");
+                        expected.addAndGet(hot, gold);
+                    }
+                    ledger.payout(name, 1, 0, "run");
+                }
+                return null;
+            });
+        }
+        runAll(players);
+
+        long[] result = new long[HOT_ACCOUNTS];
+        for (int h = 0; h < HOT_ACCOUNTS; h++) {
+            result[h] = expected.get(h);
+        }
+        return result;
+    }
+
+    // assertNoLostUpdates - Every hot account holds exactly its expected gold, every player ROUNDS
+    private static void assertNoLostUpdates(AccountManager manager, long[] expected) throws Exception {
+        for (int h = 0; h < HOT_ACCOUNTS; h++) {
+            assertEquals(expected[h], manager.login("hot" + h, "pw").getVaultGold(), "hot" + h);
+        }
+        for (int p = 0; p < PLAYERS; p++) {
+            assertEquals(ROUNDS, manager.login("player" + p, "pw").getVaultGold(), "player" + p);
+        }
+        assertEquals(PLAYERS + HOT_ACCOUNTS, manager.getAllAccounts().size());
+    }
+
+    // assertLogAgrees - The last logged balance of every hot account matches the account
+    private void assertLogAgrees(AccountManager manager) throws Exception {
+        Map<String, Integer> lastGold = new HashMap<>();
+        for (Transaction tx : CurrencyLedger.readLog(logPath())) {
+            lastGold.put(tx.getUsername(), tx.getVaultGoldAfter());
+        }
+        for (int h = 0; h < HOT_ACCOUNTS; h++) {
+            assertEquals(manager.login("hot" + h, "pw").getVaultGold(), lastGold.get("hot" + h), "hot" + h);
+        }
+    }
+
+    @Test
+    void concurrentPlayersLoseNoUpdatesInMemory() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        assertNoLostUpdates(manager, playSessions(manager));
+        assertLogAgrees(manager);
+    }
+
+    @Test
+    void concurrentPlayersLoseNoUpdatesInTheBinaryStore() throws Exception {
+        // Not thread-safe itself: the manager serializes calls into it
+        AccountManager manager = new AccountManager(
+                MappedAccountStore.open(new File(dir, "accounts.bin").getPath()));
+        assertNoLostUpdates(manager, playSessions(manager));
+        manager.close();
+    }
+
+    @Test
+    void concurrentPlayersLoseNoUpdatesOnDisk() throws Exception {
+        String path = new File(dir, "accounts.txt").getPath();
+        AccountManager manager = new AccountManager(path, 5);
+        long[] expected = playSessions(manager);
+        manager.close();
+
+        AccountManager reloaded = new AccountManager(path);
+        assertNoLostUpdates(reloaded, expected);
+
+        // Reloading queued a background compaction; finish it before the temp dir goes away
+        reloaded.compactAccounts();
+    }
+
+    @Test
+    void racingSignUpsOfOneNameLetExactlyOneWin() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        List<Callable<Boolean>> signUps = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            String password = "pw" + i;
+            signUps.add(() -> {
+                try {
+                    manager.createAccount("taken", password);
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            });
+        }
+
+        assertEquals(1, runAll(signUps).stream().filter(won -> won).count());
+        assertEquals(1, manager.getAllAccounts().size());
+    }
+
+    @Test
+    void purchasesNeverOverdraw() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        manager.createAccount("buyer", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 5)) {
+            ledger.payout("buyer", 100, 0, "run");
+
+            List<Callable<Boolean>> buys = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                buys.add(() -> ledger.purchase("buyer", 7, 0, -1, "boost").isBought());
+            }
+
+            assertEquals(100 / 7, runAll(buys).stream().filter(ok -> ok).count());
+            assertEquals(100 % 7, manager.login("buyer", "pw").getVaultGold());
+            assertThrows(IllegalArgumentException.class, () -> ledger.purchase("buyer", -1, 0, -1, "boost"));
+        }
+        assertEquals(1 + 100 / 7, CurrencyLedger.readLog(logPath()).size());
+    }
+
+    @Test
+    void unknownAccountsCannotBeModified() {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        assertThrows(IllegalArgumentException.class, () -> manager.modifyAccount("ghost", acc -> null));
+        assertThrows(IllegalArgumentException.class, () -> manager.login(null, "pw"));
+    }
+}
@@ -11,22 +11,8 @@ public class AccountManagerTest {
 
     @BeforeEach
     void setup() {
-        // Override load and save operations to disable file I/O during testing
-        manager = new AccountManager() {
-            @Override
-            public void loadAccounts() {
-                // Disable file loading for isolated tests
-                getAllAccounts().clear();
-            }
-
-            @Override
-            protected void saveAccounts() {
-                // Disable file writing
-            }
-        };
-
-        // Ensure clean start
-        manager.getAllAccounts().clear();
+        // In-memory store: no file I/O during testing, and a clean start every time
+        manager = new AccountManager(new MemoryAccountStore());
     }
 
     // ----------------------------
@@ -0,0 +1,110 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import game.settings.Difficulty;
+
+/**
+ * Behaviour every AccountStore must have (see AccountStore). Each backend's
+ * test class extends this and says how to open its store in a folder.
+ */
+public abstract class AccountStoreContract {
+
+    @TempDir
+    File dir;
+
+    // open - Opens (or reopens) this backend's store in folder
+    protected abstract AccountStore open(File folder) throws IOException;
+
+    // persists - False for backends that keep nothing across reopening
+    protected boolean persists() {
+        return true;
+    }
+
+    private static Account sample(String name, int gold) {
+        Account acc = new Account(name, "pw-" + name, gold, 2, 300, 4, 87.5, 3, 16, 28, 0x5L << 40);
+        acc.setBestTime(Difficulty.HARD, 61.25);
+        return acc;
+    }
+
+    @Test
+    void putThenGetReturnsTheSameState() throws IOException {
+        try (AccountStore store = open(dir)) {
+            store.load();
+            Account original = sample("runner", 10);
+            Account stored = store.put(original);
+
+            assertEquals(original.toFileLine(), stored.toFileLine());
+            assertEquals(original.toFileLine(), store.get("runner").toFileLine());
+            assertNull(store.get("missing"));
+        }
+    }
+
+    @Test
+    void putReplacesAnExistingAccount() throws IOException {
+        try (AccountStore store = open(dir)) {
+            store.load();
+            store.put(sample("a", 1));
+            store.put(sample("b", 2));
+            store.put(sample("a", 3));
+
+            assertEquals(2, store.size());
+            assertEquals(2, store.all().size());
+            assertEquals(3, store.get("a").getFreeGold());
+        }
+    }
+
+    @Test
+    void allIsReadOnly() throws IOException {
+        try (AccountStore store = open(dir)) {
+            store.load();
+            store.put(sample("a", 1));
+            assertThrows(UnsupportedOperationException.class, () -> store.all().clear());
+        }
+    }
+
+    @Test
+    void flushedAccountsSurviveReopening() throws Exception {
+        try (AccountStore store = open(dir)) {
+            store.load();
+            Account acc = store.put(sample("saved", 1));
+            acc.setFreeGold(41);
+            store.put(acc);
+            store.whenDurable().get(5, TimeUnit.SECONDS);
+            store.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        try (AccountStore store = open(dir)) {
+            store.load();
+            if (persists()) {
+                assertEquals(1, store.size());
+                assertEquals(41, store.get("saved").getFreeGold());
+            } else {
+                assertEquals(0, store.size());
+            }
+
+            // Compacting keeps the state (and finishes any compaction the load queued)
+            store.compact();
+            assertEquals(store.size(), store.all().size());
+        }
+    }
+
+    @Test
+    void managerWorksOnTheStore() throws IOException {
+        AccountManager manager = new AccountManager(open(dir));
+        Account acc = manager.createAccount("player", "pw");
+        acc.setVaultGold(9);
+        manager.updateAccount(acc).join();
+
+        assertEquals(9, manager.login("player", "pw").getVaultGold());
+        assertEquals(1, manager.getAllAccounts().size());
+        manager.close();
+    }
+}
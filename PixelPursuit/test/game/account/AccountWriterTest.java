@@ -0,0 +1,128 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AccountWriterTest {
+
+    @TempDir
+    File dir;
+
+    private static String line(String name, int gold) {
+        Account acc = new Account(name, "pw");
+        acc.setFreeGold(gold);
+        return acc.toFileLine();
+    }
+
+    @Test
+    void burstInsideTheWindowIsOneCoalescedCommit() throws Exception {
+        AccountJournal journal = new AccountJournal(new File(dir, "accounts.txt").getPath());
+        AccountWriter writer = new AccountWriter(journal, 200);
+
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            saves.add(writer.submit(List.of(line("p" + (i % 10), i))));
+        }
+        CompletableFuture.allOf(saves.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, writer.getBatchCount());
+        assertEquals(10, writer.getRecordCount(), "one record per account, not per update");
+        assertEquals(10, Files.readAllLines(journal.getJournalFile().toPath()).size());
+
+        Map<String, Account> accounts = new HashMap<>();
+        journal.load(accounts, (offset, reason, l) -> fail(l));
+        assertEquals(99, accounts.get("p9").getFreeGold());
+        assertTrue(writer.close(5000));
+    }
+
+    @Test
+    void submitReturnsBeforeTheCommitAndFlushSkipsTheWindow() throws Exception {
+        AccountJournal journal = new AccountJournal(new File(dir, "accounts.txt").getPath());
+        AccountWriter writer = new AccountWriter(journal, 60_000);
+
+        CompletableFuture<Void> save = writer.submit(List.of(line("a", 1)));
+        assertFalse(save.isDone(), "nothing is written until the window ends or a flush");
+
+        // Both futures copy the batch's; either may complete first, but both long before the window
+        writer.flush().get(5, TimeUnit.SECONDS);
+        save.get(5, TimeUnit.SECONDS);
+        assertEquals(1, writer.getBatchCount());
+        assertTrue(writer.close(5000));
+    }
+
+    @Test
+    void closeDrainsQueuedSavesAndRejectsNewOnes() throws Exception {
+        AccountJournal journal = new AccountJournal(new File(dir, "accounts.txt").getPath());
+        AccountWriter writer = new AccountWriter(journal, 60_000);
+
+        CompletableFuture<Void> save = writer.submit(List.of(line("a", 1), line("b", 2)));
+        assertTrue(writer.close(5000));
+
+        assertTrue(save.isDone() && !save.isCompletedExceptionally());
+        assertEquals(2, Files.readAllLines(journal.getJournalFile().toPath()).size());
+        assertThrows(IllegalStateException.class, () -> writer.submit(List.of(line("c", 3))));
+    }
+
+    @Test
+    void failedCommitStaysPendingUntilTheRetrySucceeds() throws Exception {
+        // The journal's folder is a plain file, so it cannot be created until that file goes away
+        File blocker = new File(dir, "blocker");
+        Files.write(blocker.toPath(), new byte[0]);
+        AccountJournal journal = new AccountJournal(new File(blocker, "accounts.txt").getPath());
+        AccountWriter writer = new AccountWriter(journal, 0);
+
+        CompletableFuture<Void> save = writer.submit(List.of(line("a", 1)));
+        Thread.sleep(300);
+        assertFalse(save.isDone());
+
+        Files.delete(blocker.toPath());
+        save.get(5, TimeUnit.SECONDS);
+        assertEquals(1, Files.readAllLines(journal.getJournalFile().toPath()).size());
+        assertTrue(writer.close(5000));
+    }
+
+    @Test
+    void failedCommitFailsOnlyWhenCloseGivesUp() throws Exception {
+        File blocker = new File(dir, "blocker");
+        Files.write(blocker.toPath(), new byte[0]);
+        AccountJournal journal = new AccountJournal(new File(blocker, "accounts.txt").getPath());
+        AccountWriter writer = new AccountWriter(journal, 0);
+
+        CompletableFuture<Void> save = writer.submit(List.of(line("a", 1)));
+        Thread.sleep(300);
+        assertFalse(save.isDone());
+
+        writer.close(5000);
+        Exception e = assertThrows(Exception.class, () -> save.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    void managerUpdateCompletesOnceDurable() throws Exception {
+        File snapshot = new File(dir, "accounts.txt");
+        AccountManager manager = new AccountManager(snapshot.getPath(), 10);
+        Account acc = manager.createAccount("player", "pw");
+        acc.setFreeGold(7);
+
+        manager.updateAccount(acc).get(5, TimeUnit.SECONDS);
+
+        AccountManager reloaded = new AccountManager(snapshot.getPath());
+        assertEquals(7, reloaded.login("player", "pw").getFreeGold());
+        manager.close();
+
+        // Reloading queued a background compaction; finish it before the temp dir goes away
+        reloaded.compactAccounts();
+    }
+}
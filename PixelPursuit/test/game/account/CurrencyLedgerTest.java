@@ -0,0 +1,243 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CurrencyLedgerTest {
+
+    @TempDir
+    File dir;
+
+    private String logPath() {
+        return new File(dir, "transactions.log").getPath();
+    }
+
+    @Test
+    void purchaseDebitsAndUnlocksInOneLoggedStep() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account acc = manager.createAccount("buyer", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("buyer", 120, 5, "run");
+            PurchaseResult result = ledger.purchase("buyer", 100, 2, 20, "Crown");
+            Transaction tx = result.getTransaction();
+
+            assertTrue(result.isBought());
+            assertNotNull(tx);
+            assertEquals(20, acc.getVaultGold());
+            assertEquals(3, acc.getVaultDiamonds());
+            assertTrue((acc.getUnlocks() & (1L << 20)) != 0);
+            assertEquals(-100, tx.getGold());
+            assertEquals(20, tx.getVaultGoldAfter());
+            ledger.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        List<Transaction> log = CurrencyLedger.readLog(logPath());
+        assertEquals(2, log.size());
+        assertEquals(Transaction.Type.PAYOUT, log.get(0).getType());
+        assertEquals("Crown", log.get(1).getItem());
+        assertEquals(20, log.get(1).getUnlockBit());
+    }
+
+    @Test
+    void rejectedPurchasesChangeAndLogNothing() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account acc = manager.createAccount("buyer", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("buyer", 50, 0, "run");
+            assertEquals(PurchaseResult.Status.INSUFFICIENT_FUNDS,
+                    ledger.purchase("buyer", 51, 0, 20, "Too dear").getStatus());
+            assertEquals(PurchaseResult.Status.BOUGHT, ledger.purchase("buyer", 10, 0, 20, "Crown").getStatus());
+            assertEquals(PurchaseResult.Status.ALREADY_OWNED,
+                    ledger.purchase("buyer", 10, 0, 20, "Crown").getStatus());
+            assertNull(ledger.purchase("buyer", 10, 0, 20, "Crown").getTransaction());
+            assertThrows(IllegalArgumentException.class, () -> ledger.purchase("buyer", -1, 0, -1, "x"));
+            assertThrows(IllegalArgumentException.class, () -> ledger.purchase("buyer", 1, 0, 63, "x"));
+
+            assertEquals(40, acc.getVaultGold());
+            ledger.flush().get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(2, CurrencyLedger.readLog(logPath()).size());
+    }
+
+    @Test
+    void payoutClearsTheFreeBalances() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account acc = manager.createAccount("runner", "pw");
+        acc.setFreeGold(30);
+        acc.setFreeDiamonds(2);
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("runner", 30, 2, "run");
+        }
+        assertEquals(0, acc.getFreeGold());
+        assertEquals(0, acc.getFreeDiamonds());
+        assertEquals(30, acc.getVaultGold());
+        assertEquals(2, acc.getVaultDiamonds());
+    }
+
+    @Test
+    void payoutAppliesTheRunsOtherChangesInTheSameStep() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account acc = manager.createAccount("runner", "pw");
+        List<Double> seen = new ArrayList<>();
+        manager.addAccountListener(stored -> seen.add(stored.getBestTime()));
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("runner", 30, 0, "run", a -> a.setBestTime(95.5));
+        }
+        assertEquals(95.5, acc.getBestTime());
+        assertEquals(30, acc.getVaultGold());
+        assertEquals(List.of(95.5), seen, "stored once, with the best time already set");
+    }
+
+    @Test
+    void concurrentSessionsKeepBalancesAndLogInAgreement() throws Exception {
+        int players = 200;
+        int threads = 16;
+        int perTask = 500;
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        for (int p = 0; p < players; p++) {
+            manager.createAccount("p" + p, "pw");
+        }
+
+        CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 20);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            tasks.add(pool.submit(() -> {
+                for (int i = 0; i < perTask; i++) {
+                    String name = "p" + ((offset * 7 + i) % players);
+                    if (i % 3 == 2) {
+                        ledger.purchase(name, 3, 0, -1, "boost");
+                    } else {
+                        ledger.payout(name, 2, 1, "run");
+                    }
+                }
+            }));
+        }
+        for (Future<?> f : tasks) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        ledger.close();
+
+        // Replaying the log reproduces every balance, and ids are unique and in order
+        List<Transaction> log = CurrencyLedger.readLog(logPath());
+        assertEquals(ledger.getLoggedCount(), log.size());
+        assertTrue(ledger.getBatchCount() < log.size(), "log writes are batched");
+        Map<String, int[]> replayed = new HashMap<>();
+        long lastId = 0;
+        for (Transaction tx : log) {
+            assertTrue(tx.getId() > lastId);
+            lastId = tx.getId();
+            int[] vault = replayed.computeIfAbsent(tx.getUsername(), k -> new int[2]);
+            vault[0] += tx.getGold();
+            vault[1] += tx.getDiamonds();
+            assertEquals(vault[0], tx.getVaultGoldAfter());
+            assertTrue(vault[0] >= 0, "never overdrawn");
+        }
+        for (Account acc : manager.getAllAccounts()) {
+            int[] vault = replayed.getOrDefault(acc.getUsername(), new int[2]);
+            assertEquals(vault[0], acc.getVaultGold(), acc.getUsername());
+            assertEquals(vault[1], acc.getVaultDiamonds(), acc.getUsername());
+        }
+    }
+
+    @Test
+    void failedPutLogsNothing() throws Exception {
+        boolean[] failPuts = { false };
+        AccountManager manager = new AccountManager(new MemoryAccountStore() {
+            @Override
+            public Account put(Account acc) {
+                if (failPuts[0]) {
+                    throw new UncheckedIOException(new IOException("disk full"));
+                }
+                return super.put(acc);
+            }
+        });
+        Account acc = manager.createAccount("a", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("a", 5, 0, "run");
+            failPuts[0] = true;
+            assertThrows(UncheckedIOException.class, () -> ledger.payout("a", 7, 0, "run"));
+            failPuts[0] = false;
+            assertEquals(2, ledger.payout("a", 1, 0, "run").getId());
+        }
+        assertEquals(6, acc.getVaultGold(), "the failed payout left no trace");
+
+        List<Transaction> log = CurrencyLedger.readLog(logPath());
+        assertEquals(2, log.size());
+        assertEquals(1, log.get(1).getGold());
+        assertEquals(acc.getVaultGold(), log.get(1).getVaultGoldAfter(), "balance and log agree");
+    }
+
+    @Test
+    void failedLogWriteStaysPendingUntilTheRetrySucceeds() throws Exception {
+        // The log's folder is a plain file, so it cannot be created until that file goes away
+        File blocker = new File(dir, "blocker");
+        Files.write(blocker.toPath(), new byte[0]);
+        String path = new File(blocker, "transactions.log").getPath();
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        manager.createAccount("a", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, path, 0)) {
+            ledger.payout("a", 5, 0, "run");
+            CompletableFuture<Void> logged = ledger.flush();
+            Thread.sleep(300);
+            assertFalse(logged.isDone());
+
+            Files.delete(blocker.toPath());
+            logged.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(1, CurrencyLedger.readLog(path).size());
+    }
+
+    @Test
+    void idsContinueAcrossRestarts() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        manager.createAccount("a", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("a", 1, 0, "run");
+            ledger.payout("a", 1, 0, "run");
+        }
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            assertEquals(3, ledger.payout("a", 1, 0, "run").getId());
+        }
+        assertNull(Transaction.fromLogLine("1\t2\tPAYOUT"));
+    }
+
+    @Test
+    void transactionsAfterATornTailAreReadBack() throws Exception {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account acc = manager.createAccount("a", "pw");
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            ledger.payout("a", 1, 0, "run");
+        }
+        // A crash mid-write leaves half a line with no newline
+        Files.write(new File(logPath()).toPath(), "2\t17".getBytes(),
+                StandardOpenOption.APPEND);
+
+        try (CurrencyLedger ledger = new CurrencyLedger(manager, logPath(), 0)) {
+            assertEquals(2, ledger.payout("a", 4, 0, "run").getId());
+        }
+        List<Transaction> log = CurrencyLedger.readLog(logPath());
+        assertEquals(2, log.size());
+        assertEquals(4, log.get(1).getGold());
+        assertEquals(5, acc.getVaultGold());
+    }
+}
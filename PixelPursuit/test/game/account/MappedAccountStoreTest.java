@@ -0,0 +1,125 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedAccountStoreTest extends AccountStoreContract {
+
+    @Override
+    protected AccountStore open(File folder) throws IOException {
+        return MappedAccountStore.open(new File(folder, "accounts.bin").getPath());
+    }
+
+    private static Account sample(String name) {
+        return new Account(name, "secret-" + name, 10, 2, 300, 4, 87.5, 3, 16, 28, 0x5L << 40);
+    }
+
+    @Test
+    void storedAccountsRoundTripEveryField() throws IOException {
+        String path = new File(dir, "accounts.bin").getPath();
+        Account original = sample("ärgerlich");
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            store.put(original);
+        }
+
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            Account acc = store.get("ärgerlich");
+            assertNotNull(acc);
+            assertEquals(original.toFileLine(), acc.toFileLine());
+            assertNull(store.get("missing"));
+        }
+    }
+
+    @Test
+    void durabilityRequestsShareForcesAndCloseFinishesThem() throws Exception {
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        MappedAccountStore store = MappedAccountStore.open(new File(dir, "accounts.bin").getPath());
+        for (int i = 0; i < 100; i++) {
+            store.put(sample("p" + i));
+            requests.add(store.whenDurable());
+        }
+        for (CompletableFuture<Void> request : requests) {
+            request.get(5, TimeUnit.SECONDS);
+        }
+        assertTrue(store.getForceCount() <= 100, "at most one force per request");
+
+        store.put(sample("last"));
+        CompletableFuture<Void> last = store.whenDurable();
+        store.close();
+        assertTrue(last.isDone() && !last.isCompletedExceptionally());
+        assertTrue(store.flush().isDone(), "a closed store has nothing left to force");
+    }
+
+    @Test
+    void viewsWriteThroughToTheFile() throws IOException {
+        String path = new File(dir, "accounts.bin").getPath();
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            Account acc = store.put(new Account("runner", "pw"));
+            acc.setFreeGold(77);
+            acc.setUnlocks(acc.getUnlocks() | 1L << 14);
+            assertSame(acc, store.put(acc), "putting a view of this store is a no-op");
+        }
+
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            assertEquals(77, store.get("runner").getFreeGold());
+            assertEquals(1L << 14, store.get("runner").getUnlocks());
+        }
+    }
+
+    @Test
+    void putUpdatesExistingAccountsInPlace() throws IOException {
+        try (MappedAccountStore store = MappedAccountStore.open(new File(dir, "accounts.bin").getPath())) {
+            store.put(sample("a"));
+            Account changed = sample("a");
+            changed.setVaultGold(1);
+            store.put(changed);
+
+            assertEquals(1, store.size());
+            assertEquals(1, store.get("a").getVaultGold());
+        }
+    }
+
+    @Test
+    void growingKeepsEveryAccountFindable() throws IOException {
+        String path = new File(dir, "accounts.bin").getPath();
+        int n = MappedAccountStore.INITIAL_CAPACITY * 4 + 7;
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            Account early = store.put(sample("user0"));
+            for (int i = 1; i < n; i++) {
+                store.put(sample("user" + i));
+            }
+            assertEquals(n, store.size());
+            assertTrue(store.getCapacity() >= n);
+            assertEquals("user0", early.getUsername(), "views stay valid across growth");
+        }
+
+        try (MappedAccountStore store = MappedAccountStore.open(path)) {
+            assertEquals(n, store.size());
+            for (int i = 0; i < n; i++) {
+                assertEquals("user" + i, store.get("user" + i).getUsername());
+            }
+            assertEquals(n, store.all().size());
+        }
+    }
+
+    @Test
+    void oversizedNamesAndForeignFilesAreRejected() throws IOException {
+        try (MappedAccountStore store = MappedAccountStore.open(new File(dir, "accounts.bin").getPath())) {
+            String longName = "x".repeat(MappedAccountStore.MAX_USERNAME_BYTES + 1);
+            assertThrows(IllegalArgumentException.class, () -> store.put(new Account(longName, "pw")));
+        }
+
+        File text = new File(dir, "accounts.txt");
+        Files.write(text.toPath(), sample("a").toFileLine().getBytes());
+        assertThrows(IOException.class, () -> MappedAccountStore.open(text.getPath()));
+    }
+}
@@ -0,0 +1,16 @@
+package game.account;
+
+import java.io.File;
+
+public class MemoryAccountStoreTest extends AccountStoreContract {
+
+    @Override
+    protected AccountStore open(File folder) {
+        return new MemoryAccountStore();
+    }
+
+    @Override
+    protected boolean persists() {
+        return false;
+    }
+}
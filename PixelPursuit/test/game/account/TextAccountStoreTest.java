@@ -0,0 +1,40 @@
+package game.account;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TextAccountStoreTest extends AccountStoreContract {
+
+    @Override
+    protected AccountStore open(File folder) {
+        return new TextAccountStore(new File(folder, "accounts.txt").getPath(), 10);
+    }
+
+    @Test
+    void putsAfterACrashedAppendSurviveReopening() throws Exception {
+        // Only a torn record in the journal: the first append crashed
+        File journal = new File(dir, "accounts.txt.journal");
+        String torn = AccountJournal.encode(new Account("alice", "pw").toFileLine());
+        Files.write(journal.toPath(), torn.substring(0, torn.length() - 4).getBytes(StandardCharsets.UTF_8));
+
+        try (AccountStore store = open(dir)) {
+            store.load();
+            store.put(new Account("bob", "pw"));
+            store.flush().get(5, TimeUnit.SECONDS);
+            store.put(new Account("carol", "pw"));
+        }
+
+        try (AccountStore store = open(dir)) {
+            store.load();
+            assertEquals(2, store.size());
+            assertNotNull(store.get("bob"));
+            assertNotNull(store.get("carol"));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import game.world.Maze;
+
+public class DirectChaserAITest {
+
+    @Test
+    void chaserStepsAroundWallTowardRunner() {
+        Maze maze = new Maze(7, 5);
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                maze.getCell(x, y).setWalkable(true);
+            }
+        }
+        // Wall between chaser (1,2) and runner (5,2), open above and below
+        maze.getCell(3, 1).setWall(true);
+        maze.getCell(3, 2).setWall(true);
+        maze.getCell(3, 3).setWall(true);
+
+        Runner runner = new Runner(maze, 5, 2);
+        Session session = new Session(maze, runner);
+        Chaser chaser = new Chaser(maze, 1, 2, new DirectChaserAI());
+        session.addChaser(chaser);
+
+        int before = Math.abs(chaser.getX() - 5) + Math.abs(chaser.getY() - 2);
+        chaser.update(session);
+
+        // Shortest path goes right first (toward the gap), so x increases
+        assertEquals(2, chaser.getX());
+        assertEquals(2, chaser.getY());
+        assertTrue(Math.abs(chaser.getX() - 5) + Math.abs(chaser.getY() - 2) < before);
+    }
+}
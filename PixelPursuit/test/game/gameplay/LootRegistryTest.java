@@ -0,0 +1,114 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import game.settings.GameConfig;
+import game.world.GameRandom;
+import game.world.Maze;
+
+public class LootRegistryTest {
+
+    @Test
+    void swapRemoveKeepsCellLookupConsistent() {
+        LootRegistry loot = new LootRegistry(6, 4, 3);
+        assertTrue(loot.add(1, 1, false, 2, null));
+        assertTrue(loot.add(2, 1, true, 0, null));
+        assertTrue(loot.add(3, 2, false, 1, null));
+        assertTrue(loot.isFull());
+        assertFalse(loot.add(4, 2, false, 1, null));
+
+        assertTrue(loot.remove(1, 1));
+        assertFalse(loot.remove(1, 1));
+        assertEquals(2, loot.size());
+        assertTrue(loot.contains(3, 2));
+        assertTrue(loot.contains(2, 1));
+
+        // The moved item is still removable through its cell
+        assertTrue(loot.remove(3, 2));
+        assertEquals(1, loot.size());
+        assertEquals(2, loot.getX(0));
+        assertTrue(loot.isDiamond(0));
+    }
+
+    @Test
+    void removeCancelsDespawnTimer() {
+        TimerWheel wheel = new TimerWheel();
+        LootRegistry loot = new LootRegistry(4, 4, 2);
+        TimerWheel.Timer expiry = wheel.schedule(10, () -> fail("should have been cancelled"));
+        loot.add(1, 2, false, 1, expiry);
+
+        loot.remove(1, 2);
+        assertFalse(expiry.isPending());
+        wheel.advanceTo(20);
+    }
+
+    @Test
+    void sessionLootIsCappedAndExpires() {
+        Maze maze = new Maze(12, 9);
+        for (int y = 1; y < maze.getHeight() - 1; y++) {
+            for (int x = 1; x < maze.getWidth() - 1; x++) {
+                maze.getCell(x, y).setWalkable(true);
+            }
+        }
+        // Runner parked on the entrance, where loot never spawns
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        Session session = new Session(maze, runner, 1.0, 0.0, new GameRandom(7));
+        SessionEventBuffer.Cursor cursor = session.getEvents().newCursor();
+
+        Map<Integer, Double> spawnedAt = new HashMap<>();
+        int[] expired = new int[1];
+        SessionEventHandler handler = (type, x, y, value, t) -> {
+            int cell = y * maze.getWidth() + x;
+            if (type == SessionEventType.GOLD_SPAWN) {
+                spawnedAt.put(cell, t);
+            } else if (type == SessionEventType.GOLD_EXPIRE) {
+                assertEquals(GameConfig.LOOT_LIFETIME_SEC, t - spawnedAt.remove(cell), 1e-6);
+                expired[0]++;
+            }
+        };
+
+        for (int i = 0; i < 600; i++) {
+            session.update(0.1);
+            session.getEvents().drain(cursor, handler);
+            assertTrue(session.getLoot().size() <= GameConfig.MAX_LIVE_LOOT);
+        }
+
+        assertTrue(expired[0] > 0);
+        int goldCells = 0;
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                if (maze.getCell(x, y).hasGold()) goldCells++;
+            }
+        }
+        assertEquals(session.getLoot().size(), goldCells);
+    }
+
+    @Test
+    void onlyPlacedLootCanBePickedUp() {
+        Maze maze = new Maze(5, 5);
+        maze.getCell(2, 2).setWalkable(true);
+        Runner runner = new Runner(maze, 2, 2);
+        Session session = new Session(maze, runner);
+
+        // Set behind the registry's back: never drawn, so never collectible either
+        maze.getCell(2, 2).setGold(4);
+        session.update(0.1);
+        assertEquals(0, session.getPickupGold());
+        maze.getCell(2, 2).setGold(0);
+
+        assertTrue(session.placeLoot(2, 2, false, 4));
+        assertFalse(session.placeLoot(2, 2, true, 0));
+        assertTrue(session.getLoot().contains(2, 2));
+        session.update(0.1);
+
+        assertEquals(4, session.getPickupGold());
+        assertFalse(session.getLoot().contains(2, 2));
+        assertFalse(maze.getCell(2, 2).hasGold());
+        assertThrows(IllegalArgumentException.class, () -> session.placeLoot(1, 1, false, 0));
+    }
+}
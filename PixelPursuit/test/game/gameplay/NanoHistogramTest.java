@@ -0,0 +1,40 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class NanoHistogramTest {
+
+    @Test
+    void bucketsCoverValuesWithinRelativeError() {
+        long[] values = { 0, 1, 15, 16, 17, 100, 1_000, 123_456, 10_000_000_000L };
+        for (long v : values) {
+            int index = NanoHistogram.indexFor(v);
+            long lower = NanoHistogram.lowerBound(index);
+            assertTrue(lower <= v, "lower bound above value " + v);
+            assertTrue(v - lower <= Math.max(0, v / 16), "bucket too wide for " + v);
+        }
+    }
+
+    @Test
+    void percentilesAndStatsFollowRecordedValues() {
+        NanoHistogram h = new NanoHistogram();
+        for (int i = 1; i <= 100; i++) {
+            h.record(i * 1_000L);
+        }
+
+        assertEquals(100, h.getCount());
+        assertEquals(50_500.0, h.getMean(), 1e-9);
+        assertEquals(100_000L, h.getMax());
+
+        long p50 = h.getPercentile(0.50);
+        assertTrue(p50 >= 47_000 && p50 <= 50_000, "p50 was " + p50);
+        long p99 = h.getPercentile(0.99);
+        assertTrue(p99 >= 93_000 && p99 <= 99_000, "p99 was " + p99);
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0L, h.getPercentile(0.99));
+    }
+}
@@ -0,0 +1,110 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import game.world.Maze;
+
+public class SessionEventBufferTest {
+
+    @Test
+    void cursorsDrainIndependentlyInOrder() {
+        SessionEventBuffer buffer = new SessionEventBuffer(8);
+        SessionEventBuffer.Cursor hud = buffer.newCursor();
+        SessionEventBuffer.Cursor sound = buffer.newCursor();
+
+        buffer.publish(SessionEventType.GOLD_PICKUP, 1, 2, 5, 0.3);
+        buffer.publish(SessionEventType.CHASER_MOVE, 3, 4, 0, 0.6);
+
+        List<Integer> seen = new ArrayList<>();
+        assertEquals(2, buffer.drain(hud, (type, x, y, value, t) -> seen.add(x)));
+        assertEquals(List.of(1, 3), seen);
+        assertEquals(0, buffer.drain(hud, (type, x, y, value, t) -> fail("nothing new")));
+
+        List<SessionEventType> types = new ArrayList<>();
+        buffer.drain(sound, (type, x, y, value, t) -> types.add(type));
+        assertEquals(List.of(SessionEventType.GOLD_PICKUP, SessionEventType.CHASER_MOVE), types);
+    }
+
+    @Test
+    void laggingCursorSkipsOverwrittenEvents() {
+        SessionEventBuffer buffer = new SessionEventBuffer(4);
+        SessionEventBuffer.Cursor cursor = buffer.newCursor();
+
+        for (int i = 0; i < 10; i++) {
+            buffer.publish(SessionEventType.GOLD_SPAWN, i, 0, 1, i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        buffer.drain(cursor, (type, x, y, value, t) -> seen.add(x));
+
+        // Only capacity - 1 survive: the oldest slot is the one the producer writes next
+        assertEquals(List.of(7, 8, 9), seen);
+        assertEquals(7, cursor.getMissed());
+        assertEquals(10, cursor.getNext());
+    }
+
+    @Test
+    void consumerOnAnotherThreadNeverSeesATornEvent() throws Exception {
+        SessionEventBuffer buffer = new SessionEventBuffer(8);
+        SessionEventBuffer.Cursor cursor = buffer.newCursor();
+        int events = 2_000_000;
+
+        // Every field of event i is derived from i, so a mix of two events shows up
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < events; i++) {
+                buffer.publish(SessionEventType.CHASER_MOVE, i, ~i, i * 3, i);
+            }
+        });
+        producer.start();
+
+        long[] delivered = { 0 };
+        int[] last = { -1 };
+        List<String> torn = new ArrayList<>();
+        SessionEventHandler check = (type, x, y, value, t) -> {
+            if (y != ~x || value != x * 3 || t != x || x <= last[0]) {
+                torn.add(x + "/" + y + "/" + value + "/" + t);
+            }
+            last[0] = x;
+            delivered[0]++;
+        };
+        while (producer.isAlive()) {
+            buffer.drain(cursor, check);
+        }
+        producer.join();
+        buffer.drain(cursor, check);
+
+        assertEquals(List.of(), torn.subList(0, Math.min(5, torn.size())));
+        assertEquals(events, delivered[0] + cursor.getMissed());
+        assertEquals(events, cursor.getNext());
+    }
+
+    @Test
+    void sessionPublishesPickupAndCapture() {
+        Maze maze = new Maze(5, 5);
+        maze.getCell(2, 2).setWalkable(true);
+
+        Runner runner = new Runner(maze, 2, 2);
+        Session session = new Session(maze, runner);
+        session.placeLoot(2, 2, false, 3);
+        Chaser chaser = new Chaser(maze, 2, 2, null);
+        session.addChaser(chaser);
+        SessionEventBuffer.Cursor cursor = session.getEvents().newCursor();
+
+        session.update(0.1);
+
+        List<SessionEventType> types = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        session.getEvents().drain(cursor, (type, x, y, value, t) -> {
+            types.add(type);
+            values.add(value);
+        });
+
+        assertEquals(List.of(SessionEventType.GOLD_PICKUP, SessionEventType.CAPTURE), types);
+        assertEquals(List.of(3, chaser.getId()), values);
+    }
+}
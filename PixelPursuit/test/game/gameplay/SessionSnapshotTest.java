@@ -0,0 +1,68 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import game.settings.Difficulty;
+import game.simulation.HeadlessGame;
+
+public class SessionSnapshotTest {
+
+    // Mid-run game: roaming chasers, loot on the floor, timers part-way through
+    private HeadlessGame playedGame(long seed, int ticks) {
+        HeadlessGame game = HeadlessGame.create(seed, seed + 1, 3, 2.0, 0.3,
+                rng -> new SimpleChaserAI(6, rng),
+                new SearchRunnerBot(4, 0L, 120.0));
+        for (int i = 0; i < ticks && !game.isFinished(); i++) {
+            game.tick();
+        }
+        return game;
+    }
+
+    @Test
+    void restoredSessionEncodesIdentically() throws Exception {
+        Session original = playedGame(11L, 150).getSession();
+        byte[] saved = SessionSnapshot.toBytes(original, Difficulty.HARD);
+
+        SessionSnapshot restored = SessionSnapshot.fromBytes(saved);
+
+        assertEquals(Difficulty.HARD, restored.getDifficulty());
+        assertArrayEquals(saved, SessionSnapshot.toBytes(restored.getSession(), Difficulty.HARD));
+        assertEquals(original.getLoot().size(), restored.getSession().getLoot().size());
+    }
+
+    @Test
+    void restoredRunContinuesExactlyLikeTheOriginal() throws Exception {
+        HeadlessGame original = playedGame(23L, 120);
+        SessionSnapshot restored = SessionSnapshot.fromBytes(
+                SessionSnapshot.toBytes(original.getSession(), Difficulty.EASY));
+        HeadlessGame resumed = new HeadlessGame(restored.getSession(), new SearchRunnerBot(4, 0L, 120.0));
+
+        for (int i = 0; i < 400 && !original.isFinished(); i++) {
+            original.tick();
+            resumed.tick();
+            assertEquals(original.getSession().getRunner().getX(), resumed.getSession().getRunner().getX());
+            assertEquals(original.getSession().getRunner().getY(), resumed.getSession().getRunner().getY());
+        }
+        assertEquals(original.isFinished(), resumed.isFinished());
+        assertArrayEquals(SessionSnapshot.toBytes(original.getSession(), Difficulty.EASY),
+                          SessionSnapshot.toBytes(resumed.getSession(), Difficulty.EASY));
+    }
+
+    @Test
+    void saveAsyncWritesALoadableFile(@TempDir Path dir) throws Exception {
+        Session original = playedGame(5L, 60).getSession();
+        File file = dir.resolve("run.sav").toFile();
+
+        SessionSnapshot.saveAsync(original, Difficulty.EASY, file).get();
+        SessionSnapshot loaded = SessionSnapshot.load(file);
+
+        assertArrayEquals(SessionSnapshot.toBytes(original, Difficulty.EASY),
+                          SessionSnapshot.toBytes(loaded.getSession(), Difficulty.EASY));
+    }
+}
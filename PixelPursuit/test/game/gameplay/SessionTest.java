@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import game.settings.GameConfig;
 import game.world.Maze;
 
 public class SessionTest {
@@ -54,4 +55,44 @@ public class SessionTest {
         assertFalse(session.isRunning());
         assertFalse(runner.isAlive());
     }
+
+    @Test
+    void pickupsComeBeforeChaserMoves() {
+        Maze maze = new Maze(5, 5);
+        maze.getCell(2, 2).setWalkable(true);
+
+        Runner runner = new Runner(maze, 2, 2);
+        Session session = new Session(maze, runner);
+        session.placeLoot(2, 2, false, 3);
+
+        // The chaser's AI notes what the runner had picked up when it moved
+        int[] seen = { -1 };
+        session.addChaser(new Chaser(maze, 0, 0, (chaser, s) -> seen[0] = s.getPickupGold()));
+
+        session.update(GameConfig.CHASER_MOVE_INTERVAL_SEC);
+
+        assertEquals(3, seen[0]);
+        assertEquals(3, session.getPickupGold());
+    }
+
+    @Test
+    void onlyTheSessionsOwnChasersCatchTheRunner() {
+        Maze maze = new Maze(5, 5);
+        maze.getCell(2, 2).setWalkable(true);
+        Runner runner = new Runner(maze, 2, 2);
+        Session session = new Session(maze, runner);
+
+        // In the maze's store, but never added to this session
+        new Chaser(maze, 2, 2, null);
+        session.update(0.1);
+        assertTrue(session.isRunning());
+        assertTrue(runner.isAlive());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> session.addChaser(new Chaser(new Maze(5, 5), 2, 2, null)));
+
+        session.addChaser(new Chaser(maze, 2, 2, null));
+        session.update(0.1);
+        assertFalse(session.isRunning());
+    }
 }
@@ -0,0 +1,119 @@
+package game.gameplay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    void timersFireOnTheirTickInSchedulingOrder() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> log = new ArrayList<>();
+
+        wheel.schedule(5, () -> log.add("b@" + wheel.getCurrentTick()));
+        wheel.schedule(3, () -> log.add("a@" + wheel.getCurrentTick()));
+        wheel.schedule(5, () -> log.add("c@" + wheel.getCurrentTick()));
+
+        wheel.advanceTo(4);
+        assertEquals(List.of("a@3"), log);
+
+        wheel.advanceTo(10);
+        assertEquals(List.of("a@3", "b@5", "c@5"), log);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void farTimersCascadeDownToTheExactTick() {
+        TimerWheel wheel = new TimerWheel();
+        long[] delays = { 63, 64, 65, 4095, 4096, 4097, 300_000, 20_000_000 };
+        List<Long> firedAt = new ArrayList<>();
+        for (long d : delays) {
+            wheel.schedule(d, () -> firedAt.add(wheel.getCurrentTick()));
+        }
+
+        wheel.advanceTo(20_000_000);
+
+        List<Long> expected = new ArrayList<>();
+        for (long d : delays) {
+            expected.add(d);
+        }
+        assertEquals(expected, firedAt);
+    }
+
+    @Test
+    void repeatingTimerKeepsPeriodUntilCancelled() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> ticks = new ArrayList<>();
+        TimerWheel.Timer timer = wheel.scheduleRepeating(6, 6, () -> ticks.add(wheel.getCurrentTick()));
+
+        wheel.advanceTo(20);
+        assertEquals(List.of(6L, 12L, 18L), ticks);
+        assertTrue(timer.isPending());
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        wheel.advanceTo(100);
+        assertEquals(3, ticks.size());
+    }
+
+    @Test
+    void taskCanCancelAnotherTimerDueOnTheSameTick() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> log = new ArrayList<>();
+        TimerWheel.Timer[] second = new TimerWheel.Timer[1];
+
+        wheel.schedule(2, () -> {
+            log.add("first");
+            second[0].cancel();
+        });
+        second[0] = wheel.schedule(2, () -> log.add("second"));
+
+        assertEquals(1, wheel.advanceTo(5));
+        assertEquals(List.of("first"), log);
+    }
+
+    @Test
+    void idleTimerIsReusedAfterFiringAndCancelling() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> ticks = new ArrayList<>();
+        TimerWheel.Timer timer = wheel.newIdleTimer(() -> ticks.add(wheel.getCurrentTick()));
+
+        assertFalse(timer.isPending());
+        assertEquals(0, wheel.size());
+
+        wheel.reschedule(timer, 3);
+        assertThrows(IllegalStateException.class, () -> wheel.reschedule(timer, 1));
+        wheel.advanceTo(10);
+
+        wheel.reschedule(timer, 5);
+        assertTrue(timer.cancel());
+        wheel.reschedule(timer, 2);
+        wheel.advanceTo(20);
+
+        assertEquals(List.of(3L, 12L), ticks);
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimerWheel().reschedule(timer, 1));
+    }
+
+    @Test
+    void timerDueThisTickCannotBeRescheduledByAnEarlierTask() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> log = new ArrayList<>();
+        TimerWheel.Timer second = wheel.newIdleTimer(() -> log.add("second"));
+
+        wheel.schedule(2, () -> {
+            log.add("first");
+            assertFalse(second.isIdle());
+            assertThrows(IllegalStateException.class, () -> wheel.reschedule(second, 5));
+        });
+        wheel.reschedule(second, 2);
+
+        assertEquals(2, wheel.advanceTo(2));
+        assertEquals(List.of("first", "second"), log);
+        assertTrue(second.isIdle());
+    }
+}
@@ -0,0 +1,118 @@
+package game.persistance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import game.account.Account;
+import game.account.AccountManager;
+import game.account.MemoryAccountStore;
+import game.persistence.Leaderboard;
+import game.persistence.LeaderboardEntry;
+import game.persistence.LeaderboardIndex;
+
+public class LeaderboardIndexTest {
+
+    private static List<String> names(List<LeaderboardEntry> entries) {
+        List<String> names = new ArrayList<>();
+        for (LeaderboardEntry e : entries) {
+            names.add(e.getUsername() + "=" + e.getBestTimeSeconds());
+        }
+        return names;
+    }
+
+    @Test
+    void topMatchesAFullRebuildAfterRandomUpdates() {
+        Random rng = new Random(11);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Account acc = new Account("p" + i, "pw");
+            acc.setBestTime(rng.nextInt(4) == 0 ? 0.0 : rng.nextInt(300));
+            accounts.add(acc);
+        }
+        LeaderboardIndex index = LeaderboardIndex.fromAccounts(accounts);
+
+        for (int i = 0; i < 2000; i++) {
+            Account acc = accounts.get(rng.nextInt(accounts.size()));
+            acc.setBestTime(rng.nextInt(10) == 0 ? 0.0 : rng.nextInt(300));
+            index.update(acc.getUsername(), acc.getBestTime());
+        }
+
+        // Same order as a rebuild, except that the index also breaks ties by username
+        List<LeaderboardEntry> rebuilt = new Leaderboard().buildFromAccounts(accounts, Integer.MAX_VALUE);
+        rebuilt.sort((a, b) -> a.compareTo(b) != 0 ? a.compareTo(b) : a.getUsername().compareTo(b.getUsername()));
+        assertEquals(names(rebuilt.subList(0, 25)), names(index.top(25)));
+        assertEquals(rebuilt.size(), index.size());
+    }
+
+    @Test
+    void equalTimesAreBothKeptAndZeroRemoves() {
+        LeaderboardIndex index = new LeaderboardIndex();
+        index.update("bob", 30.0);
+        index.update("amy", 30.0);
+        index.update("cat", 10.0);
+
+        assertEquals(List.of("amy=30.0", "bob=30.0", "cat=10.0"), names(index.top(10)));
+        assertEquals(2, index.top(2).size());
+
+        index.update("amy", 5.0);
+        index.remove("bob");
+        assertEquals(List.of("cat=10.0", "amy=5.0"), names(index.top(10)));
+        assertNull(index.get("bob"));
+    }
+
+    @Test
+    void attachedIndexFollowsSavedAccounts() {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account early = manager.createAccount("early", "pw");
+        early.setBestTime(40.0);
+        manager.updateAccount(early);
+
+        LeaderboardIndex index = LeaderboardIndex.attach(manager);
+        assertEquals(List.of("early=40.0"), names(index.top(10)));
+
+        Account late = manager.createAccount("late", "pw");
+        late.setBestTime(90.0);
+        manager.updateAccount(late);
+        manager.modifyAccount("early", acc -> {
+            acc.setBestTime(120.0);
+            return null;
+        });
+
+        assertEquals(List.of("early=120.0", "late=90.0"), names(index.top(10)));
+    }
+
+    @Test
+    void concurrentUpdatesLeaveOneEntryPerAccount() throws Exception {
+        LeaderboardIndex index = new LeaderboardIndex();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long seed = t;
+            tasks.add(pool.submit(() -> {
+                Random rng = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    index.update("p" + rng.nextInt(100), 1 + rng.nextInt(50));
+                }
+            }));
+        }
+        for (Future<?> f : tasks) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<LeaderboardEntry> all = index.top(Integer.MAX_VALUE);
+        assertEquals(index.size(), all.size());
+        for (LeaderboardEntry e : all) {
+            assertSame(index.get(e.getUsername()), e);
+        }
+    }
+}
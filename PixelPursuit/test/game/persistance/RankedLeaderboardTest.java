@@ -0,0 +1,134 @@
+package game.persistance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import game.account.Account;
+import game.account.AccountManager;
+import game.account.MemoryAccountStore;
+import game.persistence.DifficultyLeaderboards;
+import game.persistence.RankedEntry;
+import game.persistence.RankedLeaderboard;
+import game.settings.Difficulty;
+
+public class RankedLeaderboardTest {
+
+    // sorted - Brute-force board: longest first, ties by username
+    private static List<String> sorted(Map<String, Double> times) {
+        List<String> names = new ArrayList<>(times.keySet());
+        names.sort((a, b) -> {
+            int c = Double.compare(times.get(b), times.get(a));
+            return (c != 0) ? c : a.compareTo(b);
+        });
+        return names;
+    }
+
+    @Test
+    void ranksAndNeighboursMatchABruteForceBoard() {
+        Random rng = new Random(5);
+        RankedLeaderboard board = new RankedLeaderboard();
+        Map<String, Double> times = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            String name = "p" + rng.nextInt(400);
+            double time = (rng.nextInt(8) == 0) ? 0.0 : rng.nextInt(200);
+            board.update(name, time);
+            if (time > 0) {
+                times.put(name, time);
+            } else {
+                times.remove(name);
+            }
+        }
+
+        List<String> expected = sorted(times);
+        assertEquals(expected.size(), board.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, board.rankOf(expected.get(i)), expected.get(i));
+        }
+
+        String middle = expected.get(expected.size() / 2);
+        List<RankedEntry> around = board.around(middle, 3);
+        assertEquals(7, around.size());
+        for (RankedEntry e : around) {
+            assertEquals(expected.get(e.getRank() - 1), e.getUsername());
+        }
+
+        assertEquals(expected.subList(0, 10), names(board.top(10)));
+        assertEquals(0, board.rankOf("nobody"));
+        assertTrue(board.around("nobody", 3).isEmpty());
+    }
+
+    @Test
+    void aroundIsClippedAtBothEnds() {
+        RankedLeaderboard board = new RankedLeaderboard();
+        for (int i = 1; i <= 5; i++) {
+            board.update("p" + i, i * 10.0);
+        }
+        assertEquals(List.of("p5", "p4", "p3"), names(board.around("p5", 2)));
+        assertEquals(List.of("p2", "p1"), names(board.around("p1", 1)));
+        assertEquals(List.of("p3"), names(board.around("p3", 0)));
+    }
+
+    @Test
+    void percentileCountsStrictlyShorterTimes() {
+        RankedLeaderboard board = new RankedLeaderboard();
+        assertEquals(0.0, board.percentileOf(50.0));
+        board.update("a", 10.0);
+        board.update("b", 20.0);
+        board.update("c", 20.0);
+        board.update("d", 40.0);
+
+        assertEquals(0.0, board.percentileOf(10.0), 1e-9);
+        assertEquals(25.0, board.percentileOf(20.0), 1e-9);
+        assertEquals(75.0, board.percentileOf(30.0), 1e-9);
+        assertEquals(100.0, board.percentileOf(99.0), 1e-9);
+    }
+
+    @Test
+    void boardsFollowPerDifficultyBestTimes() {
+        AccountManager manager = new AccountManager(new MemoryAccountStore());
+        Account old = manager.createAccount("old", "pw");
+        old.setBestTime(Difficulty.EASY, 50.0);
+        manager.updateAccount(old);
+
+        DifficultyLeaderboards boards = DifficultyLeaderboards.attach(manager);
+        Account fresh = manager.createAccount("fresh", "pw");
+        fresh.setBestTime(Difficulty.EASY, 80.0);
+        fresh.setBestTime(Difficulty.HARD, 30.0);
+        manager.updateAccount(fresh);
+
+        assertEquals(2, boards.get(Difficulty.EASY).rankOf("old"));
+        assertEquals(1, boards.get(Difficulty.EASY).rankOf("fresh"));
+        assertEquals(1, boards.get(Difficulty.HARD).size());
+        assertEquals(0, boards.get(Difficulty.HARD).rankOf("old"));
+    }
+
+    @Test
+    void perDifficultyTimesSurviveTheAccountFileAndOldLinesStillLoad() {
+        Account acc = new Account("runner", "pw");
+        acc.setBestTime(Difficulty.EASY, 12.5);
+        acc.setBestTime(Difficulty.HARD, 99.0);
+        Account parsed = Account.fromFileLine(acc.toFileLine());
+        assertEquals(12.5, parsed.getBestTime(Difficulty.EASY));
+        assertEquals(99.0, parsed.getBestTime(Difficulty.HARD));
+
+        Account legacy = Account.fromFileLine("old;pw;0;0;0;0;42.0;14;0;-1;0");
+        assertEquals(42.0, legacy.getBestTime());
+        assertEquals(0.0, legacy.getBestTime(Difficulty.EASY));
+    }
+
+    private static List<String> names(List<RankedEntry> entries) {
+        List<String> names = new ArrayList<>();
+        for (RankedEntry e : entries) {
+            names.add(e.getUsername());
+        }
+        return names;
+    }
+}
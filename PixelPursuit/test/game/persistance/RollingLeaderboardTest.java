@@ -0,0 +1,157 @@
+package game.persistance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import game.persistence.RankedEntry;
+import game.persistence.RollingLeaderboard;
+import game.persistence.RollingLeaderboards;
+
+public class RollingLeaderboardTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    @TempDir
+    File dir;
+
+    @Test
+    void expiredBucketsFallBackToTheNextBestRun() {
+        RollingLeaderboard board = new RollingLeaderboard(HOUR, 24);
+        board.record("ann", 300.0, 0);
+        board.record("ann", 120.0, 5 * HOUR);
+        board.record("bob", 200.0, 10 * HOUR);
+
+        assertEquals(1, board.rankOf("ann"));
+        assertEquals(300.0, board.bestTimeOf("ann"));
+
+        // Hour 0 leaves the window: ann falls back to her later, shorter run
+        board.advanceTo(24 * HOUR);
+        assertEquals(120.0, board.bestTimeOf("ann"));
+        assertEquals(1, board.rankOf("bob"));
+        assertEquals(2, board.rankOf("ann"));
+
+        // A run older than the window is ignored
+        assertFalse(board.record("cat", 999.0, 0));
+
+        // A jump past the whole window empties it
+        board.advanceTo(100 * DAY);
+        assertEquals(0, board.size());
+        assertEquals(0, board.rankOf("bob"));
+    }
+
+    @Test
+    void windowBestsMatchABruteForceScanOfTheHistory() {
+        Random rng = new Random(11);
+        RollingLeaderboard board = new RollingLeaderboard(HOUR, 24);
+        List<long[]> history = new ArrayList<>(); // {player, end millis, time bits}
+
+        long now = 0;
+        for (int i = 0; i < 20000; i++) {
+            // Mostly forward, sometimes a little late, sometimes a long gap
+            now += (rng.nextInt(50) == 0) ? rng.nextInt(30) * HOUR : rng.nextInt(20 * 60_000);
+            long at = now - rng.nextInt(3) * HOUR;
+            int player = rng.nextInt(60);
+            double time = 1 + rng.nextInt(600);
+            board.record("p" + player, time, at);
+            history.add(new long[] { player, at, Double.doubleToLongBits(time) });
+
+            if (i % 500 == 0) {
+                board.advanceTo(now);
+                long firstLive = (Math.floorDiv(now, HOUR) - 23) * HOUR;
+                Map<String, Double> expected = new HashMap<>();
+                for (long[] run : history) {
+                    if (run[1] >= firstLive) {
+                        expected.merge("p" + run[0], Double.longBitsToDouble(run[2]), Math::max);
+                    }
+                }
+                assertEquals(expected.size(), board.size(), "players at run " + i);
+                for (RankedEntry e : board.top(board.size())) {
+                    assertEquals(expected.get(e.getUsername()), e.getBestTimeSeconds(), e.getUsername());
+                }
+            }
+        }
+    }
+
+    @Test
+    void dailyAndWeeklyBoardsFollowTheClock() {
+        long[] now = { 10 * DAY };
+        RollingLeaderboards boards = new RollingLeaderboards(() -> now[0]);
+        boards.record("ann", 400.0);
+        now[0] += 2 * DAY;
+        boards.record("bob", 100.0);
+
+        RollingLeaderboard daily = boards.get(RollingLeaderboards.Period.DAILY);
+        RollingLeaderboard weekly = boards.get(RollingLeaderboards.Period.WEEKLY);
+        assertEquals(0, daily.rankOf("ann"));
+        assertEquals(1, daily.rankOf("bob"));
+        assertEquals(1, weekly.rankOf("ann"));
+        assertEquals(2, weekly.rankOf("bob"));
+
+        now[0] += 8 * DAY;
+        assertEquals(0, boards.get(RollingLeaderboards.Period.WEEKLY).size());
+    }
+
+    @Test
+    void runLogIsReplayedForTheLastWeekAndTrimmed() throws Exception {
+        String path = new File(dir, "runs.log").getPath();
+        long[] now = { 0 };
+        try (RollingLeaderboards boards = RollingLeaderboards.open(path, () -> now[0])) {
+            for (int i = 0; i < 2000; i++) {
+                boards.record("old" + (i % 10), 50.0 + i);
+            }
+            now[0] = 30 * DAY;
+            boards.record("ann", 250.0);
+        }
+        Files.write(new File(path).toPath(), "torn line\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        now[0] += HOUR;
+        try (RollingLeaderboards boards = RollingLeaderboards.open(path, () -> now[0])) {
+            RollingLeaderboard weekly = boards.get(RollingLeaderboards.Period.WEEKLY);
+            assertEquals(1, weekly.size());
+            assertEquals(250.0, weekly.bestTimeOf("ann"));
+            assertEquals(1, boards.get(RollingLeaderboards.Period.DAILY).rankOf("ann"));
+        }
+        // Mostly stale, so the log was rewritten with the live run only
+        assertEquals(1, Files.readAllLines(new File(path).toPath()).size());
+    }
+
+    @Test
+    void runsLoggedAfterATornTailSurviveReopening() throws Exception {
+        String path = new File(dir, "runs.log").getPath();
+        long[] now = { DAY };
+        try (RollingLeaderboards boards = RollingLeaderboards.open(path, () -> now[0])) {
+            boards.record("ann", 100.0);
+        }
+        // A crash mid-write leaves half a line with no newline
+        Files.write(new File(path).toPath(), (now[0] + "\tbo").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        try (RollingLeaderboards boards = RollingLeaderboards.open(path, () -> now[0])) {
+            assertThrows(IllegalArgumentException.class, () -> boards.record("eve\tx", 1.0));
+            boards.record("bob", 200.0);
+            boards.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        try (RollingLeaderboards boards = RollingLeaderboards.open(path, () -> now[0])) {
+            RollingLeaderboard daily = boards.get(RollingLeaderboards.Period.DAILY);
+            assertEquals(2, daily.size());
+            assertEquals(100.0, daily.bestTimeOf("ann"));
+            assertEquals(200.0, daily.bestTimeOf("bob"));
+        }
+    }
+}
@@ -34,7 +34,7 @@ public class ScoreSystemTest {
 
         // Add pickup gold on the runner's current cell
         if (pickupGold > 0) {
-            maze.getCell(runner.getX(), runner.getY()).setGold(pickupGold);
+            session.placeLoot(runner.getX(), runner.getY(), false, pickupGold);
             // dt = 0 so don't change timeGold again
             session.update(0.0);
         }
@@ -0,0 +1,30 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DifficultyCalibrationTest {
+
+    @Test
+    void resultsDoNotDependOnThreadCount() throws InterruptedException {
+        List<DifficultyCalibration.Params> sweep = DifficultyCalibration.defaultSweep().subList(0, 2);
+
+        List<DifficultyCalibration.Stats> single = new DifficultyCalibration(1, 6, 99L).run(sweep);
+        List<DifficultyCalibration.Stats> multi  = new DifficultyCalibration(3, 6, 99L).run(sweep);
+
+        assertEquals(single.size(), multi.size());
+        for (int i = 0; i < single.size(); i++) {
+            DifficultyCalibration.Stats a = single.get(i);
+            DifficultyCalibration.Stats b = multi.get(i);
+
+            assertEquals(6, a.getGames());
+            assertEquals(a.getEscapeRate(), b.getEscapeRate());
+            assertEquals(a.getCaptureRate(), b.getCaptureRate());
+            assertEquals(a.getMeanSurvivalSeconds(), b.getMeanSurvivalSeconds());
+            assertEquals(a.getMeanGold(), b.getMeanGold());
+        }
+    }
+}
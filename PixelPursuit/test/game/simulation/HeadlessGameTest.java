@@ -0,0 +1,62 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import game.gameplay.Chaser;
+import game.gameplay.Runner;
+import game.gameplay.SearchRunnerBot;
+import game.gameplay.Session;
+import game.world.Maze;
+
+public class HeadlessGameTest {
+
+    // Open maze: border walls only, entrance/exit on the middle row
+    private Maze openMaze(int w, int h) {
+        Maze maze = new Maze(w, h);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                boolean border = x == 0 || y == 0 || x == w - 1 || y == h - 1;
+                maze.getCell(x, y).setWalkable(!border);
+                maze.getCell(x, y).setGold(0);
+                maze.getCell(x, y).setDiamond(false);
+            }
+        }
+        maze.getEntranceCell().setWalkable(true);
+        maze.getExitCell().setWalkable(true);
+        return maze;
+    }
+
+    @Test
+    void searchBotEscapesEmptyMaze() {
+        Maze maze = openMaze(12, 7);
+        Runner runner = new Runner(maze, maze.getEntranceX(), maze.getEntranceY());
+        Session session = new Session(maze, runner);
+
+        // budget 0 = fixed depth, no looting window
+        HeadlessGame game = new HeadlessGame(session, new SearchRunnerBot(6, 0L, 0.0));
+        game.run(100);
+
+        assertTrue(game.isEscaped());
+        assertFalse(game.isCaught());
+        assertEquals(maze.getWidth() - 1, game.getTicks());
+    }
+
+    @Test
+    void searchBotDoesNotWalkIntoAChaser() {
+        Maze maze = openMaze(12, 7);
+        int midY = maze.getEntranceY();
+        Runner runner = new Runner(maze, 3, midY);
+        Session session = new Session(maze, runner);
+
+        // Stationary chaser two cells ahead on the straight line to the exit
+        session.addChaser(new Chaser(maze, 5, midY, null));
+
+        HeadlessGame game = new HeadlessGame(session, new SearchRunnerBot(6, 0L, 0.0));
+        game.tick();
+
+        assertFalse(game.isCaught());
+        assertNotEquals(4, runner.getX(), "bot should not step next to the chaser");
+    }
+}
@@ -0,0 +1,46 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import game.gameplay.NanoHistogram;
+import game.ui.components.panels.GamePanel;
+
+public class JitWarmupTest {
+
+    @Test
+    void warmupPlaysTheRequestedTicksAndPaints() throws InterruptedException {
+        int timersBefore = GamePanel.getRunningTimerCount();
+
+        JitWarmup.Result result = new JitWarmup(300).run();
+
+        assertEquals(300, result.getTicks());
+        assertTrue(result.getFrames() > 0);
+        assertTrue(result.getGames() >= 1);
+        assertEquals(timersBefore, GamePanel.getRunningTimerCount(), "warm-up panels must not keep timers running");
+    }
+
+    @Test
+    void backgroundWarmupFinishesOnItsOwnThread() throws InterruptedException {
+        Thread thread = JitWarmup.start(100, null);
+
+        assertTrue(thread.isDaemon());
+        thread.join(30_000);
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    void warmupIsOffUnlessRequested() {
+        assertNull(System.getProperty(JitWarmup.ENABLE_PROPERTY));
+        assertNull(JitWarmup.startIfRequested());
+    }
+
+    @Test
+    void probeTimesTheRequestedFrames() throws InterruptedException {
+        NanoHistogram frames = JitWarmup.probeFirstGame(50);
+
+        assertEquals(50, frames.getCount());
+        assertTrue(frames.getMax() > 0);
+    }
+}
@@ -0,0 +1,61 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import game.gameplay.SearchRunnerBot;
+import game.ui.components.panels.GamePanel;
+
+public class SoakHarnessTest {
+
+    private static final long MB = 1024L * 1024;
+
+    private static List<SoakHarness.Sample> samples(long heapStepMb, long cellStep) {
+        List<SoakHarness.Sample> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(new SoakHarness.Sample(i * 1000L, i * 10L, (20 + i * heapStepMb) * MB, 12, 0,
+                    Map.of("game.world.Cell", 648 + i * cellStep)));
+        }
+        return list;
+    }
+
+    @Test
+    void flatSamplesAreNotALeak() {
+        SoakHarness.Report report = new SoakHarness.Report(samples(0, 0));
+        assertFalse(report.isLeaking(), report.getProblems().toString());
+    }
+
+    @Test
+    void steadyGrowthIsReportedPerResource() {
+        SoakHarness.Report report = new SoakHarness.Report(samples(4, 5000));
+
+        assertTrue(report.isLeaking());
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.startsWith("heap")));
+        assertTrue(report.getProblems().stream().anyMatch(p -> p.startsWith("game.world.Cell")));
+    }
+
+    @Test
+    void detachedGamePanelStopsItsTimer() {
+        int before = GamePanel.getRunningTimerCount();
+        GamePanel panel = new GamePanel(HeadlessGame.create(1, new SearchRunnerBot()).getSession(), null);
+        assertEquals(before + 1, GamePanel.getRunningTimerCount());
+
+        panel.removeNotify();
+        panel.stopMovement();
+        assertEquals(before, GamePanel.getRunningTimerCount());
+    }
+
+    @Test
+    void shortSoakOfRunsAndPanelsDoesNotLeak() throws InterruptedException {
+        SoakHarness.Report report = new SoakHarness(2, 7L, false).run(4000, 500, null);
+
+        assertTrue(report.getSamples().size() >= 4);
+        assertFalse(report.isLeaking(), report.getProblems().toString());
+        assertTrue(report.getSamples().get(report.getSamples().size() - 1).getCycles() > 0);
+    }
+}
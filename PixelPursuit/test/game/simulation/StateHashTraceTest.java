@@ -0,0 +1,100 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import game.gameplay.SearchRunnerBot;
+import game.gameplay.SessionSnapshot;
+import game.gameplay.SimpleChaserAI;
+import game.settings.Difficulty;
+import game.world.GameRandom;
+
+public class StateHashTraceTest {
+
+    private HeadlessGame seededGame() {
+        HeadlessGame game = HeadlessGame.create(77L, 78L, 3, 2.0, 0.3,
+                rng -> new SimpleChaserAI(6, rng),
+                new SearchRunnerBot(4, 0L, 120.0));
+        game.setTrace(new StateHashTrace());
+        return game;
+    }
+
+    @Test
+    void identicalRunsProduceIdenticalTraces() {
+        HeadlessGame a = seededGame();
+        HeadlessGame b = seededGame();
+        a.run(300);
+        b.run(300);
+
+        assertTrue(a.getTrace().size() > 0);
+        assertEquals(-1, StateHashTrace.firstDivergence(a.getTrace(), b.getTrace()));
+    }
+
+    @Test
+    void divergenceIsPinnedToTheTickItHappened() {
+        HeadlessGame a = seededGame();
+        HeadlessGame b = seededGame();
+
+        for (int tick = 1; tick <= 80; tick++) {
+            if (tick == 40) {
+                // Gameplay-inert change (gold inside a border wall) that still alters state
+                b.getSession().getMaze().getCell(0, 0).setGold(1);
+            }
+            a.tick();
+            b.tick();
+        }
+
+        assertEquals(39, StateHashTrace.firstDivergence(a.getTrace(), b.getTrace()));
+    }
+
+    @Test
+    void chaserAiMemoryIsPartOfTheHash() {
+        List<GameRandom> aiRngs = new ArrayList<>();
+        HeadlessGame a = seededGame();
+        HeadlessGame b = HeadlessGame.create(77L, 78L, 3, 2.0, 0.3,
+                rng -> {
+                    aiRngs.add(rng);
+                    return new SimpleChaserAI(6, rng);
+                },
+                new SearchRunnerBot(4, 0L, 120.0));
+        a.run(50);
+        b.run(50);
+        assertEquals(a.getSession().getStateHash(), b.getSession().getStateHash());
+
+        // Only a chaser's private RNG moves on; nothing on the board changes yet
+        aiRngs.get(0).nextLong();
+        assertNotEquals(a.getSession().getStateHash(), b.getSession().getStateHash());
+    }
+
+    @Test
+    void restoredSnapshotHashesLikeTheOriginal() throws Exception {
+        HeadlessGame game = seededGame();
+        game.run(150);
+
+        SessionSnapshot restored = SessionSnapshot.fromBytes(
+                SessionSnapshot.toBytes(game.getSession(), Difficulty.EASY));
+
+        assertEquals(game.getSession().getStateHash(), restored.getSession().getStateHash());
+    }
+
+    @Test
+    void traceSurvivesSerialization() throws Exception {
+        HeadlessGame game = seededGame();
+        game.run(50);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        game.getTrace().write(new DataOutputStream(bytes));
+        StateHashTrace copy = StateHashTrace.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(-1, StateHashTrace.firstDivergence(game.getTrace(), copy));
+    }
+}
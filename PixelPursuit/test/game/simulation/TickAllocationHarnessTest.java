@@ -0,0 +1,20 @@
+package game.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TickAllocationHarnessTest {
+
+    @Test
+    void steadyStateTickStaysWithinAllocationBudget() {
+        assumeTrue(TickAllocationHarness.isSupported(), "no per-thread allocation counter");
+
+        TickAllocationHarness.Result result = new TickAllocationHarness(3, 42L).measure(5000);
+
+        assertTrue(result.getTicks() >= 5000);
+        assertTrue(result.getBytesPerTick() <= TickAllocationHarness.DEFAULT_MAX_BYTES_PER_TICK,
+                "allocated " + result.getBytesPerTick() + " bytes/tick over " + result.getGames() + " games");
+    }
+}
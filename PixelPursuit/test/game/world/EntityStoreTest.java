@@ -0,0 +1,105 @@
+package game.world;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import game.gameplay.Chaser;
+import game.gameplay.DirectChaserAI;
+import game.gameplay.Runner;
+
+public class EntityStoreTest {
+
+    @Test
+    void columnsGrowAndKeepRows() {
+        EntityStore store = new EntityStore(128, 128);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, store.add(EntityStore.KIND_CHASER, i, i + 1, EntityStore.AI_SIMPLE));
+        }
+        assertEquals(100, store.size());
+        assertEquals(57, store.getX(57));
+        assertEquals(58, store.getY(57));
+        assertEquals(100, store.countActive(EntityStore.KIND_CHASER));
+
+        store.setActive(3, false);
+        assertFalse(store.isActive(3));
+        assertEquals(99, store.countActive(EntityStore.KIND_CHASER));
+        assertEquals(42, store.firstAt(EntityStore.KIND_CHASER, 42, 43));
+        assertEquals(-1, store.firstAt(EntityStore.KIND_RUNNER, 42, 43));
+    }
+
+    @Test
+    void handlesReadAndWriteThroughTheMazeStore() {
+        Maze maze = new Maze(5, 5);
+        maze.getCell(1, 1).setWalkable(true);
+        maze.getCell(2, 1).setWalkable(true);
+
+        Runner runner = new Runner(maze, 1, 1);
+        Chaser chaser = new Chaser(maze, 2, 1, new DirectChaserAI());
+        EntityStore store = maze.getEntities();
+
+        assertEquals(EntityStore.KIND_RUNNER, store.getKind(runner.getId()));
+        assertEquals(EntityStore.AI_DIRECT, store.getAiKind(chaser.getId()));
+
+        chaser.moveBy(-1, 0);
+        assertEquals(1, store.getX(chaser.getId()));
+
+        runner.kill();
+        assertFalse(store.isActive(runner.getId()));
+        assertTrue(chaser.isActive());
+    }
+
+    @Test
+    void occupancyHandlesSharedCellsAndMoves() {
+        EntityStore store = new EntityStore(10, 10);
+        int a = store.add(EntityStore.KIND_CHASER, 4, 4, EntityStore.AI_NONE);
+        int b = store.add(EntityStore.KIND_CHASER, 4, 4, EntityStore.AI_NONE);
+        int runner = store.add(EntityStore.KIND_RUNNER, 4, 4, EntityStore.AI_NONE);
+
+        assertTrue(store.anyAt(EntityStore.KIND_CHASER, 4, 4));
+        assertEquals(runner, store.firstAt(EntityStore.KIND_RUNNER, 4, 4));
+
+        store.setPosition(a, 5, 4);
+        assertEquals(b, store.firstAt(EntityStore.KIND_CHASER, 4, 4));
+        store.setPosition(b, 9, 9);
+        assertFalse(store.anyAt(EntityStore.KIND_CHASER, 4, 4));
+        assertEquals(a, store.firstAt(EntityStore.KIND_CHASER, 5, 4));
+    }
+
+    @Test
+    void radiusAndNearestQueriesMatchBruteForce() {
+        EntityStore store = new EntityStore(30, 20);
+        GameRandom rng = new GameRandom(5);
+        for (int i = 0; i < 40; i++) {
+            store.add(EntityStore.KIND_CHASER, rng.nextInt(30), rng.nextInt(20), EntityStore.AI_NONE);
+        }
+
+        int[] out = new int[64];
+        for (int trial = 0; trial < 200; trial++) {
+            int x = rng.nextInt(30);
+            int y = rng.nextInt(20);
+            int r = rng.nextInt(12);
+
+            int expectedCount = 0;
+            int expectedNearest = -1;
+            int bestDist = Integer.MAX_VALUE;
+            for (int id = 0; id < store.size(); id++) {
+                int d = Math.abs(store.getX(id) - x) + Math.abs(store.getY(id) - y);
+                if (d <= r) expectedCount++;
+                if (d < bestDist) {
+                    bestDist = d;
+                    expectedNearest = id;
+                }
+            }
+
+            int count = store.collectWithin(EntityStore.KIND_CHASER, x, y, r, out);
+            assertEquals(expectedCount, count);
+            for (int i = 0; i < count; i++) {
+                int id = out[i];
+                assertTrue(Math.abs(store.getX(id) - x) + Math.abs(store.getY(id) - y) <= r);
+            }
+            assertEquals(expectedNearest, store.nearest(EntityStore.KIND_CHASER, x, y));
+        }
+        assertEquals(-1, store.nearest(EntityStore.KIND_RUNNER, 0, 0));
+    }
+}